@@ -0,0 +1,29 @@
+package com.example.backend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Opt-in binary encodings for row payloads.
+ * Clients send Accept (and Content-Type on submit) application/x-jackson-smile or application/cbor;
+ * JSON stays the default because these converters are ordered after the JSON one.
+ * Both mappers are built from Boot's customized builder so dates, modules and features match the JSON output.
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.backend.config;
+
+import com.example.backend.service.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager whose evictions and clears also go to the other nodes through the cache invalidation bus.
+ * Local evictions stay immediate; inside a transaction they are repeated once it commits (a read in between
+ * may have cached the old value again) and the broadcast is sent then, otherwise it is sent right away.
+ * Evictions received from other nodes are applied to the delegate caches only,
+ * so they are not broadcast again. Keys other than strings are broadcast as a clear of the whole cache.
+ */
+@Slf4j
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationBus bus;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public BroadcastingCacheManager(CacheManager delegate, CacheInvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+        bus.subscribe(this::applyRemote);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target != null ? caches.computeIfAbsent(name, n -> new BroadcastingCache(target)) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private void applyRemote(String cacheName, String key) {
+        Cache target = delegate.getCache(cacheName);
+        if (target != null) {
+            evictLocally(target, key);
+        }
+    }
+
+    private static void evictLocally(Cache target, Object key) {
+        if (key == null) {
+            target.clear();
+        } else {
+            target.evict(key);
+        }
+    }
+
+    /**
+     * @param key The evicted key, or null when the whole cache was cleared
+     */
+    private void broadcast(Cache target, Object key) {
+        String cacheKey = key instanceof String ? (String) key : null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Other nodes must not reload the old value before this transaction commits, and a read on this
+            // node since the local eviction still saw the old data and may have cached it again
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(target, key);
+                    send(target.getName(), cacheKey);
+                }
+            });
+        } else {
+            send(target.getName(), cacheKey);
+        }
+    }
+
+    private void send(String cacheName, String key) {
+        try {
+            bus.publish(cacheName, key);
+        } catch (RuntimeException e) {
+            // The local eviction already happened; other nodes stay stale until their entries expire
+            log.error("Failed to broadcast eviction of {} / {}", cacheName, key, e);
+        }
+    }
+
+    private class BroadcastingCache implements Cache {
+
+        private final Cache target;
+
+        BroadcastingCache(Cache target) {
+            this.target = target;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return target.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return target.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            target.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return target.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+            broadcast(target, key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean present = target.evictIfPresent(key);
+            broadcast(target, key);
+            return present;
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            broadcast(target, null);
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean present = target.invalidate();
+            broadcast(target, null);
+            return present;
+        }
+    }
+}
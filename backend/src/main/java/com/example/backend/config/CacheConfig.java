@@ -1,10 +1,31 @@
 package com.example.backend.config;
 
+import com.example.backend.service.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Configuration for caching to improve application performance.
@@ -14,29 +35,123 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class CacheConfig {
 
-    /**
-     * Cache manager configuration using ConcurrentMapCacheManager for simplicity.
-     * In production, consider using Redis or Hazelcast for distributed caching.
-     */
-    @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
+    private static final List<String> CACHE_NAMES = List.of(
             "processDefinitions",
-            "userGroups", 
+            "userGroups",
             "deployments",
             "processInstances",
+            "processVariables",
             "taskDefinitions",
             "modelInfo",
             "engineInfo",
             "offers",
             // Engine info controller caches
             "engineProperties",
-            "tableCounts",
-            "jobStatistics",
             // Model controller caches
             "models",
             "model",
             "modelStatistics"
-        );
+    );
+
+    /**
+     * Weight of a cached value for maximumWeight specs: element count for collections and maps,
+     * size in KB for strings and byte arrays (diagrams, BPMN XML), 1 for anything else
+     */
+    private static final Weigher<Object, Object> VALUE_WEIGHER = (key, value) -> {
+        if (value instanceof Collection) {
+            return Math.max(1, ((Collection<?>) value).size());
+        }
+        if (value instanceof Map) {
+            return Math.max(1, ((Map<?, ?>) value).size());
+        }
+        if (value instanceof byte[]) {
+            return Math.max(1, ((byte[]) value).length / 1024);
+        }
+        if (value instanceof String) {
+            return Math.max(1, ((String) value).length() / 1024);
+        }
+        return 1;
+    };
+
+    /**
+     * Bounded, expiring Caffeine caches. Each cache uses app.cache.specs.&lt;name&gt; (a Caffeine spec such as
+     * maximumSize=500,expireAfterWrite=5m) or app.cache.default-spec. Statistics are always recorded, so the
+     * actuator exports cache.gets (hit/miss), cache.puts, cache.evictions and cache.size per cache.
+     * Only the caches listed here exist; a cache name used in an annotation must be added to CACHE_NAMES.
+     */
+    @Bean
+    public CaffeineCacheManager caffeineCacheManager(Environment environment,
+                                                    @Value("${app.cache.default-spec:maximumSize=1000,expireAfterWrite=10m}") String defaultSpec) {
+        Map<String, String> specs = new HashMap<>();
+        Binder.get(environment)
+                .bind("app.cache.specs", Bindable.mapOf(String.class, String.class))
+                .orElse(Collections.emptyMap())
+                .forEach((name, spec) -> specs.put(name.toLowerCase(Locale.ROOT), spec));
+
+        Map<String, String> known = CACHE_NAMES.stream()
+                .collect(Collectors.toMap(name -> name.toLowerCase(Locale.ROOT), name -> name));
+        for (String name : specs.keySet()) {
+            if (!known.containsKey(name)) {
+                throw new IllegalArgumentException("Invalid app.cache.specs entry: unknown cache " + name
+                        + " (known: " + String.join(", ", CACHE_NAMES) + ")");
+            }
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Fixed set of caches: an unknown name fails fast instead of creating an unbounded cache
+        cacheManager.setCacheNames(Collections.emptyList());
+        for (String name : CACHE_NAMES) {
+            String spec = specs.getOrDefault(name.toLowerCase(Locale.ROOT), defaultSpec);
+            cacheManager.registerCustomCache(name, builder(name, spec).build());
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Cache manager used by the caching annotations: the Caffeine caches, with evictions broadcast to the
+     * other nodes when a CacheInvalidationBus is present (app.cache.invalidation.transport=none disables it)
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(@Qualifier("caffeineCacheManager") CacheManager caffeineCacheManager,
+                                     ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        CacheInvalidationBus bus = invalidationBus.getIfAvailable();
+        return bus != null ? new BroadcastingCacheManager(caffeineCacheManager, bus) : caffeineCacheManager;
+    }
+
+    /**
+     * Builder for the paged-search count cache (CountCacheService). Unlike the annotation caches it has a
+     * loader, so entries older than the TTL are refreshed in the background while the old count is served.
+     */
+    @Bean
+    public Caffeine<Object, Object> countCacheBuilder(@Value("${app.paging.count-cache-ttl-ms:30000}") long ttlMs,
+                                                      @Value("${app.paging.count-cache-max-entries:500}") long maxEntries) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .refreshAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats();
+    }
+
+    private static Caffeine<Object, Object> builder(String name, String spec) {
+        // recordStats is always on; strip it so the builder does not set it twice
+        String normalized = Arrays.stream(spec.split(","))
+                .map(String::trim)
+                .filter(option -> !option.isEmpty() && !option.equals("recordStats"))
+                .collect(Collectors.joining(","));
+        if (normalized.contains("refreshAfterWrite")) {
+            // Annotation caches have no loader to refresh with; use expireAfterWrite instead
+            throw new IllegalArgumentException("Invalid cache spec for " + name
+                    + ": refreshAfterWrite needs a loading cache, use expireAfterWrite");
+        }
+        Caffeine<Object, Object> builder;
+        try {
+            builder = Caffeine.from(CaffeineSpec.parse(normalized));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cache spec for " + name + ": " + spec + " (" + e.getMessage() + ")", e);
+        }
+        if (normalized.contains("maximumWeight")) {
+            builder.weigher(VALUE_WEIGHER);
+        }
+        return builder.recordStats();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.example.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Two connection pools behind one routing datasource: read-only transactions marked @ReadReplica
+ * (history, admin searches, reports, background counts) use the read pool, so long reports cannot
+ * take the connections that task completion and migration need. Other read-only work, such as the
+ * staging and master getters a maker re-reads right after saving, stays on the write pool.
+ * The write pool is configured by spring.datasource.*; the read pool by app.datasource.read.*
+ * and, without a read URL, opens a separate pool on the same database (the local stand-in).
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource writeDataSource(DataSourceProperties properties,
+                                            @Value("${app.datasource.write.maximum-pool-size:10}") int maxPoolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("write-pool");
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource readDataSource(DataSourceProperties properties,
+                                           @Value("${app.datasource.read.url:}") String url,
+                                           @Value("${app.datasource.read.username:}") String username,
+                                           @Value("${app.datasource.read.password:}") String password,
+                                           @Value("${app.datasource.read.maximum-pool-size:10}") int maxPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("read-pool");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url.isBlank() ? properties.determineUrl() : url);
+        dataSource.setUsername(url.isBlank() || username.isBlank() ? properties.determineUsername() : username);
+        dataSource.setPassword(url.isBlank() || username.isBlank() ? properties.determinePassword() : password);
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.WRITE, writeDataSource,
+                ReadWriteRoutingDataSource.Route.READ, readDataSource));
+        routing.setDefaultTargetDataSource(writeDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
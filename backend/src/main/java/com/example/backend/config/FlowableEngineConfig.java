@@ -0,0 +1,95 @@
+package com.example.backend.config;
+
+import com.example.backend.flowable.AsyncJobExecutorInstrumentation;
+import com.example.backend.flowable.DefinitionHistorySettings;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.common.spring.async.SpringAsyncTaskExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutorConfiguration;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Process engine settings that have no flowable.* property
+ */
+@Configuration
+public class FlowableEngineConfig {
+
+    /**
+     * Database event logging fills ACT_EVT_LOG, which backs the admin event log tail API
+     */
+    @Bean
+    public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> eventLoggingConfigurer(
+            @Value("${app.events.database-logging:false}") boolean databaseEventLogging) {
+        return configuration -> configuration.setEnableDatabaseEventLogging(databaseEventLogging);
+    }
+
+    /**
+     * Per-definition history levels (app.history.definition-levels=key:level,...) and variables kept
+     * out of ACT_HI_VARINST; the engine-wide level is flowable.history-level
+     */
+    @Bean
+    public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> historySettingsConfigurer(
+            @Value("${app.history.definition-levels:}") List<String> definitionLevels,
+            @Value("${app.history.excluded-variables:}") List<String> excludedVariables,
+            @Value("${app.history.excluded-variable-types:}") List<String> excludedVariableTypes) {
+        Map<String, HistoryLevel> levels = new HashMap<>();
+        for (String entry : definitionLevels) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Invalid app.history.definition-levels entry: " + entry + " (use key:level)");
+            }
+            levels.put(parts[0].trim(), HistoryLevel.getHistoryLevelForKey(parts[1].trim()));
+        }
+        return configuration -> configuration.setHistoryConfigurationSettings(new DefinitionHistorySettings(
+                configuration, levels, toSet(excludedVariables), toSet(excludedVariableTypes)));
+    }
+
+    /**
+     * Async job executor sizing per node: the thread pool (app.async-executor.core-pool-size, max-pool-size,
+     * queue-capacity) replaces the engine default so it is instrumented, and the acquisition settings bound
+     * how many jobs one cycle locks and how long an idle acquisition thread waits
+     */
+    @Bean
+    public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> asyncExecutorConfigurer(
+            AsyncJobExecutorInstrumentation instrumentation,
+            @Value("${app.async-executor.max-async-jobs-per-acquisition:1}") int maxAsyncJobsPerAcquisition,
+            @Value("${app.async-executor.max-timer-jobs-per-acquisition:1}") int maxTimerJobsPerAcquisition,
+            @Value("${app.async-executor.async-job-acquire-wait-ms:10000}") long asyncJobAcquireWaitMs,
+            @Value("${app.async-executor.timer-job-acquire-wait-ms:10000}") long timerJobAcquireWaitMs,
+            @Value("${app.async-executor.async-job-lock-time-ms:3600000}") long asyncJobLockTimeMs) {
+        return configuration -> {
+            List<CommandInterceptor> interceptors = configuration.getCustomPreCommandInterceptors() != null
+                    ? new ArrayList<>(configuration.getCustomPreCommandInterceptors()) : new ArrayList<>();
+            interceptors.add(instrumentation.getCommandInterceptor());
+            configuration.setCustomPreCommandInterceptors(interceptors);
+
+            if (configuration.getAsyncExecutor() instanceof AbstractAsyncExecutor) {
+                AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) configuration.getAsyncExecutor();
+                asyncExecutor.setTaskExecutor(new SpringAsyncTaskExecutor(instrumentation.getTaskExecutor()));
+                AsyncJobExecutorConfiguration settings = asyncExecutor.getConfiguration();
+                settings.setMaxAsyncJobsDuePerAcquisition(maxAsyncJobsPerAcquisition);
+                settings.setMaxTimerJobsPerAcquisition(maxTimerJobsPerAcquisition);
+                settings.setDefaultAsyncJobAcquireWaitTime(Duration.ofMillis(asyncJobAcquireWaitMs));
+                settings.setDefaultTimerJobAcquireWaitTime(Duration.ofMillis(timerJobAcquireWaitMs));
+                settings.setAsyncJobLockTime(Duration.ofMillis(asyncJobLockTimeMs));
+            }
+        };
+    }
+
+    private static Set<String> toSet(List<String> values) {
+        return values.stream().map(String::trim).filter(v -> !v.isEmpty()).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the read-only transactions of a method (or of every method of a class) run on the read pool.
+ * The read pool may be a replica that lags behind the primary, so only reads that tolerate slightly
+ * old data belong here (history, admin searches, reports); a read that must see the caller's own
+ * writes stays unannotated and uses the write pool even when its transaction is read-only.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadReplica {
+}
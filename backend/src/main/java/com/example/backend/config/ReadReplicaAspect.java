@@ -0,0 +1,24 @@
+package com.example.backend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the execution of @ReadReplica methods for ReadWriteRoutingDataSource
+ */
+@Aspect
+@Component
+public class ReadReplicaAspect {
+
+    @Around("@within(com.example.backend.config.ReadReplica) || @annotation(com.example.backend.config.ReadReplica)")
+    public Object onReadReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean outermost = ReadWriteRoutingDataSource.enterReadReplica();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadWriteRoutingDataSource.exitReadReplica(outermost);
+        }
+    }
+}
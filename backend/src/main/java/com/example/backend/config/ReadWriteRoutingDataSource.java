@@ -0,0 +1,56 @@
+package com.example.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Sends connections opened inside a read-only transaction that runs in a read replica scope
+ * (@ReadReplica or onReadReplica) to the read pool, and everything else (writes, other read-only
+ * transactions, non-transactional work, engine jobs) to the write pool. Read-only transactions
+ * outside such a scope stay on the write pool so they see the caller's own writes.
+ * Must sit behind a LazyConnectionDataSourceProxy so the target is resolved at the first
+ * statement, after the transaction manager has published the read-only flag.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> READ_REPLICA = new ThreadLocal<>();
+
+    public enum Route {
+        WRITE,
+        READ
+    }
+
+    /**
+     * Runs work in a read replica scope (for read-only TransactionTemplates outside a @ReadReplica method)
+     */
+    public static <T> T onReadReplica(Supplier<T> work) {
+        boolean outermost = enterReadReplica();
+        try {
+            return work.get();
+        } finally {
+            exitReadReplica(outermost);
+        }
+    }
+
+    static boolean enterReadReplica() {
+        if (READ_REPLICA.get() != null) {
+            return false;
+        }
+        READ_REPLICA.set(Boolean.TRUE);
+        return true;
+    }
+
+    static void exitReadReplica(boolean outermost) {
+        if (outermost) {
+            READ_REPLICA.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return READ_REPLICA.get() != null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.READ : Route.WRITE;
+    }
+}
@@ -4,6 +4,9 @@ import com.example.backend.dto.*;
 import com.example.backend.service.AdminMetricsService;
 import com.example.backend.service.AdminRuntimeService;
 import com.example.backend.service.AdminTaskService;
+import com.example.backend.service.HistoryCleanupService;
+import com.example.backend.service.MetricsRollupService;
+import com.example.backend.service.TaskInboxService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,8 +16,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -32,6 +37,15 @@ public class AdminController {
     @Autowired
     private AdminMetricsService metricsService;
 
+    @Autowired
+    private MetricsRollupService metricsRollupService;
+
+    @Autowired
+    private HistoryCleanupService historyCleanupService;
+
+    @Autowired
+    private TaskInboxService taskInboxService;
+
     @Operation(
         summary = "Get all deployed process definitions",
         description = "Retrieves all latest version process definitions for the admin portal"
@@ -63,9 +77,13 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", required = false)
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", required = false)
-            @RequestParam(defaultValue = "25") int size) {
-        log.info("Searching process instances - definitionKey: {}, state: {}, page: {}, size: {}", definitionKey, state, page, size);
-        return runtimeService.searchProcessInstances(definitionKey, state, page, size);
+            @RequestParam(defaultValue = "25") int size,
+            @Parameter(description = "Variables to include, e.g. vars=sheetId,status (default: none)", required = false)
+            @RequestParam(required = false) List<String> vars,
+            @Parameter(description = "Total computation: EXACT (default), CACHED (background-refreshed) or NONE (hasNext only)", required = false)
+            @RequestParam(defaultValue = "EXACT") CountMode countMode) {
+        log.info("Searching process instances - definitionKey: {}, state: {}, page: {}, size: {}, vars: {}, countMode: {}", definitionKey, state, page, size, vars, countMode);
+        return runtimeService.searchProcessInstances(definitionKey, state, page, size, vars, countMode);
     }
 
     @Operation(
@@ -84,10 +102,12 @@ public class AdminController {
             @RequestParam(required = false) String state,
             @Parameter(description = "Page number (0-based)", required = false)
             @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size", required = false)
-            @RequestParam(defaultValue = "25") int size) {
-        log.info("Searching tasks - candidateGroup: {}, state: {}, page: {}, size: {}", candidateGroup, state, page, size);
-        return taskService.searchTasks(candidateGroup, state, page, size);
+            @Parameter(description = "Page size (capped by app.admin.max-page-size)", required = false)
+            @RequestParam(defaultValue = "25") int size,
+            @Parameter(description = "Total computation: EXACT (default), CACHED (background-refreshed) or NONE (hasNext only)", required = false)
+            @RequestParam(defaultValue = "EXACT") CountMode countMode) {
+        log.info("Searching tasks - candidateGroup: {}, state: {}, page: {}, size: {}, countMode: {}", candidateGroup, state, page, size, countMode);
+        return taskService.searchTasks(candidateGroup, state, page, size, countMode);
     }
 
     @Operation(
@@ -106,6 +126,33 @@ public class AdminController {
         return runtimeService.getEventLogs(limit);
     }
 
+    @Operation(
+        summary = "Tail event log",
+        description = "Reads the engine event log forward from a cursor (last log number seen). " +
+                      "With waitMs > 0 the call long-polls until new entries arrive or the wait expires; " +
+                      "pass the returned nextCursor to the next call"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Entries after the cursor (possibly empty); loggingEnabled is false, " +
+                                                         "without waiting, when database event logging is off"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    @GetMapping("/events/tail")
+    public DeferredResult<EventLogPage> tailEvents(
+            @Parameter(description = "Return entries after this log number (default: from the beginning)", required = false)
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Event types to include, e.g. TASK_CREATED,PROCESSINSTANCE_END", required = false)
+            @RequestParam(required = false) List<String> types,
+            @Parameter(description = "Process instance ID filter", required = false)
+            @RequestParam(required = false) String processInstanceId,
+            @Parameter(description = "Maximum entries to return (1-1000)", required = false)
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Long-poll wait in milliseconds when nothing is available (max 30000)", required = false)
+            @RequestParam(defaultValue = "0") long waitMs) {
+        // A waiting long-poll holds no thread; the service's poller completes it
+        return runtimeService.tailEventLogs(after, types, processInstanceId, limit, waitMs);
+    }
+
     @Operation(
         summary = "Get dashboard metrics",
         description = "Retrieves comprehensive metrics for the admin portal dashboard including instance counts, task statistics, and daily trends"
@@ -115,9 +162,103 @@ public class AdminController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/metrics")
-    public MetricsDto getMetrics() {
-        log.info("Building dashboard metrics");
-        return metricsService.getMetrics();
+    public MetricsDto getMetrics(
+            @Parameter(description = "Days covered by the per-day instance counts (1-90)", required = false)
+            @RequestParam(defaultValue = "7") int days) {
+        log.info("Building dashboard metrics for {} days", days);
+        return metricsService.getMetrics(days);
+    }
+
+    @Operation(
+        summary = "Get metrics rollup counters",
+        description = "Returns the in-memory rollup counters per process definition key; '*' holds the totals"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved rollup counters")
+    })
+    @GetMapping("/metrics/rollup")
+    public Map<String, Map<MetricsRollupService.Counter, Long>> getMetricsRollup() {
+        return metricsRollupService.snapshot();
+    }
+
+    @Operation(
+        summary = "Get task cycle times",
+        description = "Returns avg/p50/p90/p99/max cycle time of completed tasks per task definition key, from the in-memory histograms"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved task cycle times")
+    })
+    @GetMapping("/metrics/task-cycle-times")
+    public List<MetricsDto.DurationPercentiles> getTaskCycleTimes(
+            @Parameter(description = "Process definition key filter", required = false)
+            @RequestParam(required = false) String definitionKey) {
+        return metricsRollupService.taskDurations(definitionKey);
+    }
+
+    @Operation(
+        summary = "Rebuild metrics rollup",
+        description = "Reloads the in-memory rollup counters and time series from the history and runtime tables"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rollup rebuilt"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/metrics/rollup/rebuild")
+    public Map<String, Map<MetricsRollupService.Counter, Long>> rebuildMetricsRollup() {
+        log.info("Rebuilding metrics rollup");
+        metricsRollupService.rebuild();
+        return metricsRollupService.snapshot();
+    }
+
+    @Operation(
+        summary = "Rebuild task inbox",
+        description = "Reloads the task inbox read model from the Flowable runtime tables under a cluster-wide lock; " +
+                "nodes keep serving the old rows until the rebuild commits"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Inbox rebuilt (or skipped because another node is rebuilding)"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/inbox/rebuild")
+    public Map<String, Object> rebuildTaskInbox() {
+        log.info("Rebuilding task inbox");
+        long loaded = taskInboxService.rebuild();
+        return loaded >= 0 ? Map.of("rebuilt", true, "tasks", loaded) : Map.of("rebuilt", false);
+    }
+
+    @Operation(
+        summary = "Run history cleanup",
+        description = "Archives finished process instances older than app.history.cleanup.retention-days to a gzip NDJSON " +
+                "file and removes them from history, in throttled batches up to the per-run limit"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cleanup finished (or skipped because a run is in progress)"),
+        @ApiResponse(responseCode = "500", description = "Archive write failed; nothing from the failed batch was removed")
+    })
+    @PostMapping("/history/cleanup")
+    public HistoryCleanupResult runHistoryCleanup() {
+        log.info("Running history cleanup on demand");
+        return historyCleanupService.runCleanup();
+    }
+
+    @Operation(
+        summary = "Get activity heatmap",
+        description = "Counts running instances at each active activity per process definition, with the age distribution " +
+                "of the waiting executions, from one aggregate query. With diagram=true each activity carries its " +
+                "BPMN diagram bounds for an overlay."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully built heatmap"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/heatmap")
+    public List<ActivityHeatmapDto> getActivityHeatmap(
+            @Parameter(description = "Process definition key filter", required = false)
+            @RequestParam(required = false) String definitionKey,
+            @Parameter(description = "Attach diagram bounds for an overlay", required = false)
+            @RequestParam(defaultValue = "false") boolean diagram) {
+        log.info("Building activity heatmap for definition: {}", definitionKey);
+        return runtimeService.getActivityHeatmap(definitionKey, diagram);
     }
 
     @Operation(
@@ -9,6 +9,8 @@ import com.example.backend.model.Item;
 import com.example.backend.model.Plan;
 import com.example.backend.model.Product;
 import com.example.backend.service.*;
+import com.example.backend.util.EntityTypeUtils;
+import com.example.backend.util.ResponseUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -42,6 +46,7 @@ public class DataQueryController {
     private final ItemStagingService itemStagingService;
     private final SheetService sheetService;
     private final CommonStagingDataService commonStagingDataService;
+    private final DataExportService dataExportService;
     
     @GetMapping("/products/sheet/{sheetId}")
     @Operation(summary = "Get products by sheet", description = "Query saved products for a specific sheet")
@@ -62,23 +67,28 @@ public class DataQueryController {
     }
     
     // Staging table queries
+    // Rows under a sheetId only change through approvals, so these support If-None-Match
+    // against an ETag built from sheetId + approval revision (304 never touches row tables).
     
     @GetMapping("/products/staging/{sheetId}")
-    @Operation(summary = "Get staging products by sheet", description = "Query staging products for a specific sheet")
-    public ResponseEntity<List<ProductStagingDto>> getProductsStagingBySheet(@PathVariable String sheetId) {
-        return ResponseEntity.ok(productStagingService.getProductsBySheetId(sheetId));
+    @Operation(summary = "Get staging products by sheet", description = "Query staging products for a specific sheet (supports If-None-Match)")
+    public ResponseEntity<List<ProductStagingDto>> getProductsStagingBySheet(@PathVariable String sheetId, WebRequest request) {
+        return ResponseUtils.conditional(sheetService.getSheetETag(sheetId), request,
+                () -> productStagingService.getProductsBySheetId(sheetId));
     }
     
     @GetMapping("/plans/staging/{sheetId}")
-    @Operation(summary = "Get staging plans by sheet", description = "Query staging plans for a specific sheet")
-    public ResponseEntity<List<PlanStagingDto>> getPlansStagingBySheet(@PathVariable String sheetId) {
-        return ResponseEntity.ok(planStagingService.getPlansBySheetId(sheetId));
+    @Operation(summary = "Get staging plans by sheet", description = "Query staging plans for a specific sheet (supports If-None-Match)")
+    public ResponseEntity<List<PlanStagingDto>> getPlansStagingBySheet(@PathVariable String sheetId, WebRequest request) {
+        return ResponseUtils.conditional(sheetService.getSheetETag(sheetId), request,
+                () -> planStagingService.getPlansBySheetId(sheetId));
     }
     
     @GetMapping("/items/staging/{sheetId}")
-    @Operation(summary = "Get staging items by sheet", description = "Query staging items for a specific sheet")
-    public ResponseEntity<List<ItemStagingDto>> getItemsStagingBySheet(@PathVariable String sheetId) {
-        return ResponseEntity.ok(itemStagingService.getItemsBySheetId(sheetId));
+    @Operation(summary = "Get staging items by sheet", description = "Query staging items for a specific sheet (supports If-None-Match)")
+    public ResponseEntity<List<ItemStagingDto>> getItemsStagingBySheet(@PathVariable String sheetId, WebRequest request) {
+        return ResponseUtils.conditional(sheetService.getSheetETag(sheetId), request,
+                () -> itemStagingService.getItemsBySheetId(sheetId));
     }
     
     // Approval endpoints for Checkers
@@ -134,9 +144,10 @@ public class DataQueryController {
     // Sheet Management Endpoints
     
     @GetMapping("/sheets/{sheetId}")
-    @Operation(summary = "Get sheet by ID", description = "Get sheet details by sheetId")
-    public ResponseEntity<SheetDto> getSheet(@PathVariable String sheetId) {
-        return ResponseEntity.ok(sheetService.getSheetBySheetId(sheetId));
+    @Operation(summary = "Get sheet by ID", description = "Get sheet details by sheetId (supports If-None-Match)")
+    public ResponseEntity<SheetDto> getSheet(@PathVariable String sheetId, WebRequest request) {
+        return ResponseUtils.conditional(sheetService.getSheetETag(sheetId), request,
+                () -> sheetService.getSheetBySheetId(sheetId));
     }
     
     /**
@@ -265,21 +276,62 @@ public class DataQueryController {
     }
     
     @GetMapping("/sheets/check-rows-approved/{sheetId}")
-    @Operation(summary = "Check if all rows approved", description = "Check if all staging rows for a sheet are approved")
+    @Operation(summary = "Check if all rows approved", description = "Check if all staging rows for a sheet are approved (supports If-None-Match)")
     public ResponseEntity<Map<String, Object>> checkAllRowsApproved(
             @PathVariable String sheetId,
-            @RequestParam String entityType) {
-        boolean allApproved = false;
-        
-        if ("products".equalsIgnoreCase(entityType)) {
-            allApproved = productStagingService.areAllRowsApproved(sheetId);
-        } else if ("plans".equalsIgnoreCase(entityType)) {
-            allApproved = planStagingService.areAllRowsApproved(sheetId);
-        } else if ("items".equalsIgnoreCase(entityType)) {
-            allApproved = itemStagingService.areAllRowsApproved(sheetId);
-        }
-        
-        return ResponseEntity.ok(Map.of("allApproved", allApproved));
+            @RequestParam String entityType,
+            WebRequest request) {
+        return ResponseUtils.conditional(sheetService.getSheetETag(sheetId), request, () -> {
+            boolean allApproved = false;
+            
+            if ("products".equalsIgnoreCase(entityType)) {
+                allApproved = productStagingService.areAllRowsApproved(sheetId);
+            } else if ("plans".equalsIgnoreCase(entityType)) {
+                allApproved = planStagingService.areAllRowsApproved(sheetId);
+            } else if ("items".equalsIgnoreCase(entityType)) {
+                allApproved = itemStagingService.areAllRowsApproved(sheetId);
+            }
+            
+            return Map.<String, Object>of("allApproved", allApproved);
+        });
+    }
+    
+    // Streaming export endpoints (rows are written while the cursor is read, nothing is buffered)
+    
+    @GetMapping("/export/{entityType}/staging/{sheetId}")
+    @Operation(summary = "Export staging sheet", description = "Stream all staging rows of a sheet as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportStagingSheet(
+            @PathVariable String entityType,
+            @PathVariable String sheetId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        DataExportService.Format exportFormat = DataExportService.Format.from(format);
+        EntityTypeUtils.validateEntityType(entityType);
+        return ResponseUtils.stream(exportFormat.getMediaType(),
+                entityType.toLowerCase() + "-staging-" + sheetId + "." + exportFormat.getExtension(),
+                out -> dataExportService.exportStagingSheet(entityType, sheetId, exportFormat, out));
+    }
+    
+    @GetMapping("/export/{entityType}/master")
+    @Operation(summary = "Export master data", description = "Stream the whole master table of an entity type as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportMasterData(
+            @PathVariable String entityType,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        DataExportService.Format exportFormat = DataExportService.Format.from(format);
+        EntityTypeUtils.validateEntityType(entityType);
+        return ResponseUtils.stream(exportFormat.getMediaType(),
+                EntityTypeUtils.getMasterTableName(entityType) + "." + exportFormat.getExtension(),
+                out -> dataExportService.exportMasterData(entityType, exportFormat, out));
+    }
+    
+    @GetMapping("/export/sheets")
+    @Operation(summary = "Export sheet history", description = "Stream the sheet (version/approval) history as NDJSON or CSV, optionally for one process instance")
+    public ResponseEntity<StreamingResponseBody> exportSheetHistory(
+            @RequestParam(required = false) String processInstanceId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        DataExportService.Format exportFormat = DataExportService.Format.from(format);
+        return ResponseUtils.stream(exportFormat.getMediaType(),
+                "sheets." + exportFormat.getExtension(),
+                out -> dataExportService.exportSheetHistory(processInstanceId, exportFormat, out));
     }
 }
 
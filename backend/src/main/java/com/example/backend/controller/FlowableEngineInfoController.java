@@ -1,7 +1,9 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.EngineInfoDto;
+import com.example.backend.dto.TableStatsDto;
 import com.example.backend.service.FlowableEngineInfoService;
+import com.example.backend.service.TableStatsService;
 import com.example.backend.util.ErrorHandlingUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -32,6 +34,9 @@ public class FlowableEngineInfoController {
     @Autowired
     private FlowableEngineInfoService engineInfoService;
 
+    @Autowired
+    private TableStatsService tableStatsService;
+
     /**
      * Get engine information.
      * @return EngineInfoDto
@@ -84,13 +89,13 @@ public class FlowableEngineInfoController {
 
     @Operation(
             summary = "Get database table counts",
-            description = "Retrieve row counts for all Flowable database tables"
+            description = "Retrieve row counts for all Flowable database tables from the latest background sample " +
+                    "(estimates or exact counts depending on app.engine.table-stats.mode)"
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Table counts retrieved successfully")
     })
     @GetMapping("/tables")
-    @Cacheable("tableCounts")
     public ResponseEntity<Map<String, Object>> getTableCounts() {
         return ErrorHandlingUtils.executeWithErrorHandling(
             () -> {
@@ -103,15 +108,35 @@ public class FlowableEngineInfoController {
         );
     }
 
+    @Operation(
+            summary = "Get database table statistics",
+            description = "Latest table size sample with its age, whether rows are estimates, and rows/hour growth per table"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Table statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TableStatsDto.class)))
+    })
+    @GetMapping("/tables/stats")
+    public ResponseEntity<Map<String, Object>> getTableStats() {
+        return ErrorHandlingUtils.executeWithErrorHandling(
+            () -> {
+                logger.debug("Retrieving table statistics");
+                return tableStatsService.getStats();
+            },
+            "Table statistics retrieved successfully",
+            "Failed to retrieve table statistics",
+            logger
+        );
+    }
+
     @Operation(
             summary = "Get job statistics",
-            description = "Retrieve statistical information about Flowable jobs"
+            description = "Retrieve job counts and the current async executor pool state (live, not cached)"
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Job statistics retrieved successfully")
     })
     @GetMapping("/jobs/statistics")
-    @Cacheable("jobStatistics")
     public ResponseEntity<Map<String, Object>> getJobStatistics() {
         return ErrorHandlingUtils.executeWithErrorHandling(
             () -> {
@@ -1,8 +1,10 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.ProcessInstanceDto;
 import com.example.backend.dto.TaskDto;
 import com.example.backend.service.FlowableHistoryService;
+import com.example.backend.util.ResponseUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,26 +13,39 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Controller for Flowable History operations.
  * Provides comprehensive history APIs for processes and tasks with verbose DTOs.
+ * List endpoints are keyset paged (size + cursor from the previous nextCursor, newest first).
+ * They answer with a bare JSON array of the page, the next cursor in the X-Next-Cursor header, unless
+ * app.history.paged-responses=true selects the PagedResponse body. The /stream endpoints return the
+ * same rows as NDJSON up to app.history.max-stream-rows.
  */
 @RestController
 @RequestMapping("/api/flowable/history")
 @Tag(name = "History Management", description = "APIs for accessing Flowable process and task history")
 public class FlowableHistoryController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private FlowableHistoryService historyService;
 
+    @Value("${app.history.paged-responses:false}")
+    private boolean pagedResponses;
+
     /**
      * Get process history by process definition key.
      * @param processKey process definition key
-     * @return list of ProcessInstanceDto (consolidated DTO for both active and historic instances)
+     * @return page of ProcessInstanceDto (consolidated DTO for both active and historic instances)
      */
     @Operation(
         summary = "Get Process History by Key",
@@ -46,15 +61,19 @@ public class FlowableHistoryController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/process/{processKey}")
-    public List<ProcessInstanceDto> getProcessHistory(
+    public ResponseEntity<?> getProcessHistory(
             @Parameter(description = "Process definition key", required = true, example = "retentionOffer")
-            @PathVariable String processKey) {
-        return historyService.getProcessHistory(processKey);
+            @PathVariable String processKey,
+            @Parameter(description = "Page size (capped by app.history.max-page-size)")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor) {
+        return respond(historyService.getProcessHistory(processKey, size, cursor));
     }
 
     /**
      * Get all process history.
-     * @return list of ProcessInstanceDto (consolidated DTO for both active and historic instances)
+     * @return page of ProcessInstanceDto (consolidated DTO for both active and historic instances)
      */
     @Operation(
         summary = "Get All Process History",
@@ -69,8 +88,31 @@ public class FlowableHistoryController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/process")
-    public List<ProcessInstanceDto> getAllProcessHistory() {
-        return historyService.getAllProcessHistory();
+    public ResponseEntity<?> getAllProcessHistory(
+            @Parameter(description = "Page size (capped by app.history.max-page-size)")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor) {
+        return respond(historyService.getAllProcessHistory(size, cursor));
+    }
+
+    /**
+     * Stream process history as NDJSON (newest first).
+     * @param processKey optional process definition key
+     * @param startDate optional start date (yyyy-MM-dd)
+     * @param endDate optional end date (yyyy-MM-dd)
+     * @param limit optional row limit (capped by app.history.max-stream-rows)
+     * @return NDJSON stream of ProcessInstanceDto
+     */
+    @Operation(summary = "Stream Process History", description = "Streams historic process instances as NDJSON, newest first, up to a hard row limit")
+    @GetMapping("/process/stream")
+    public ResponseEntity<StreamingResponseBody> streamProcessHistory(
+            @RequestParam(required = false) String processKey,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseUtils.stream(MediaType.parseMediaType("application/x-ndjson"), "process-history.ndjson",
+                out -> historyService.streamProcessHistory(processKey, startDate, endDate, limit, out));
     }
 
     /**
@@ -96,20 +138,42 @@ public class FlowableHistoryController {
     /**
      * Get task history for a user.
      * @param user username
-     * @return list of TaskDto (consolidated DTO for both active and historic tasks)
+     * @return page of TaskDto (consolidated DTO for both active and historic tasks), newest first by start time
      */
     @GetMapping("/task/user/{user}")
-    public List<TaskDto> getTaskHistoryByUser(@PathVariable String user) {
-        return historyService.getTaskHistoryByUser(user);
+    public ResponseEntity<?> getTaskHistoryByUser(
+            @PathVariable String user,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
+        return respond(historyService.getTaskHistoryByUser(user, size, cursor));
     }
 
     /**
      * Get all completed tasks.
-     * @return list of TaskDto (consolidated DTO for both active and historic tasks)
+     * @return page of TaskDto (consolidated DTO for both active and historic tasks), newest first by end time
      */
     @GetMapping("/task/completed")
-    public List<TaskDto> getCompletedTasks() {
-        return historyService.getCompletedTasks();
+    public ResponseEntity<?> getCompletedTasks(
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
+        return respond(historyService.getCompletedTasks(size, cursor));
+    }
+
+    /**
+     * Stream task history as NDJSON (newest first).
+     * @param user optional assignee
+     * @param completed only finished tasks
+     * @param limit optional row limit (capped by app.history.max-stream-rows)
+     * @return NDJSON stream of TaskDto
+     */
+    @Operation(summary = "Stream Task History", description = "Streams historic tasks as NDJSON, newest first, up to a hard row limit")
+    @GetMapping("/task/stream")
+    public ResponseEntity<StreamingResponseBody> streamTaskHistory(
+            @RequestParam(required = false) String user,
+            @RequestParam(defaultValue = "true") boolean completed,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseUtils.stream(MediaType.parseMediaType("application/x-ndjson"), "task-history.ndjson",
+                out -> historyService.streamTaskHistory(user, completed, limit, out));
     }
 
     /**
@@ -134,11 +198,28 @@ public class FlowableHistoryController {
      * Get process history by date range.
      * @param startDate start date (yyyy-MM-dd)
      * @param endDate end date (yyyy-MM-dd)
-     * @return list of ProcessInstanceDto (consolidated DTO for both active and historic instances)
+     * @return page of ProcessInstanceDto (consolidated DTO for both active and historic instances)
      */
     @GetMapping("/process/date-range")
-    public List<ProcessInstanceDto> getProcessHistoryByDateRange(
-            @RequestParam String startDate, @RequestParam String endDate) {
-        return historyService.getProcessHistoryByDateRange(startDate, endDate);
+    public ResponseEntity<?> getProcessHistoryByDateRange(
+            @RequestParam String startDate, @RequestParam String endDate,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
+        return respond(historyService.getProcessHistoryByDateRange(startDate, endDate, size, cursor));
+    }
+
+    /**
+     * Pre-paging clients expect a JSON array, so that stays the default shape; the cursor
+     * travels in a header so they can still fetch further pages
+     */
+    private ResponseEntity<?> respond(PagedResponse<?> page) {
+        if (pagedResponses) {
+            return ResponseEntity.ok(page);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor);
+        }
+        return response.body(page.content);
     }
 }
@@ -1,8 +1,13 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.ImportResultDto;
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.TaskActionResponse;
 import com.example.backend.dto.TaskDto;
+import com.example.backend.dto.TaskPageQuery;
+import com.example.backend.service.StagingImportService;
 import com.example.backend.service.TaskManagementService;
+import com.example.backend.util.ValidationUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,12 +15,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -30,32 +40,43 @@ import java.util.Map;
 public class FlowableTaskController {
     
     private final TaskManagementService taskManagementService;
+    private final StagingImportService stagingImportService;
+
+    @Value("${app.tasks.max-page:1000}")
+    private int maxPage;
 
     @GetMapping("/my-tasks")
-    @Operation(summary = "Get current user's tasks", description = "Get all tasks for current authenticated user")
+    @Operation(summary = "Get current user's tasks", description = "Paged tasks assigned to or claimable by the current user (offset or keyset paging, sortable, filterable)")
     @PreAuthorize("hasAnyRole('MAKER', 'CHECKER', 'ADMIN')")
-    public ResponseEntity<List<TaskDto>> getMyTasks(Principal principal) {
-        List<TaskDto> tasks = taskManagementService.getMyTasks(principal.getName());
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<PagedResponse<TaskDto>> getMyTasks(
+            @ParameterObject TaskPageQuery query,
+            Principal principal
+    ) {
+        ValidationUtils.requirePageWithin(query.getPage(), maxPage);
+        return ResponseEntity.ok(taskManagementService.getMyTasks(principal.getName(), query));
     }
     
     @GetMapping("/candidate-group/{group}")
-    @Operation(summary = "Get tasks by candidate group", description = "Get all tasks for a specific candidate group")
+    @Operation(summary = "Get tasks by candidate group", description = "Paged unassigned tasks of a candidate group")
     @PreAuthorize("hasAnyRole('MAKER', 'CHECKER', 'ADMIN')")
-    public ResponseEntity<List<TaskDto>> getTasksByCandidateGroup(@PathVariable String group) {
-        List<TaskDto> tasks = taskManagementService.getTasksByCandidateGroup(group);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<PagedResponse<TaskDto>> getTasksByCandidateGroup(
+            @PathVariable String group,
+            @ParameterObject TaskPageQuery query
+    ) {
+        ValidationUtils.requirePageWithin(query.getPage(), maxPage);
+        return ResponseEntity.ok(taskManagementService.getTasksByCandidateGroup(group, query));
     }
     
     @GetMapping("/candidate-group-or-assigned/{group}")
-    @Operation(summary = "Get tasks by group or assigned", description = "Get tasks for a candidate group OR assigned to user")
+    @Operation(summary = "Get tasks by group or assigned", description = "Paged tasks of a candidate group OR assigned to user")
     @PreAuthorize("hasAnyRole('MAKER', 'CHECKER', 'ADMIN')")
-    public ResponseEntity<List<TaskDto>> getTasksByGroupOrAssigned(
+    public ResponseEntity<PagedResponse<TaskDto>> getTasksByGroupOrAssigned(
             @PathVariable String group,
+            @ParameterObject TaskPageQuery query,
             Principal principal
     ) {
-        List<TaskDto> tasks = taskManagementService.getTasksByGroupOrAssigned(group, principal.getName());
-        return ResponseEntity.ok(tasks);
+        ValidationUtils.requirePageWithin(query.getPage(), maxPage);
+        return ResponseEntity.ok(taskManagementService.getTasksByGroupOrAssigned(group, principal.getName(), query));
     }
     
     @GetMapping("/{taskId}/variables")
@@ -77,6 +98,21 @@ public class FlowableTaskController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/claim-next")
+    @Operation(summary = "Claim next available task",
+            description = "Claim one of the highest-priority unassigned tasks the current user can claim. Returns 204 when none is available")
+    @PreAuthorize("hasAnyRole('MAKER', 'CHECKER', 'ADMIN')")
+    public ResponseEntity<TaskActionResponse> claimNextTask(
+            @RequestParam(required = false) String group,
+            @RequestParam(required = false) String processDefinitionKey,
+            @RequestParam(required = false) String taskDefinitionKey,
+            Principal principal
+    ) {
+        TaskActionResponse response = taskManagementService.claimNextTask(
+                principal.getName(), group, processDefinitionKey, taskDefinitionKey);
+        return response != null ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/{taskId}/unclaim")
     @Operation(summary = "Unclaim task", description = "Unclaim/release a task")
     @PreAuthorize("hasAnyRole('MAKER', 'CHECKER', 'ADMIN')")
@@ -142,6 +178,24 @@ public class FlowableTaskController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/{taskId}/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import CSV into maker task", description = "Stream a CSV file into a new staging sheet version for the maker task; " +
+            "complete the task afterwards with reason=submit and no list variable")
+    @PreAuthorize("hasAnyRole('MAKER', 'ADMIN')")
+    public ResponseEntity<ImportResultDto> importCsv(
+            @PathVariable String taskId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean allowPartial,
+            Principal principal
+    ) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            ImportResultDto result = stagingImportService.importCsv(taskId, csv, principal.getName(), allowPartial);
+            return result.isCommitted()
+                    ? ResponseEntity.ok(result)
+                    : ResponseEntity.unprocessableEntity().body(result);
+        }
+    }
+
     @DeleteMapping("/{taskId}")
     @Operation(summary = "Delete task", description = "Delete a task")
     @PreAuthorize("hasRole('ADMIN')")
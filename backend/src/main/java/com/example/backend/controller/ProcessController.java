@@ -1,10 +1,13 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.ProcessInstanceDto;
 import com.example.backend.dto.ProcessStartResponse;
 import com.example.backend.dto.TaskDto;
+import com.example.backend.dto.TaskPageQuery;
 import com.example.backend.service.FlowableProcessService;
 import com.example.backend.service.ProcessManagementService;
+import com.example.backend.util.ValidationUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,7 +16,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
@@ -38,6 +43,9 @@ public class ProcessController {
     @Autowired
     private ProcessManagementService processManagementService;
 
+    @Value("${app.tasks.max-page:1000}")
+    private int maxPage;
+
     /**
      * Start a new retention offer process.
      * @return ProcessStartResponse with process details including generated sheetId
@@ -252,11 +260,12 @@ public class ProcessController {
     /**
      * Get tasks for a user.
      * @param user username
-     * @return list of TaskDto
+     * @param query paging, sorting and filters
+     * @return page of TaskDto
      */
     @Operation(
         summary = "Get User Tasks",
-        description = "Retrieves all tasks assigned to or available for a specific user"
+        description = "Retrieves a page of tasks assigned to or available for a specific user"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -268,10 +277,12 @@ public class ProcessController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/tasks")
-    public List<TaskDto> getTasks(
+    public PagedResponse<TaskDto> getTasks(
             @Parameter(description = "Username to get tasks for", required = true, example = "john.doe")
-            @RequestParam String user) {
-        return processService.getTasksForUser(user);
+            @RequestParam String user,
+            @ParameterObject TaskPageQuery query) {
+        ValidationUtils.requirePageWithin(query.getPage(), maxPage);
+        return processService.getTasksForUser(user, query);
     }
 
     /**
@@ -1,5 +1,8 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.BulkTaskRequest;
+import com.example.backend.dto.BulkTaskResultDto;
+import com.example.backend.service.BulkTaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,6 +26,7 @@ import java.util.Map;
 public class TaskControlController {
     
     private final TaskService taskService;
+    private final BulkTaskService bulkTaskService;
     
     @PostMapping("/{taskId}/assign")
     @Operation(summary = "Assign task", description = "Assign a task to a user")
@@ -128,6 +132,39 @@ public class TaskControlController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/bulk/claim")
+    @Operation(summary = "Bulk claim tasks", description = "Claim many unassigned tasks for a user; returns per-task outcomes")
+    public ResponseEntity<BulkTaskResultDto> bulkClaim(@RequestBody BulkTaskRequest request) {
+        return ResponseEntity.ok(bulkTaskService.claim(request.getTaskIds(), request.getUserId()));
+    }
+    
+    @PostMapping("/bulk/assign")
+    @Operation(summary = "Bulk assign tasks", description = "Assign many tasks to a user; returns per-task outcomes")
+    public ResponseEntity<BulkTaskResultDto> bulkAssign(@RequestBody BulkTaskRequest request) {
+        return ResponseEntity.ok(bulkTaskService.assign(request.getTaskIds(), request.getUserId()));
+    }
+    
+    @PostMapping("/bulk/unclaim")
+    @Operation(summary = "Bulk unclaim tasks", description = "Remove the assignee from many tasks; returns per-task outcomes")
+    public ResponseEntity<BulkTaskResultDto> bulkUnclaim(@RequestBody BulkTaskRequest request) {
+        return ResponseEntity.ok(bulkTaskService.unclaim(request.getTaskIds()));
+    }
+    
+    @PostMapping("/bulk/complete")
+    @Operation(summary = "Bulk complete tasks", description = "Complete many tasks with the same optional variables; returns per-task outcomes")
+    public ResponseEntity<BulkTaskResultDto> bulkComplete(@RequestBody BulkTaskRequest request) {
+        return ResponseEntity.ok(bulkTaskService.complete(request.getTaskIds(), request.getVariables()));
+    }
+    
+    @PostMapping("/bulk/set-priority")
+    @Operation(summary = "Bulk set task priority", description = "Set the priority of many tasks; returns per-task outcomes")
+    public ResponseEntity<BulkTaskResultDto> bulkSetPriority(@RequestBody BulkTaskRequest request) {
+        if (request.getPriority() == null) {
+            throw new IllegalArgumentException("Invalid request: priority is required");
+        }
+        return ResponseEntity.ok(bulkTaskService.setPriority(request.getTaskIds(), request.getPriority()));
+    }
+    
     @PostMapping("/{taskId}/set-due-date")
     @Operation(summary = "Set task due date", description = "Set due date for a task")
     public ResponseEntity<Map<String, String>> setTaskDueDate(
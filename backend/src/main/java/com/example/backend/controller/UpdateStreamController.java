@@ -0,0 +1,44 @@
+package com.example.backend.controller;
+
+import com.example.backend.service.UpdateStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.Principal;
+import java.util.HashSet;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/updates")
+@RequiredArgsConstructor
+@Tag(name = "Update Stream", description = "Server-Sent Events push of task and sheet approval changes")
+@SecurityRequirement(name = "Bearer Authentication")
+public class UpdateStreamController {
+
+    private final UpdateStreamService updateStreamService;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Open update stream",
+            description = "SSE stream of 'task' deltas (tasks the current user can see) and 'sheet' approval changes. " +
+                    "A 'resync' event means deltas were dropped and lists should be re-fetched")
+    @PreAuthorize("hasAnyRole('MAKER', 'CHECKER', 'ADMIN')")
+    public SseEmitter stream(
+            @RequestParam(required = false) List<String> topics,
+            @RequestParam(required = false) List<String> sheetIds,
+            Principal principal
+    ) {
+        return updateStreamService.subscribe(
+                principal.getName(),
+                topics != null ? new HashSet<>(topics) : null,
+                sheetIds != null ? new HashSet<>(sheetIds) : null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Where the running instances of one process definition currently are")
+public class ActivityHeatmapDto {
+
+    @Schema(description = "Process definition key", example = "threeStageProcess")
+    private String definitionKey;
+
+    @Schema(description = "Running process instances of this definition")
+    private long runningInstances;
+
+    @Schema(description = "Active activities, busiest first")
+    @Builder.Default
+    private List<ActivityStat> activities = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ActivityStat {
+
+        @Schema(description = "Activity / task definition key", example = "stage2CheckerTask")
+        private String activityId;
+
+        private String activityName;
+
+        @Schema(description = "BPMN element type", example = "userTask")
+        private String activityType;
+
+        @Schema(description = "Active executions waiting in this activity")
+        private long count;
+
+        @Schema(description = "Start time of the oldest active execution (ISO-8601)")
+        private String oldestStartTime;
+
+        @Schema(description = "Active executions by time spent in the activity: <1h, 1h-1d, 1d-7d, >7d")
+        @Builder.Default
+        private Map<String, Long> ageBuckets = new LinkedHashMap<>();
+
+        @Schema(description = "Diagram bounds of the activity (only when the diagram overlay is requested)")
+        private Bounds bounds;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bounds {
+        private double x;
+        private double y;
+        private double width;
+        private double height;
+    }
+}
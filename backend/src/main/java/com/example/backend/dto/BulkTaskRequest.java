@@ -0,0 +1,30 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Bulk task operation request")
+public class BulkTaskRequest {
+
+    @Schema(description = "Task IDs to operate on", example = "[\"task1\", \"task2\"]")
+    private List<String> taskIds;
+
+    @Schema(description = "Target user (claim, assign)", example = "john.doe")
+    private String userId;
+
+    @Schema(description = "New priority (set-priority)", example = "80")
+    private Integer priority;
+
+    @Schema(description = "Variables passed to every completed task (complete)")
+    private Map<String, Object> variables;
+}
@@ -0,0 +1,50 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a bulk task operation, with one outcome per requested task")
+public class BulkTaskResultDto {
+
+    @Schema(description = "Action performed", example = "CLAIM")
+    private String action;
+
+    @Schema(description = "Number of distinct tasks requested", example = "100")
+    private int requested;
+
+    @Schema(description = "Number of tasks the action was applied to", example = "97")
+    private int succeeded;
+
+    @Schema(description = "Number of tasks that were not changed (skipped, not found, conflict or failed)", example = "3")
+    private int failed;
+
+    @Schema(description = "Per-task outcomes, in request order")
+    @Builder.Default
+    private List<Outcome> outcomes = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Outcome for one task")
+    public static class Outcome {
+
+        @Schema(description = "Task ID", example = "task123")
+        private String taskId;
+
+        @Schema(description = "SUCCESS, SKIPPED, NOT_FOUND, CONFLICT or FAILED", example = "SUCCESS")
+        private String status;
+
+        @Schema(description = "Detail message", example = "Task is already claimed by jane.doe")
+        private String message;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.backend.dto;
+
+/**
+ * How a paged search computes its total
+ */
+public enum CountMode {
+
+    /**
+     * Run an exact count with every page
+     */
+    EXACT,
+
+    /**
+     * Reuse a recently computed count, refreshed in the background once stale
+     */
+    CACHED,
+
+    /**
+     * Skip the count; rely on hasNext (total = -1)
+     */
+    NONE
+}
@@ -0,0 +1,32 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A page of the engine event log, read forward from a cursor")
+public class EventLogPage {
+
+    @Schema(description = "Entries after the cursor, oldest first")
+    @Builder.Default
+    private List<EventLogDto> entries = new ArrayList<>();
+
+    @Schema(description = "Cursor for the next call (last log number returned, or the request cursor if nothing new)", example = "1042")
+    private long nextCursor;
+
+    @Schema(description = "Whether more entries were already available beyond this page")
+    private boolean hasMore;
+
+    @Schema(description = "Whether the engine writes the event log (app.events.database-logging); when false no entries will arrive")
+    @Builder.Default
+    private boolean loggingEnabled = true;
+}
@@ -0,0 +1,39 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of one history cleanup run")
+public class HistoryCleanupResult {
+
+    @Schema(description = "Finished process instances archived and removed from history")
+    private long instances;
+
+    @Schema(description = "Historic tasks removed with them")
+    private long tasks;
+
+    @Schema(description = "Historic activity instances removed with them")
+    private long activities;
+
+    @Schema(description = "Historic variables removed with them")
+    private long variables;
+
+    @Schema(description = "Total history rows removed (instances + tasks + activities + variables)")
+    private long rowsRemoved;
+
+    @Schema(description = "Compressed NDJSON archive written by this run, null when nothing was archived")
+    private String archiveFile;
+
+    @Schema(description = "Run time in milliseconds")
+    private long durationMs;
+
+    @Schema(description = "True when the run was skipped because another run was in progress")
+    private boolean skipped;
+}
@@ -0,0 +1,62 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a CSV bulk import into a staging sheet")
+public class ImportResultDto {
+
+    @Schema(description = "Task the import was attached to", example = "task123")
+    private String taskId;
+
+    @Schema(description = "Entity type imported", example = "item")
+    private String entityType;
+
+    @Schema(description = "New sheet ID (null when nothing was committed)", example = "SHEET-1A2B3C4D")
+    private String sheetId;
+
+    @Schema(description = "New sheet version", example = "2")
+    private Integer version;
+
+    @Schema(description = "Data rows read from the file", example = "100000")
+    private long rowsRead;
+
+    @Schema(description = "Rows written to the staging table", example = "99998")
+    private long rowsImported;
+
+    @Schema(description = "Total number of rejected rows", example = "2")
+    private long errorCount;
+
+    @Schema(description = "Whether the import was committed")
+    private boolean committed;
+
+    @Schema(description = "Row-level errors (truncated to the first few hundred)")
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Validation error for one CSV row")
+    public static class RowError {
+
+        @Schema(description = "Data row number (1 = first row after the header)", example = "42")
+        private long row;
+
+        @Schema(description = "Field in error", example = "price")
+        private String field;
+
+        @Schema(description = "Error message", example = "must be a number")
+        private String message;
+    }
+}
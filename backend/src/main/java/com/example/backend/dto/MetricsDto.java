@@ -23,7 +23,7 @@ public class MetricsDto {
     @Schema(description = "Total tasks count")
     public long totalTasks;
     
-    @Schema(description = "Process instances by day (last 7 days)")
+    @Schema(description = "Process instances started per day (last N days, default 7)")
     public List<DailyCount> instancesByDay;
     
     @Schema(description = "Tasks grouped by state")
@@ -32,6 +32,12 @@ public class MetricsDto {
     @Schema(description = "Average duration by process definition")
     public List<DurationMetric> avgDurationByDefinition;
 
+    @Schema(description = "Completed process duration percentiles by process definition ('*' for all)")
+    public List<DurationPercentiles> durationByDefinition;
+
+    @Schema(description = "Completed task cycle time percentiles by process definition and task definition key")
+    public List<DurationPercentiles> taskCycleTimes;
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -58,5 +64,21 @@ public class MetricsDto {
         public String definitionKey;
         public double minutes;
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DurationPercentiles {
+        public String definitionKey;
+        @Schema(description = "Task definition key (task cycle times only)", example = "stage2CheckerTask")
+        public String taskDefinitionKey;
+        public long count;
+        public double avgMinutes;
+        public double p50Minutes;
+        public double p90Minutes;
+        public double p99Minutes;
+        public double maxMinutes;
+    }
 }
 
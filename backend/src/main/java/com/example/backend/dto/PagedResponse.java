@@ -17,7 +17,22 @@ public class PagedResponse<T> {
     @Schema(description = "List of items in current page")
     public List<T> content;
     
-    @Schema(description = "Total number of items")
+    @Schema(description = "Total number of items (-1 when not computed, e.g. keyset paging or countMode=NONE)")
     public long total;
+    
+    @Schema(description = "True when total is a cached value that may lag behind the data (countMode=CACHED)")
+    public Boolean totalApproximate;
+    
+    @Schema(description = "Zero-based page number (offset paging only)")
+    public Integer page;
+    
+    @Schema(description = "Page size applied by the server")
+    public Integer size;
+    
+    @Schema(description = "Whether another page exists")
+    public Boolean hasNext;
+    
+    @Schema(description = "Cursor for the next page (keyset paging), null on the last page")
+    public String nextCursor;
 }
 
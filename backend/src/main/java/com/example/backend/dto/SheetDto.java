@@ -18,5 +18,6 @@ public class SheetDto {
     private LocalDateTime approvedAt;
     private String status;
     private String comments;
+    private Long approvalRevision; // Bumped on every approval change (see ETag on data-query endpoints)
 }
 
@@ -0,0 +1,49 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Latest background sample of the engine (ACT_*) table sizes")
+public class TableStatsDto {
+
+    @Schema(description = "When the sample was taken (ISO-8601), null before the first sample")
+    private String sampledAt;
+
+    @Schema(description = "Age of the sample in milliseconds")
+    private long ageMs;
+
+    @Schema(description = "True when rows are metadata-based estimates rather than exact counts")
+    private boolean estimated;
+
+    @Schema(description = "Time span the growth rates are computed over, in minutes")
+    private double growthWindowMinutes;
+
+    @Schema(description = "Per-table rows and growth, largest first")
+    @Builder.Default
+    private List<TableStat> tables = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TableStat {
+
+        @Schema(example = "ACT_HI_ACTINST")
+        private String table;
+
+        private long rows;
+
+        @Schema(description = "Rows added per hour over the growth window (negative when shrinking)")
+        private double growthPerHour;
+    }
+}
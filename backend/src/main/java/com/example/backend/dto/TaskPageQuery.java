@@ -0,0 +1,40 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Paging, sorting and filter parameters of the task list endpoints (bound from query parameters).
+ * Either page (offset paging) or cursor (keyset paging, from a previous nextCursor) is used.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Task list paging, sorting and filters")
+public class TaskPageQuery {
+    
+    @Schema(description = "Zero-based page number (ignored when cursor is set)", example = "0")
+    private Integer page;
+    
+    @Schema(description = "Page size (capped by app.tasks.max-page-size)", example = "50")
+    private Integer size;
+    
+    @Schema(description = "Sort field: createTime, priority or dueDate", example = "createTime")
+    private String sort;
+    
+    @Schema(description = "Sort direction: asc or desc", example = "desc")
+    private String direction;
+    
+    @Schema(description = "Only tasks of this process definition key", example = "threeStageProcess")
+    private String processDefinitionKey;
+    
+    @Schema(description = "Only tasks with this task definition key", example = "stage1MakerTask")
+    private String taskDefinitionKey;
+    
+    @Schema(description = "Keyset cursor returned as nextCursor by the previous page (createTime/priority sort only)")
+    private String cursor;
+}
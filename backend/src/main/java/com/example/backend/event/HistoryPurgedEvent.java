@@ -0,0 +1,18 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published after a history cleanup run removed finished process instances (with their
+ * tasks, activities and variables) from the history tables.
+ */
+@Getter
+@RequiredArgsConstructor
+public class HistoryPurgedEvent {
+
+    /**
+     * Number of process instances removed
+     */
+    private final long instances;
+}
@@ -0,0 +1,23 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a master (actual) table has been rewritten, e.g. by DataMigrationServiceImpl.
+ * Listeners that cache master data should react after the publishing transaction commits.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MasterDataChangedEvent {
+
+    /**
+     * The entity type whose master table changed: item, plan, or product
+     */
+    private final String entityType;
+
+    /**
+     * The sheet the new master rows were taken from
+     */
+    private final String sheetId;
+}
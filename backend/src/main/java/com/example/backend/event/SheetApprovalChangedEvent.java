@@ -0,0 +1,18 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when the approval state of a sheet (or of any of its staging rows) changes,
+ * i.e. whenever the sheet's approval revision is bumped.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SheetApprovalChangedEvent {
+
+    /**
+     * The sheet whose approval state changed
+     */
+    private final String sheetId;
+}
@@ -0,0 +1,42 @@
+package com.example.backend.event;
+
+import com.example.backend.dto.TaskDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Published by the task inbox whenever a task row or its candidates change.
+ * Carries the audience (users and groups) that can see the task before and after the change,
+ * so push subscribers can be filtered without another query.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskChangedEvent {
+
+    /**
+     * The task that changed
+     */
+    private final String taskId;
+
+    /**
+     * CREATED, UPDATED or REMOVED
+     */
+    private final String action;
+
+    /**
+     * The task after the change (null when removed)
+     */
+    private final TaskDto task;
+
+    /**
+     * Assignee, previous assignee, owner and candidate users
+     */
+    private final Set<String> users;
+
+    /**
+     * Candidate groups
+     */
+    private final Set<String> groups;
+}
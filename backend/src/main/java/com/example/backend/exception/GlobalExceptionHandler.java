@@ -23,6 +23,25 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    /**
+     * Handle task claim conflicts (claimed or modified concurrently by someone else).
+     * Claim call sites translate the Flowable exceptions into TaskClaimConflictException; other
+     * optimistic locking failures are not claim conflicts and go through the Flowable handler.
+     */
+    @ExceptionHandler(TaskClaimConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflictException(TaskClaimConflictException ex) {
+        logger.info("Conflict: {}", ex.getMessage());
+        
+        Map<String, Object> errorResponse = createErrorResponse(
+            HttpStatus.CONFLICT,
+            "Conflict",
+            ex.getMessage(),
+            "TASK_CONFLICT"
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handle Flowable-specific exceptions
      */
@@ -0,0 +1,19 @@
+package com.example.backend.exception;
+
+/**
+ * Thrown when a task cannot be claimed because another user claimed (or updated) it first.
+ * Mapped to 409 Conflict by {@link GlobalExceptionHandler}.
+ */
+public class TaskClaimConflictException extends RuntimeException {
+
+    private final String taskId;
+
+    public TaskClaimConflictException(String taskId, String message, Throwable cause) {
+        super(message, cause);
+        this.taskId = taskId;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+}
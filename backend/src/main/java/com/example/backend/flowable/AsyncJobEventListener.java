@@ -0,0 +1,82 @@
+package com.example.backend.flowable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.engine.RuntimeService;
+import org.flowable.job.api.Job;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts async job outcomes as flowable.async.jobs{outcome, handler}: executed, failed, retried,
+ * dead_letter (out of retries) and rejected (executor queue full, job handed back for re-acquisition).
+ * The dead-letter rate is the rate of outcome=dead_letter.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncJobEventListener extends AbstractFlowableEventListener {
+
+    private final MeterRegistry meterRegistry;
+    private final RuntimeService runtimeService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        runtimeService.addEventListener(this,
+                FlowableEngineEventType.JOB_EXECUTION_SUCCESS,
+                FlowableEngineEventType.JOB_EXECUTION_FAILURE,
+                FlowableEngineEventType.JOB_RETRIES_DECREMENTED,
+                FlowableEngineEventType.JOB_MOVED_TO_DEADLETTER,
+                FlowableEngineEventType.JOB_REJECTED);
+        log.info("✓ Async job metrics listener registered");
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (!(event.getType() instanceof FlowableEngineEventType)) {
+            return;
+        }
+        String outcome;
+        switch ((FlowableEngineEventType) event.getType()) {
+            case JOB_EXECUTION_SUCCESS:
+                outcome = "executed";
+                break;
+            case JOB_EXECUTION_FAILURE:
+                outcome = "failed";
+                break;
+            case JOB_RETRIES_DECREMENTED:
+                outcome = "retried";
+                break;
+            case JOB_MOVED_TO_DEADLETTER:
+                outcome = "dead_letter";
+                break;
+            case JOB_REJECTED:
+                outcome = "rejected";
+                break;
+            default:
+                return;
+        }
+        Object entity = event instanceof FlowableEntityEvent ? ((FlowableEntityEvent) event).getEntity() : null;
+        String handler = entity instanceof Job && ((Job) entity).getJobHandlerType() != null
+                ? ((Job) entity).getJobHandlerType() : "unknown";
+        Counter.builder("flowable.async.jobs")
+                .description("Async and timer job outcomes")
+                .tag("outcome", outcome)
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        // Metrics must never fail a job
+        return false;
+    }
+}
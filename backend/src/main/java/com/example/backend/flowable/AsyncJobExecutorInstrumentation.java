@@ -0,0 +1,188 @@
+package com.example.backend.flowable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pool and meters for the Flowable async job executor.
+ * The pool replaces the engine's default task executor (see FlowableEngineConfig) so its size is
+ * configurable per node and its threads, queue and job run times are visible; a command interceptor
+ * times the acquisition cycles and counts optimistic lock conflicts.
+ */
+@Component
+@Slf4j
+public class AsyncJobExecutorInstrumentation {
+
+    private static final String ACQUIRE_ASYNC_JOBS = "AcquireJobsCmd";
+    private static final String ACQUIRE_TIMER_JOBS = "AcquireTimerJobsCmd";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor taskExecutor;
+    private final Timer jobExecution;
+    private final Timer queueWait;
+
+    public AsyncJobExecutorInstrumentation(
+            MeterRegistry meterRegistry,
+            @Value("${app.async-executor.core-pool-size:8}") int corePoolSize,
+            @Value("${app.async-executor.max-pool-size:8}") int maxPoolSize,
+            @Value("${app.async-executor.queue-capacity:2048}") int queueCapacity,
+            @Value("${app.async-executor.keep-alive-seconds:5}") int keepAliveSeconds) {
+        if (corePoolSize < 1 || maxPoolSize < corePoolSize || queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid app.async-executor pool settings: core " + corePoolSize
+                    + ", max " + maxPoolSize + ", queue " + queueCapacity);
+        }
+        this.meterRegistry = meterRegistry;
+        this.jobExecution = Timer.builder("flowable.async.job.execution")
+                .description("Run time of async and timer jobs on the executor pool")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("flowable.async.job.queue.wait")
+                .description("Time acquired jobs wait in the executor queue before a thread picks them up")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(corePoolSize);
+        taskExecutor.setMaxPoolSize(maxPoolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setKeepAliveSeconds(keepAliveSeconds);
+        taskExecutor.setThreadNamePrefix("flowable-async-job-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(30);
+        taskExecutor.setTaskDecorator(this::timed);
+        taskExecutor.initialize();
+
+        ThreadPoolExecutor pool = taskExecutor.getThreadPoolExecutor();
+        Gauge.builder("flowable.async.executor.threads.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Executor threads currently running a job")
+                .register(meterRegistry);
+        Gauge.builder("flowable.async.executor.threads", pool, ThreadPoolExecutor::getPoolSize)
+                .description("Executor threads alive")
+                .register(meterRegistry);
+        Gauge.builder("flowable.async.executor.queue.size", pool, p -> p.getQueue().size())
+                .description("Acquired jobs waiting for an executor thread")
+                .register(meterRegistry);
+        Gauge.builder("flowable.async.executor.queue.remaining", pool, p -> p.getQueue().remainingCapacity())
+                .description("Free executor queue slots; acquisition stops when this reaches zero")
+                .register(meterRegistry);
+        log.info("✓ Async job executor pool: core {}, max {}, queue {}", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    /**
+     * Pool used as the engine's async task executor
+     */
+    public ThreadPoolTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * Interceptor for the engine command stack (custom pre-command interceptors)
+     */
+    public CommandInterceptor getCommandInterceptor() {
+        return new AcquisitionTimingInterceptor();
+    }
+
+    /**
+     * Current pool state, for the job statistics endpoint
+     */
+    public Map<String, Object> getPoolSnapshot() {
+        ThreadPoolExecutor pool = taskExecutor.getThreadPoolExecutor();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("corePoolSize", pool.getCorePoolSize());
+        snapshot.put("maxPoolSize", pool.getMaximumPoolSize());
+        snapshot.put("threads", pool.getPoolSize());
+        snapshot.put("activeThreads", pool.getActiveCount());
+        snapshot.put("queued", pool.getQueue().size());
+        snapshot.put("queueRemaining", pool.getQueue().remainingCapacity());
+        snapshot.put("completedJobs", pool.getCompletedTaskCount());
+        snapshot.put("jobExecutionMeanMs", jobExecution.mean(TimeUnit.MILLISECONDS));
+        snapshot.put("jobExecutionMaxMs", jobExecution.max(TimeUnit.MILLISECONDS));
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // The engine (which depends on this bean) has stopped acquiring by now
+        taskExecutor.shutdown();
+    }
+
+    private Runnable timed(Runnable job) {
+        long queuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            queueWait.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+            try {
+                job.run();
+            } finally {
+                jobExecution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private static String commandName(Command<?> command) {
+        String name = command.getClass().getSimpleName();
+        // Lambda commands would give one tag value per call site and class instance
+        return name.endsWith("Cmd") ? name : "other";
+    }
+
+    /**
+     * Times AcquireJobsCmd / AcquireTimerJobsCmd (one acquisition cycle each, including the lock update)
+     * and counts optimistic lock conflicts per command
+     */
+    private class AcquisitionTimingInterceptor extends AbstractCommandInterceptor {
+
+        @Override
+        public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+            String name = commandName(command);
+            String acquisition = ACQUIRE_ASYNC_JOBS.equals(name) ? "async"
+                    : ACQUIRE_TIMER_JOBS.equals(name) ? "timer" : null;
+            long start = System.nanoTime();
+            try {
+                T result = next.execute(config, command, commandExecutor);
+                if (acquisition != null && result instanceof Collection) {
+                    DistributionSummary.builder("flowable.async.acquisition.jobs")
+                            .description("Jobs acquired per acquisition cycle")
+                            .tag("type", acquisition)
+                            .register(meterRegistry)
+                            .record(((Collection<?>) result).size());
+                }
+                return result;
+            } catch (FlowableOptimisticLockingException e) {
+                Counter.builder("flowable.engine.lock.conflicts")
+                        .description("Commands that lost an optimistic lock (job locks, concurrent updates)")
+                        .tag("command", name)
+                        .register(meterRegistry)
+                        .increment();
+                throw e;
+            } finally {
+                if (acquisition != null) {
+                    Timer.builder("flowable.async.acquisition")
+                            .description("Duration of one job acquisition cycle")
+                            .tag("type", acquisition)
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+}
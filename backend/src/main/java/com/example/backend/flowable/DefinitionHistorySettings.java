@@ -0,0 +1,65 @@
+package com.example.backend.flowable;
+
+import com.example.backend.util.FlowableQueryUtils;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.DefaultHistoryConfigurationSettings;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * History settings with a per-process-definition history level (by definition key) and
+ * variables that are never written to history (by name, or by type such as serializable/bytes).
+ * Definitions without an override keep the engine-wide level.
+ */
+public class DefinitionHistorySettings extends DefaultHistoryConfigurationSettings {
+
+    private final Map<String, HistoryLevel> levelsByDefinitionKey;
+    private final Set<String> excludedVariableNames;
+    private final Set<String> excludedVariableTypes;
+
+    public DefinitionHistorySettings(ProcessEngineConfigurationImpl engineConfiguration,
+                                     Map<String, HistoryLevel> levelsByDefinitionKey,
+                                     Set<String> excludedVariableNames,
+                                     Set<String> excludedVariableTypes) {
+        super(engineConfiguration);
+        this.levelsByDefinitionKey = levelsByDefinitionKey;
+        this.excludedVariableNames = excludedVariableNames;
+        this.excludedVariableTypes = excludedVariableTypes;
+    }
+
+    @Override
+    public boolean isHistoryLevelAtLeast(HistoryLevel level, String processDefinitionId) {
+        HistoryLevel override = levelOf(processDefinitionId);
+        return override != null ? override.isAtLeast(level) : super.isHistoryLevelAtLeast(level, processDefinitionId);
+    }
+
+    @Override
+    public boolean isHistoryEnabled(String processDefinitionId) {
+        HistoryLevel override = levelOf(processDefinitionId);
+        return override != null ? override != HistoryLevel.NONE : super.isHistoryEnabled(processDefinitionId);
+    }
+
+    @Override
+    public boolean isHistoryEnabledForVariableInstance(VariableInstanceEntity variableInstanceEntity) {
+        return !isExcluded(variableInstanceEntity) && super.isHistoryEnabledForVariableInstance(variableInstanceEntity);
+    }
+
+    @Override
+    public boolean isHistoryEnabledForVariableInstance(String processDefinitionId, VariableInstanceEntity variableInstanceEntity) {
+        return !isExcluded(variableInstanceEntity)
+                && super.isHistoryEnabledForVariableInstance(processDefinitionId, variableInstanceEntity);
+    }
+
+    private HistoryLevel levelOf(String processDefinitionId) {
+        String key = FlowableQueryUtils.processDefinitionKey(processDefinitionId);
+        return key != null ? levelsByDefinitionKey.get(key) : null;
+    }
+
+    private boolean isExcluded(VariableInstanceEntity variable) {
+        return excludedVariableNames.contains(variable.getName())
+                || (variable.getTypeName() != null && excludedVariableTypes.contains(variable.getTypeName()));
+    }
+}
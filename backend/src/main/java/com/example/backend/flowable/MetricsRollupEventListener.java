@@ -0,0 +1,123 @@
+package com.example.backend.flowable;
+
+import com.example.backend.service.MetricsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * Feeds the metrics rollup store from engine events.
+ * The store applies each update after the engine transaction commits.
+ * Registered (and the store rebuilt from history) once the application is ready.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MetricsRollupEventListener extends AbstractFlowableEventListener {
+
+    private final MetricsRollupService metricsRollupService;
+    private final RuntimeService runtimeService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        runtimeService.addEventListener(this,
+                FlowableEngineEventType.PROCESS_STARTED,
+                FlowableEngineEventType.PROCESS_COMPLETED,
+                FlowableEngineEventType.PROCESS_COMPLETED_WITH_TERMINATE_END_EVENT,
+                FlowableEngineEventType.PROCESS_COMPLETED_WITH_ERROR_END_EVENT,
+                FlowableEngineEventType.PROCESS_CANCELLED,
+                FlowableEngineEventType.TASK_CREATED,
+                FlowableEngineEventType.TASK_ASSIGNED,
+                FlowableEngineEventType.TASK_COMPLETED,
+                FlowableEngineEventType.ENTITY_UPDATED,
+                FlowableEngineEventType.ENTITY_DELETED,
+                FlowableEngineEventType.ENTITY_SUSPENDED,
+                FlowableEngineEventType.ENTITY_ACTIVATED);
+        metricsRollupService.rebuild();
+        log.info("✓ Metrics rollup listener registered");
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (!(event.getType() instanceof FlowableEngineEventType)) {
+            return;
+        }
+        FlowableEngineEventType type = (FlowableEngineEventType) event.getType();
+        Object entity = event instanceof FlowableEntityEvent ? ((FlowableEntityEvent) event).getEntity() : null;
+
+        if (entity instanceof Task) {
+            onTaskEvent(type, (Task) entity);
+            return;
+        }
+        switch (type) {
+            case PROCESS_STARTED:
+                if (event instanceof FlowableEngineEvent) {
+                    FlowableEngineEvent engineEvent = (FlowableEngineEvent) event;
+                    Date startTime = entity instanceof ProcessInstance ? ((ProcessInstance) entity).getStartTime() : null;
+                    metricsRollupService.processStarted(engineEvent.getProcessInstanceId(),
+                            engineEvent.getProcessDefinitionId(), startTime != null ? startTime : new Date());
+                }
+                break;
+            case PROCESS_COMPLETED:
+            case PROCESS_COMPLETED_WITH_TERMINATE_END_EVENT:
+            case PROCESS_COMPLETED_WITH_ERROR_END_EVENT:
+            case PROCESS_CANCELLED:
+                if (event instanceof FlowableEngineEvent) {
+                    metricsRollupService.processEnded(((FlowableEngineEvent) event).getProcessInstanceId(), new Date(),
+                            type != FlowableEngineEventType.PROCESS_CANCELLED);
+                }
+                break;
+            case ENTITY_SUSPENDED:
+            case ENTITY_ACTIVATED:
+                // Only the process instance itself, not its child executions
+                if (entity instanceof ProcessInstance) {
+                    ProcessInstance pi = (ProcessInstance) entity;
+                    if (pi.getId().equals(pi.getProcessInstanceId())) {
+                        metricsRollupService.processSuspended(pi.getId(), type == FlowableEngineEventType.ENTITY_SUSPENDED);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onTaskEvent(FlowableEngineEventType type, Task task) {
+        switch (type) {
+            case TASK_CREATED:
+                metricsRollupService.taskCreated(task.getId(), task.getProcessDefinitionId(),
+                        task.getTaskDefinitionKey(), task.getAssignee(), task.getCreateTime());
+                break;
+            case TASK_ASSIGNED:
+            case ENTITY_UPDATED:
+                // Claim, unclaim, assign
+                metricsRollupService.taskAssigned(task.getId(), task.getAssignee(), new Date());
+                break;
+            case TASK_COMPLETED:
+            case ENTITY_DELETED:
+                // TASK_COMPLETED arrives before the ENTITY_DELETED of the same task; only completions get a cycle time
+                metricsRollupService.taskEnded(task.getId(), new Date(), type == FlowableEngineEventType.TASK_COMPLETED);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        // Metrics must never break an engine operation; a drifted store is fixed by a rebuild
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backend.flowable;
+
+import com.example.backend.service.TaskInboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.engine.RuntimeService;
+import org.flowable.identitylink.api.IdentityLink;
+import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.task.api.Task;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the task inbox read model in sync with the Flowable runtime.
+ * Runs inside the engine command, so inbox writes commit or roll back together with the task change.
+ * Registered (and the inbox rebuilt if it is out of date) once the application is ready.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskInboxEventListener extends AbstractFlowableEventListener {
+    
+    private final TaskInboxService taskInboxService;
+    private final RuntimeService runtimeService;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        runtimeService.addEventListener(this,
+                FlowableEngineEventType.TASK_CREATED,
+                FlowableEngineEventType.TASK_ASSIGNED,
+                FlowableEngineEventType.TASK_COMPLETED,
+                FlowableEngineEventType.ENTITY_CREATED,
+                FlowableEngineEventType.ENTITY_UPDATED,
+                FlowableEngineEventType.ENTITY_DELETED,
+                FlowableEngineEventType.ENTITY_SUSPENDED,
+                FlowableEngineEventType.ENTITY_ACTIVATED);
+        taskInboxService.rebuildIfOutOfDate();
+        log.info("✓ Task inbox listener registered");
+    }
+    
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (!(event instanceof FlowableEntityEvent) || !(event.getType() instanceof FlowableEngineEventType)) {
+            return;
+        }
+        Object entity = ((FlowableEntityEvent) event).getEntity();
+        FlowableEngineEventType type = (FlowableEngineEventType) event.getType();
+        
+        if (entity instanceof Task) {
+            onTaskEvent(type, (Task) entity);
+        } else if (entity instanceof IdentityLink) {
+            onIdentityLinkEvent(type, (IdentityLink) entity);
+        }
+    }
+    
+    private void onTaskEvent(FlowableEngineEventType type, Task task) {
+        switch (type) {
+            case TASK_CREATED:
+                // Candidate links from the BPMN definition are in place by the time TASK_CREATED fires
+                taskInboxService.upsert(task, true);
+                break;
+            case TASK_ASSIGNED:
+            case ENTITY_UPDATED:
+            case ENTITY_SUSPENDED:
+            case ENTITY_ACTIVATED:
+                // Claim, unclaim, assign, delegate, priority/due date changes
+                taskInboxService.upsert(task, false);
+                break;
+            case TASK_COMPLETED:
+            case ENTITY_DELETED:
+                taskInboxService.remove(task.getId());
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void onIdentityLinkEvent(FlowableEngineEventType type, IdentityLink link) {
+        if (link.getTaskId() == null || !IdentityLinkType.CANDIDATE.equals(link.getType())) {
+            return;
+        }
+        if (type == FlowableEngineEventType.ENTITY_CREATED) {
+            taskInboxService.addCandidate(link.getTaskId(), link.getGroupId(), link.getUserId());
+        } else if (type == FlowableEngineEventType.ENTITY_DELETED) {
+            taskInboxService.removeCandidate(link.getTaskId(), link.getGroupId(), link.getUserId());
+        }
+    }
+    
+    @Override
+    public boolean isFailOnException() {
+        // Inbox writes share the engine transaction; a failure must not leave the inbox out of sync
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * One broadcast cache eviction (the JDBC transport of the cache invalidation bus).
+ * Every node polls for rows written by other nodes; rows are deleted after the retention period.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "cache_invalidation", indexes = {
+        @Index(name = "idx_cache_invalidation_created", columnList = "created_at")
+})
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(name = "cache_name", nullable = false)
+    private String cacheName;
+
+    /**
+     * Evicted key, or null when the whole cache was cleared
+     */
+    @Column(name = "cache_key", length = 1000)
+    private String cacheKey;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at", nullable = false)
+    private Date createdAt;
+}
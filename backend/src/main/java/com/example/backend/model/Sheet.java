@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -18,6 +19,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
 @Table(name = "sheets")
 public class Sheet {
     
@@ -60,6 +62,11 @@ public class Sheet {
     @Column
     private String comments;
     
+    // Only changed by SheetRepository.incrementApprovalRevision; @DynamicUpdate keeps entity saves from writing it back
+    @Column(nullable = false)
+    @Builder.Default
+    private Long approvalRevision = 0L; // Bumped whenever row approval flags or sheet approval change (drives the ETag)
+    
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
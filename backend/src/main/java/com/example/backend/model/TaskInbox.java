@@ -0,0 +1,82 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Denormalized read model of open Flowable tasks (one row per task).
+ * Kept in sync by TaskInboxEventListener so inbox queries never join ACT_RU_TASK with ACT_RU_IDENTITYLINK.
+ * Candidate users/groups live in TaskInboxCandidate.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_inbox", indexes = {
+        @Index(name = "idx_task_inbox_assignee_created", columnList = "assignee, create_time"),
+        @Index(name = "idx_task_inbox_created", columnList = "create_time"),
+        @Index(name = "idx_task_inbox_process_instance", columnList = "process_instance_id")
+})
+public class TaskInbox {
+    
+    @Id
+    @Column(length = 64)
+    private String taskId;
+    
+    @Column
+    private String name;
+    
+    @Column(length = 4000)
+    private String description;
+    
+    @Column
+    private String assignee;
+    
+    @Column
+    private String owner;
+    
+    @Column(name = "process_instance_id")
+    private String processInstanceId;
+    
+    @Column
+    private String processDefinitionId;
+    
+    @Column
+    private String processDefinitionKey;
+    
+    @Column
+    private String executionId;
+    
+    @Column
+    private String taskDefinitionKey;
+    
+    @Column
+    private String formKey;
+    
+    @Column
+    private String category;
+    
+    @Column
+    private String tenantId;
+    
+    @Column(nullable = false)
+    private Integer priority;
+    
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "create_time")
+    private Date createTime;
+    
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column
+    private Date dueDate;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean suspended = false;
+}
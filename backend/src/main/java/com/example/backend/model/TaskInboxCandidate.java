@@ -0,0 +1,37 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Candidate user or group of an inbox task (mirrors the task's candidate identity links).
+ * Exactly one of userId / groupId is set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_inbox_candidate", indexes = {
+        @Index(name = "idx_task_inbox_cand_group", columnList = "group_id, task_id"),
+        @Index(name = "idx_task_inbox_cand_user", columnList = "user_id, task_id"),
+        @Index(name = "idx_task_inbox_cand_task", columnList = "task_id")
+})
+public class TaskInboxCandidate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "task_id", nullable = false, length = 64)
+    private String taskId;
+    
+    @Column(name = "group_id")
+    private String groupId;
+    
+    @Column(name = "user_id")
+    private String userId;
+}
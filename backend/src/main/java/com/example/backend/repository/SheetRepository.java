@@ -2,6 +2,9 @@ package com.example.backend.repository;
 
 import com.example.backend.model.Sheet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,5 +18,18 @@ public interface SheetRepository extends JpaRepository<Sheet, Long> {
      * Find the latest sheet (highest version) for a processInstanceId + sheetType combination
      */
     Optional<Sheet> findFirstByProcessInstanceIdAndSheetTypeOrderByVersionDesc(String processInstanceId, String sheetType);
+    
+    /**
+     * Read only the approval revision of a sheet (no row tables touched)
+     */
+    @Query("SELECT s.approvalRevision FROM Sheet s WHERE s.sheetId = :sheetId")
+    Optional<Long> findApprovalRevisionBySheetId(@Param("sheetId") String sheetId);
+    
+    /**
+     * Atomically bump the approval revision of a sheet
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Sheet s SET s.approvalRevision = s.approvalRevision + 1 WHERE s.sheetId = :sheetId")
+    int incrementApprovalRevision(@Param("sheetId") String sheetId);
 }
 
@@ -0,0 +1,32 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.TaskInboxCandidate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskInboxCandidateRepository extends JpaRepository<TaskInboxCandidate, Long> {
+    
+    List<TaskInboxCandidate> findByTaskId(String taskId);
+    
+    boolean existsByTaskIdAndGroupId(String taskId, String groupId);
+    
+    boolean existsByTaskIdAndUserId(String taskId, String userId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskInboxCandidate c WHERE c.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") String taskId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskInboxCandidate c WHERE c.taskId = :taskId AND c.groupId = :groupId")
+    int deleteByTaskIdAndGroupId(@Param("taskId") String taskId, @Param("groupId") String groupId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskInboxCandidate c WHERE c.taskId = :taskId AND c.userId = :userId")
+    int deleteByTaskIdAndUserId(@Param("taskId") String taskId, @Param("userId") String userId);
+}
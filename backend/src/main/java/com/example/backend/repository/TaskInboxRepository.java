@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.TaskInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Task inbox queries are composed from TaskInboxSpecifications
+ */
+@Repository
+public interface TaskInboxRepository extends JpaRepository<TaskInbox, String>,
+        JpaSpecificationExecutor<TaskInbox>, TaskInboxRepositoryCustom {
+}
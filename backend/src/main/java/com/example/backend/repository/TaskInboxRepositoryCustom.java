@@ -0,0 +1,21 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.TaskInbox;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Count-free window queries over the task inbox (used for offset and keyset paging)
+ */
+public interface TaskInboxRepositoryCustom {
+    
+    /**
+     * @param spec Filter (may be null)
+     * @param sort Order, must be total (end with the task id)
+     * @param offset Rows to skip
+     * @param limit Maximum rows to return
+     */
+    List<TaskInbox> findWindow(Specification<TaskInbox> spec, Sort sort, long offset, int limit);
+}
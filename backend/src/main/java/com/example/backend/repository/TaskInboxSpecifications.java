@@ -0,0 +1,103 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.TaskInbox;
+import com.example.backend.model.TaskInboxCandidate;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Query building blocks for the task inbox.
+ * Candidate matching is an EXISTS on task_inbox_candidate (indexed by group/user + task), never a join.
+ */
+public final class TaskInboxSpecifications {
+    
+    private TaskInboxSpecifications() {
+        // Private constructor to prevent instantiation
+    }
+    
+    /**
+     * Tasks assigned to the user, or unassigned tasks the user is a candidate for (directly or through a group)
+     */
+    public static Specification<TaskInbox> assignedOrCandidate(String username, Collection<String> groups) {
+        return (root, query, cb) -> cb.or(
+                cb.equal(root.get("assignee"), username),
+                claimable(root, query, cb, username, groups));
+    }
+    
+    /**
+     * Unassigned, active tasks the user is a candidate for (directly or through a group)
+     */
+    public static Specification<TaskInbox> claimableBy(String username, Collection<String> groups) {
+        return (root, query, cb) -> cb.and(
+                cb.isFalse(root.get("suspended")),
+                claimable(root, query, cb, username, groups));
+    }
+    
+    /**
+     * Unassigned tasks offered to a candidate group
+     */
+    public static Specification<TaskInbox> candidateGroup(String group) {
+        return (root, query, cb) -> cb.and(cb.isNull(root.get("assignee")), groupExists(root, query, cb, group));
+    }
+    
+    /**
+     * Unassigned tasks offered to a candidate group, or tasks assigned to the user
+     */
+    public static Specification<TaskInbox> candidateGroupOrAssignee(String group, String username) {
+        return (root, query, cb) -> cb.or(
+                cb.equal(root.get("assignee"), username),
+                cb.and(cb.isNull(root.get("assignee")), groupExists(root, query, cb, group)));
+    }
+    
+    /**
+     * Filter on process definition key (no-op when null)
+     */
+    public static Specification<TaskInbox> processDefinitionKey(String processDefinitionKey) {
+        return (root, query, cb) -> processDefinitionKey == null || processDefinitionKey.isBlank()
+                ? null : cb.equal(root.get("processDefinitionKey"), processDefinitionKey);
+    }
+    
+    /**
+     * Filter on task definition key (no-op when null)
+     */
+    public static Specification<TaskInbox> taskDefinitionKey(String taskDefinitionKey) {
+        return (root, query, cb) -> taskDefinitionKey == null || taskDefinitionKey.isBlank()
+                ? null : cb.equal(root.get("taskDefinitionKey"), taskDefinitionKey);
+    }
+    
+    /**
+     * Keyset predicate: rows strictly after (sortValue, taskId) in the (sortField, taskId) order
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<TaskInbox> after(String sortField, boolean descending, Comparable sortValue, String taskId) {
+        return (root, query, cb) -> {
+            Path<Comparable> field = root.get(sortField);
+            Path<String> id = root.get("taskId");
+            return descending
+                    ? cb.or(cb.lessThan(field, sortValue), cb.and(cb.equal(field, sortValue), cb.lessThan(id, taskId)))
+                    : cb.or(cb.greaterThan(field, sortValue), cb.and(cb.equal(field, sortValue), cb.greaterThan(id, taskId)));
+        };
+    }
+    
+    private static Predicate claimable(Root<TaskInbox> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                       String username, Collection<String> groups) {
+        Subquery<Long> candidates = query.subquery(Long.class);
+        Root<TaskInboxCandidate> candidate = candidates.from(TaskInboxCandidate.class);
+        Predicate match = groups.isEmpty()
+                ? cb.equal(candidate.get("userId"), username)
+                : cb.or(cb.equal(candidate.get("userId"), username), candidate.get("groupId").in(groups));
+        candidates.select(candidate.get("id"))
+                .where(cb.equal(candidate.get("taskId"), root.get("taskId")), match);
+        return cb.and(cb.isNull(root.get("assignee")), cb.exists(candidates));
+    }
+    
+    private static Predicate groupExists(Root<TaskInbox> root, CriteriaQuery<?> query, CriteriaBuilder cb, String group) {
+        Subquery<Long> candidates = query.subquery(Long.class);
+        Root<TaskInboxCandidate> candidate = candidates.from(TaskInboxCandidate.class);
+        candidates.select(candidate.get("id"))
+                .where(cb.equal(candidate.get("taskId"), root.get("taskId")), cb.equal(candidate.get("groupId"), group));
+        return cb.exists(candidates);
+    }
+}
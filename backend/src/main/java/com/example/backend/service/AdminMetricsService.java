@@ -3,6 +3,8 @@ package com.example.backend.service;
 import com.example.backend.dto.MetricsDto;
 
 public interface AdminMetricsService {
-    MetricsDto getMetrics();
+    /**
+     * @param days Number of days (including today) covered by instancesByDay
+     */
+    MetricsDto getMetrics(int days);
 }
-
@@ -1,16 +1,43 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.ActivityHeatmapDto;
+import com.example.backend.dto.CountMode;
 import com.example.backend.dto.EventLogDto;
+import com.example.backend.dto.EventLogPage;
 import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.ProcessDefinitionDto;
 import com.example.backend.dto.ProcessInstanceDto;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
 
 public interface AdminRuntimeService {
     List<ProcessDefinitionDto> getProcessDefinitions();
-    PagedResponse<ProcessInstanceDto> searchProcessInstances(String definitionKey, String state, int page, int size);
+    /**
+     * @param vars Variable names to attach to each instance; null or empty attaches none
+     * @param countMode How the total is computed (EXACT, CACHED or NONE)
+     */
+    PagedResponse<ProcessInstanceDto> searchProcessInstances(String definitionKey, String state, int page, int size,
+                                                             List<String> vars, CountMode countMode);
     List<EventLogDto> getEventLogs(int limit);
+
+    /**
+     * Read the engine event log forward from a cursor
+     * @param after Return entries with a log number greater than this (null = from the beginning)
+     * @param types Optional event types to include (e.g. TASK_CREATED)
+     * @param processInstanceId Optional process instance filter
+     * @param limit Maximum entries returned
+     * @param waitMs Long-poll: when nothing is available, wait up to this long for new entries (0 = return at once)
+     * @return Completed at once when entries are available, otherwise by the background poller or on timeout
+     */
+    DeferredResult<EventLogPage> tailEventLogs(Long after, List<String> types, String processInstanceId, int limit, long waitMs);
     String generateProcessDiagramSvg(String processInstanceId);
+
+    /**
+     * Count running instances per active activity, with an age distribution, in one aggregate query
+     * @param definitionKey Optional process definition key filter
+     * @param includeDiagram Attach the diagram bounds of each activity (latest definition version) for an overlay
+     */
+    List<ActivityHeatmapDto> getActivityHeatmap(String definitionKey, boolean includeDiagram);
 }
 
@@ -1,9 +1,10 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.CountMode;
 import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.TaskDto;
 
 public interface AdminTaskService {
-    PagedResponse<TaskDto> searchTasks(String candidateGroup, String state, int page, int size);
+    PagedResponse<TaskDto> searchTasks(String candidateGroup, String state, int page, int size, CountMode countMode);
 }
 
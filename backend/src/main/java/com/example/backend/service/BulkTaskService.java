@@ -0,0 +1,53 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.BulkTaskResultDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk task operations for admins.
+ * Tasks are fetched in one query, then processed in chunked transactions; a failing
+ * chunk is retried task by task so one bad task does not roll back its neighbours.
+ */
+public interface BulkTaskService {
+
+    /**
+     * Claim unassigned tasks for a user
+     * @param taskIds Task IDs
+     * @param userId User to claim for
+     * @return Per-task outcomes
+     */
+    BulkTaskResultDto claim(List<String> taskIds, String userId);
+
+    /**
+     * Assign tasks to a user, replacing any current assignee
+     * @param taskIds Task IDs
+     * @param userId New assignee
+     * @return Per-task outcomes
+     */
+    BulkTaskResultDto assign(List<String> taskIds, String userId);
+
+    /**
+     * Remove the assignee from tasks
+     * @param taskIds Task IDs
+     * @return Per-task outcomes
+     */
+    BulkTaskResultDto unclaim(List<String> taskIds);
+
+    /**
+     * Complete tasks
+     * @param taskIds Task IDs
+     * @param variables Variables passed to every completion (may be null)
+     * @return Per-task outcomes
+     */
+    BulkTaskResultDto complete(List<String> taskIds, Map<String, Object> variables);
+
+    /**
+     * Set the priority of tasks
+     * @param taskIds Task IDs
+     * @param priority New priority
+     * @return Per-task outcomes
+     */
+    BulkTaskResultDto setPriority(List<String> taskIds, int priority);
+}
@@ -0,0 +1,46 @@
+package com.example.backend.service;
+
+/**
+ * Broadcasts cache evictions to the other application nodes (SPI).
+ * Local caches are evicted by the caller; the bus only carries the eviction to every other node,
+ * where subscribers apply it. The bundled transport polls a shared database table
+ * (app.cache.invalidation.transport=jdbc); another transport (message broker, Redis pub/sub)
+ * is a bean implementing this interface, with the transport property set to anything else.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Pseudo cache name for the in-memory master data snapshot (key: entity type)
+     */
+    String MASTER_DATA = "masterDataSnapshot";
+
+    /**
+     * Broadcast an eviction to the other nodes; runs in its own transaction
+     * @param cacheName The cache name
+     * @param key The evicted key, or null when the whole cache was cleared
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * Register a subscriber for evictions published by other nodes
+     */
+    void subscribe(Subscriber subscriber);
+
+    /**
+     * @return Id of this node, as recorded with its published evictions
+     */
+    String getNodeId();
+
+    /**
+     * Receives evictions from other nodes (on the bus's delivery thread)
+     */
+    @FunctionalInterface
+    interface Subscriber {
+
+        /**
+         * @param cacheName The cache name
+         * @param key The evicted key, or null when the whole cache was cleared
+         */
+        void onInvalidation(String cacheName, String key);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.CountMode;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of expensive COUNT(*) results for paged searches.
+ * A stale entry is still served while it is recomputed in the background,
+ * so page flips never wait for a count after the first one.
+ */
+public interface CountCacheService {
+
+    /**
+     * Get the cached count for a key, computing it on first use
+     * @param key Identifies the query and its filters
+     * @param counter Runs the actual count
+     * @return The (possibly slightly stale) count
+     */
+    long getCount(String key, LongSupplier counter);
+
+    /**
+     * Resolve a page total according to the requested count mode
+     * @return Exact count, cached count, or -1 for CountMode.NONE
+     */
+    long count(CountMode mode, String key, LongSupplier counter);
+
+    /**
+     * Drop all cached counts
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,75 @@
+package com.example.backend.service;
+
+import org.springframework.http.MediaType;
+
+import java.io.OutputStream;
+
+/**
+ * Streaming export of staging sheets, master tables and sheet history.
+ * Rows are read through a JDBC cursor and written straight to the output stream,
+ * so heap usage does not grow with the number of rows exported.
+ */
+public interface DataExportService {
+
+    /**
+     * Export the staging rows of one sheet
+     * @param entityType The entity type: item, plan, or product
+     * @param sheetId The sheet ID
+     * @param format Output format
+     * @param out Target stream (not closed)
+     */
+    void exportStagingSheet(String entityType, String sheetId, Format format, OutputStream out);
+
+    /**
+     * Export the whole master (actual) table for an entity type
+     * @param entityType The entity type: item, plan, or product
+     * @param format Output format
+     * @param out Target stream (not closed)
+     */
+    void exportMasterData(String entityType, Format format, OutputStream out);
+
+    /**
+     * Export the sheet history (every submitted version and its approval), which is
+     * the record of what was migrated to the master tables
+     * @param processInstanceId Optional process instance filter
+     * @param format Output format
+     * @param out Target stream (not closed)
+     */
+    void exportSheetHistory(String processInstanceId, Format format, OutputStream out);
+
+    /**
+     * Supported export formats
+     */
+    enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return MediaType.parseMediaType(mediaType);
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return NDJSON;
+            }
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value) || format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value + " (use ndjson or csv)");
+        }
+    }
+}
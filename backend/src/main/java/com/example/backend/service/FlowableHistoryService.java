@@ -1,18 +1,44 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.ProcessInstanceDto;
 import com.example.backend.dto.TaskDto;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * History reads. List endpoints are keyset paged (newest first, ID as tie-breaker) with a
+ * capped page size; the stream variants write NDJSON batch by batch up to a hard row limit.
+ * A size of null means the configured default; cursor is the nextCursor of the previous page.
+ */
 public interface FlowableHistoryService {
-    List<ProcessInstanceDto> getProcessHistory(String processKey);
-    List<ProcessInstanceDto> getAllProcessHistory();
+    PagedResponse<ProcessInstanceDto> getProcessHistory(String processKey, Integer size, String cursor);
+    PagedResponse<ProcessInstanceDto> getAllProcessHistory(Integer size, String cursor);
     ProcessInstanceDto getHistoricProcessInstance(String processInstanceId);
     List<TaskDto> getTaskHistory(String processInstanceId);
-    List<TaskDto> getTaskHistoryByUser(String user);
-    List<TaskDto> getCompletedTasks();
+    PagedResponse<TaskDto> getTaskHistoryByUser(String user, Integer size, String cursor);
+    PagedResponse<TaskDto> getCompletedTasks(Integer size, String cursor);
     Map<String, Object> getProcessStatistics();
     Map<String, Object> getTaskStatistics();
-    List<ProcessInstanceDto> getProcessHistoryByDateRange(String startDate, String endDate);
+    PagedResponse<ProcessInstanceDto> getProcessHistoryByDateRange(String startDate, String endDate, Integer size, String cursor);
+
+    /**
+     * Stream historic process instances as NDJSON, newest first
+     * @param processKey Optional process definition key filter
+     * @param startDate Optional lower bound on the start time (yyyy-MM-dd)
+     * @param endDate Optional upper bound on the start time (yyyy-MM-dd)
+     * @param limit Maximum rows written (null or larger than the configured cap = the cap)
+     * @param out Target stream (not closed)
+     */
+    void streamProcessHistory(String processKey, String startDate, String endDate, Integer limit, OutputStream out);
+
+    /**
+     * Stream historic tasks as NDJSON, newest first
+     * @param user Optional assignee filter (ordered by start time)
+     * @param completedOnly Only finished tasks (ordered by end time when no user is given)
+     * @param limit Maximum rows written (null or larger than the configured cap = the cap)
+     * @param out Target stream (not closed)
+     */
+    void streamTaskHistory(String user, boolean completedOnly, Integer limit, OutputStream out);
 }
@@ -1,7 +1,9 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.ProcessInstanceDto;
 import com.example.backend.dto.TaskDto;
+import com.example.backend.dto.TaskPageQuery;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +16,6 @@ public interface FlowableProcessService {
     void suspendProcessInstance(String processInstanceId);
     void activateProcessInstance(String processInstanceId);
     void deleteProcessInstance(String processInstanceId, String reason);
-    List<TaskDto> getTasksForUser(String user);
+    PagedResponse<TaskDto> getTasksForUser(String user, TaskPageQuery query);
     Map<String, String> getProcessStatistics();
 }
\ No newline at end of file
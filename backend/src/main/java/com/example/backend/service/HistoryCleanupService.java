@@ -0,0 +1,16 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.HistoryCleanupResult;
+
+/**
+ * Archives finished process instances older than the retention period into gzip-compressed
+ * NDJSON files and then removes them from the ACT_HI_* tables. Runs on a fixed delay,
+ * in small batches with a pause between them, up to a per-run limit.
+ */
+public interface HistoryCleanupService {
+
+    /**
+     * Run one cleanup pass now (skipped if a pass is already running on any node)
+     */
+    HistoryCleanupResult runCleanup();
+}
@@ -0,0 +1,34 @@
+package com.example.backend.service;
+
+import java.util.List;
+
+/**
+ * In-memory, versioned snapshot of the master (actual) tables.
+ * Master data only changes through migration, so reads are served from memory and the snapshot
+ * is swapped atomically after each migration commit (or when another node reports a change).
+ */
+public interface MasterDataSnapshotService {
+
+    /**
+     * Get the master rows for an entity type from the current snapshot (loaded on first use)
+     * @param entityType The entity type: item, plan, or product
+     * @return Unmodifiable list of master rows
+     */
+    List<?> getMasterData(String entityType);
+
+    /**
+     * @return Version of the current snapshot (0 before the first load)
+     */
+    long getVersion();
+
+    /**
+     * Reload one master table and swap it into a new snapshot version
+     * @param entityType The entity type: item, plan, or product
+     */
+    void reload(String entityType);
+
+    /**
+     * Drop the snapshot; the next read reloads every master table
+     */
+    void invalidateAll();
+}
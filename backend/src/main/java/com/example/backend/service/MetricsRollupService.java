@@ -0,0 +1,110 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.MetricsDto;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process rollup of engine activity, fed by Flowable events after commit.
+ * Totals are LongAdder counters per process definition key; starts, completions,
+ * task completions and claims are also kept in hourly and daily ring buffers.
+ * Durations of completed processes and tasks are recorded in mergeable histograms.
+ * Reads never touch the database. The store is rebuilt from the history tables at startup.
+ */
+public interface MetricsRollupService {
+
+    /**
+     * Key used for the totals over all definitions
+     */
+    String ALL_DEFINITIONS = "*";
+
+    /**
+     * Counters kept per process definition key
+     */
+    enum Counter {
+        /** Process instances started */
+        STARTED,
+        /** Process instances ended (completed or cancelled) */
+        COMPLETED,
+        /** Process instances currently running */
+        RUNNING,
+        /** Running process instances that are suspended */
+        SUSPENDED,
+        /** Tasks created */
+        TASKS_CREATED,
+        /** Tasks ended (completed or deleted) */
+        TASKS_COMPLETED,
+        /** Tasks currently open */
+        TASKS_OPEN,
+        /** Open tasks with an assignee */
+        TASKS_ASSIGNED,
+        /** Unassigned tasks that got an assignee */
+        CLAIMS
+    }
+
+    /**
+     * Counters with a time series (STARTED, COMPLETED, TASKS_COMPLETED, CLAIMS)
+     */
+    boolean hasSeries(Counter counter);
+
+    /**
+     * Current value of a counter
+     * @param definitionKey Process definition key, or null for all definitions
+     */
+    long get(Counter counter, String definitionKey);
+
+    /**
+     * Per-day values for the last {@code days} days (oldest first, today last)
+     * @param definitionKey Process definition key, or null for all definitions
+     */
+    long[] daily(Counter counter, String definitionKey, int days);
+
+    /**
+     * Per-hour values for the last {@code hours} hours (oldest first, current hour last)
+     * @param definitionKey Process definition key, or null for all definitions
+     */
+    long[] hourly(Counter counter, String definitionKey, int hours);
+
+    /**
+     * All counters for every definition key, plus "*" for the totals
+     */
+    Map<String, Map<Counter, Long>> snapshot();
+
+    /**
+     * Duration percentiles of completed process instances per definition key, plus "*" for all
+     */
+    List<MetricsDto.DurationPercentiles> processDurations();
+
+    /**
+     * Cycle time percentiles of completed tasks per definition key and task definition key
+     * @param definitionKey Process definition key, or null for all definitions
+     */
+    List<MetricsDto.DurationPercentiles> taskDurations(String definitionKey);
+
+    /**
+     * Reset the store and reload it from the history and runtime tables
+     */
+    void rebuild();
+
+    // Event feed (applied after the surrounding transaction commits)
+
+    void processStarted(String processInstanceId, String processDefinitionId, Date time);
+
+    /**
+     * @param completed False for cancelled/deleted instances (counted, but not in the duration histograms)
+     */
+    void processEnded(String processInstanceId, Date time, boolean completed);
+
+    void processSuspended(String processInstanceId, boolean suspended);
+
+    void taskCreated(String taskId, String processDefinitionId, String taskDefinitionKey, String assignee, Date createTime);
+
+    void taskAssigned(String taskId, String assignee, Date time);
+
+    /**
+     * @param completed False for deleted tasks (counted, but not in the cycle time histograms)
+     */
+    void taskEnded(String taskId, Date time, boolean completed);
+}
@@ -43,5 +43,19 @@ public interface SheetService {
      * Get all sheets (for debugging)
      */
     java.util.List<SheetDto> getAllSheets();
+    
+    /**
+     * Record that row approval flags under a sheet changed (invalidates the sheet's ETag)
+     * @param sheetId The sheet ID
+     */
+    void markApprovalChanged(String sheetId);
+    
+    /**
+     * Get the strong ETag for a sheet and its staging rows, derived from sheetId + approval revision.
+     * Only reads the sheets table, never the row tables.
+     * @param sheetId The sheet ID
+     * @return the quoted ETag, or empty if the sheet doesn't exist
+     */
+    java.util.Optional<String> getSheetETag(String sheetId);
 }
 
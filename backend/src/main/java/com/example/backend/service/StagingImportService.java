@@ -0,0 +1,23 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ImportResultDto;
+
+import java.io.InputStream;
+
+/**
+ * Bulk CSV import of staging rows for a maker task.
+ * Rows are parsed and validated one at a time and written to the staging table in JDBC batches
+ * under a new sheet version, instead of round-tripping the whole list through a task variable.
+ */
+public interface StagingImportService {
+
+    /**
+     * Import a CSV file into a new sheet version for a maker task
+     * @param taskId The maker task (must be assigned to the user); its formKey selects the entity type
+     * @param csv CSV content with a header row (camelCase or snake_case column names)
+     * @param username The importing user
+     * @param allowPartial Commit the valid rows even when some rows are rejected
+     * @return Import counts and row-level errors
+     */
+    ImportResultDto importCsv(String taskId, InputStream csv, String username, boolean allowPartial);
+}
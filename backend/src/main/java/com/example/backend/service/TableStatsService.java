@@ -0,0 +1,33 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.TableStatsDto;
+
+import java.util.Map;
+
+/**
+ * Engine table sizes sampled in the background, either from cheap database metadata
+ * estimates or with exact counts. Readers get the latest sample and never count themselves,
+ * except when the sample is older than the configured TTL.
+ */
+public interface TableStatsService {
+
+    /**
+     * Rows per table; resampled first if the latest sample is older than the TTL
+     */
+    Map<String, Long> getRowCounts();
+
+    /**
+     * Latest sample with per-table growth rates; resampled first if older than the TTL
+     */
+    TableStatsDto getStats();
+
+    /**
+     * Latest sample as is, without touching the database (for health checks)
+     */
+    TableStatsDto getLatest();
+
+    /**
+     * Take a sample now
+     */
+    void sample();
+}
@@ -0,0 +1,76 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PagedResponse;
+import com.example.backend.dto.TaskDto;
+import com.example.backend.dto.TaskPageQuery;
+import org.flowable.task.api.TaskInfo;
+
+import java.util.List;
+
+/**
+ * Maintains and queries the denormalized task inbox (task_inbox + task_inbox_candidate).
+ * Writes are driven by Flowable task events; reads replace the Flowable task/identity-link joins.
+ */
+public interface TaskInboxService {
+    
+    /**
+     * Insert or update the inbox row of a task
+     * @param task The Flowable task
+     * @param replaceCandidates Also rewrite the candidate rows from the task's identity links
+     */
+    void upsert(TaskInfo task, boolean replaceCandidates);
+    
+    /**
+     * Remove a task (completed or deleted) and its candidates from the inbox
+     */
+    void remove(String taskId);
+    
+    /**
+     * Add a candidate group or user to an inbox task (no-op if already present)
+     */
+    void addCandidate(String taskId, String groupId, String userId);
+    
+    /**
+     * Remove a candidate group or user from an inbox task
+     */
+    void removeCandidate(String taskId, String groupId, String userId);
+    
+    /**
+     * Rebuild the whole inbox from the Flowable runtime tables, under a cluster-wide lock
+     * @return Number of tasks loaded, or -1 if another node is already rebuilding
+     */
+    long rebuild();
+    
+    /**
+     * Rebuild only when the inbox is empty or out of date (row count differs from the open task count),
+     * so a restarting node does not wipe the inbox the other nodes are serving
+     * @return true if a rebuild ran
+     */
+    boolean rebuildIfOutOfDate();
+    
+    /**
+     * Tasks assigned to the user or claimable by the user (candidate user or one of the user's groups)
+     */
+    PagedResponse<TaskDto> findForUser(String username, TaskPageQuery query);
+    
+    /**
+     * Unassigned tasks of a candidate group
+     */
+    PagedResponse<TaskDto> findByCandidateGroup(String group, TaskPageQuery query);
+    
+    /**
+     * Unassigned tasks of a candidate group, or tasks assigned to the user
+     */
+    PagedResponse<TaskDto> findByCandidateGroupOrAssignee(String group, String username, TaskPageQuery query);
+    
+    /**
+     * IDs of the first unassigned tasks the user could claim, highest priority and oldest first
+     * @param username User who will claim
+     * @param group Optional candidate group to restrict to
+     * @param processDefinitionKey Optional process definition filter
+     * @param taskDefinitionKey Optional task definition filter
+     * @param limit Maximum number of IDs returned
+     */
+    List<String> findClaimableTaskIds(String username, String group, String processDefinitionKey,
+                                      String taskDefinitionKey, int limit);
+}
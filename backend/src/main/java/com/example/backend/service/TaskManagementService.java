@@ -1,9 +1,10 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.TaskActionResponse;
 import com.example.backend.dto.TaskDto;
+import com.example.backend.dto.TaskPageQuery;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -13,25 +14,36 @@ import java.util.Map;
 public interface TaskManagementService {
 
     /**
-     * Get tasks for current user (assigned or claimable)
+     * Get tasks for current user (assigned, or claimable through candidate user / the user's groups)
      */
-    List<TaskDto> getMyTasks(String username);
+    PagedResponse<TaskDto> getMyTasks(String username, TaskPageQuery query);
 
     /**
-     * Get tasks by candidate group
+     * Get unassigned tasks by candidate group
      */
-    List<TaskDto> getTasksByCandidateGroup(String group);
+    PagedResponse<TaskDto> getTasksByCandidateGroup(String group, TaskPageQuery query);
 
     /**
      * Get tasks by candidate group OR assigned to user
      */
-    List<TaskDto> getTasksByGroupOrAssigned(String group, String username);
+    PagedResponse<TaskDto> getTasksByGroupOrAssigned(String group, String username, TaskPageQuery query);
 
     /**
-     * Claim a task
+     * Claim a task atomically; throws TaskClaimConflictException if someone else holds it
      */
     TaskActionResponse claimTask(String taskId, String username);
 
+    /**
+     * Claim the next available task for the user, picking randomly among the top candidates
+     * (highest priority, oldest first) so concurrent callers do not all collide on the same task
+     * @param username User who claims
+     * @param group Optional candidate group
+     * @param processDefinitionKey Optional process definition filter
+     * @param taskDefinitionKey Optional task definition filter
+     * @return The claim result, or null when no task could be claimed
+     */
+    TaskActionResponse claimNextTask(String username, String group, String processDefinitionKey, String taskDefinitionKey);
+
     /**
      * Unclaim a task (set assignee to null)
      */
@@ -0,0 +1,29 @@
+package com.example.backend.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+/**
+ * Server-push channel (Server-Sent Events) for task and sheet-approval deltas.
+ * Replaces client polling of the task lists and the sheet approval checks.
+ */
+public interface UpdateStreamService {
+
+    String TOPIC_TASKS = "tasks";
+    String TOPIC_SHEETS = "sheets";
+
+    /**
+     * Open a stream for a user
+     * @param username The subscribing user; task events are filtered to tasks the user can see
+     * @param topics Topics to receive (tasks, sheets); empty means all
+     * @param sheetIds Optional sheet IDs to restrict sheet events to; empty means all sheets
+     * @return The emitter to return from the controller
+     */
+    SseEmitter subscribe(String username, Set<String> topics, Set<String> sheetIds);
+
+    /**
+     * Number of open streams
+     */
+    int getConnectionCount();
+}
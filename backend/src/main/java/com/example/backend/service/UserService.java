@@ -14,5 +14,10 @@ public interface UserService {
     List<User> getAllUsers();
     void deleteUser(Long id);
     User updateUser(Long id, User user);
+    
+    /**
+     * Candidate groups of a user (the Flowable candidateGroups a user belongs to), derived from User.role
+     */
+    List<String> getUserGroups(String username);
 }
 
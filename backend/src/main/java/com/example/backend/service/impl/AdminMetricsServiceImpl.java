@@ -2,66 +2,71 @@ package com.example.backend.service.impl;
 
 import com.example.backend.dto.MetricsDto;
 import com.example.backend.service.AdminMetricsService;
-import org.flowable.engine.HistoryService;
-import org.flowable.engine.TaskService;
+import com.example.backend.service.MetricsRollupService;
+import com.example.backend.service.MetricsRollupService.Counter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
+/**
+ * Dashboard metrics read from the in-memory rollup store, so the cost does not
+ * depend on the size of the history tables or the number of days reported.
+ */
 @Service
 public class AdminMetricsServiceImpl implements AdminMetricsService {
 
-    @Autowired
-    private HistoryService historyService;
+    private static final int MAX_DAYS = 90;
 
     @Autowired
-    private TaskService taskService;
+    private MetricsRollupService metricsRollupService;
 
     @Override
-    public MetricsDto getMetrics() {
+    public MetricsDto getMetrics(int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("Invalid days: must be between 1 and " + MAX_DAYS);
+        }
         MetricsDto dto = new MetricsDto();
+        dto.runningInstances = metricsRollupService.get(Counter.RUNNING, null);
+        dto.completedInstances = metricsRollupService.get(Counter.COMPLETED, null);
 
-        // Calculate running and completed instances
-        long runningInstances = historyService.createHistoricProcessInstanceQuery().unfinished().count();
-        long completedInstances = historyService.createHistoricProcessInstanceQuery().finished().count();
-        long totalTasks = taskService.createTaskQuery().count();
-
-        dto.runningInstances = runningInstances;
-        dto.completedInstances = completedInstances;
-        dto.totalTasks = totalTasks;
+        long openTasks = metricsRollupService.get(Counter.TASKS_OPEN, null);
+        long assignedTasks = metricsRollupService.get(Counter.TASKS_ASSIGNED, null);
+        dto.totalTasks = openTasks;
 
-        // Instances by day (7 days)
-        List<MetricsDto.DailyCount> dailyCounts = new ArrayList<>();
-        for (int i = 6; i >= 0; i--) {
-            Date start = Date.from(LocalDate.now().minusDays(i).atStartOfDay(ZoneId.systemDefault()).toInstant());
-            Date end = Date.from(LocalDate.now().minusDays(i - 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
-            long count = historyService.createHistoricProcessInstanceQuery()
-                    .startedAfter(start).startedBefore(end).count();
-            
+        long[] startedByDay = metricsRollupService.daily(Counter.STARTED, null, days);
+        LocalDate firstDay = LocalDate.now().minusDays(days - 1L);
+        List<MetricsDto.DailyCount> dailyCounts = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
             MetricsDto.DailyCount dc = new MetricsDto.DailyCount();
-            dc.day = LocalDate.now().minusDays(i).toString();
-            dc.count = count;
+            dc.day = firstDay.plusDays(i).toString();
+            dc.count = startedByDay[i];
             dailyCounts.add(dc);
         }
 
         MetricsDto.StateCount claimable = new MetricsDto.StateCount();
         claimable.state = "CLAIMABLE";
-        claimable.count = taskService.createTaskQuery().taskUnassigned().count();
+        claimable.count = openTasks - assignedTasks;
 
         MetricsDto.StateCount assigned = new MetricsDto.StateCount();
         assigned.state = "ASSIGNED";
-        assigned.count = taskService.createTaskQuery().taskAssigned().count();
+        assigned.count = assignedTasks;
 
         dto.instancesByDay = dailyCounts;
         dto.tasksByState = List.of(claimable, assigned);
-        dto.avgDurationByDefinition = Collections.emptyList();
+        // Durations come from the rollup's histograms ('*' is the merged view of all definitions)
+        List<MetricsDto.DurationPercentiles> durations = metricsRollupService.processDurations();
+        List<MetricsDto.DurationMetric> averages = new ArrayList<>();
+        for (MetricsDto.DurationPercentiles d : durations) {
+            if (!MetricsRollupService.ALL_DEFINITIONS.equals(d.definitionKey)) {
+                averages.add(new MetricsDto.DurationMetric(d.definitionKey, d.avgMinutes));
+            }
+        }
+        dto.avgDurationByDefinition = averages;
+        dto.durationByDefinition = durations;
+        dto.taskCycleTimes = metricsRollupService.taskDurations(null);
         return dto;
     }
 }
-
@@ -1,22 +1,69 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.config.ReadReplica;
 import com.example.backend.dto.*;
 import com.example.backend.service.AdminRuntimeService;
+import com.example.backend.service.CountCacheService;
+import com.example.backend.service.FlowableDiagramService;
+import com.example.backend.service.MetricsRollupService;
+import com.example.backend.util.DtoMapper;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.GraphicInfo;
 import org.flowable.engine.*;
+import org.flowable.engine.event.EventLogEntry;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.api.history.NativeHistoricVariableInstanceQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 public class AdminRuntimeServiceImpl implements AdminRuntimeService {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminRuntimeServiceImpl.class);
+
+    private static final int MAX_PROJECTED_VARIABLES = 20;
+    private static final int MAX_EVENT_PAGE = 1000;
+    private static final long MAX_EVENT_WAIT_MS = 30_000;
+    private static final String EVENT_LOG_COLUMNS =
+            "LOG_NR_, TYPE_, PROC_DEF_ID_, PROC_INST_ID_, EXECUTION_ID_, TIME_STAMP_, DATA_";
+
+    // Active runtime activity instances grouped by definition key and activity, with cumulative age counts
+    private static final String HEATMAP_SQL =
+            "SELECT D.KEY_ AS DEF_KEY, A.ACT_ID_, MAX(A.ACT_NAME_) AS ACT_NAME, MAX(A.ACT_TYPE_) AS ACT_TYPE, " +
+            "COUNT(*) AS CNT, MIN(A.START_TIME_) AS OLDEST, " +
+            "COALESCE(SUM(CASE WHEN A.START_TIME_ >= ? THEN 1 ELSE 0 END), 0) AS NEWER_1H, " +
+            "COALESCE(SUM(CASE WHEN A.START_TIME_ >= ? THEN 1 ELSE 0 END), 0) AS NEWER_1D, " +
+            "COALESCE(SUM(CASE WHEN A.START_TIME_ >= ? THEN 1 ELSE 0 END), 0) AS NEWER_7D " +
+            "FROM ACT_RU_ACTINST A JOIN ACT_RE_PROCDEF D ON D.ID_ = A.PROC_DEF_ID_ " +
+            "WHERE A.END_TIME_ IS NULL";
+    private static final String HEATMAP_GROUP_BY = " GROUP BY D.KEY_, A.ACT_ID_ ORDER BY D.KEY_, CNT DESC";
+
     @Autowired
     private RepositoryService repositoryService;
 
@@ -29,7 +76,46 @@ public class AdminRuntimeServiceImpl implements AdminRuntimeService {
     @Autowired
     private ManagementService managementService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CountCacheService countCacheService;
+
+    @Autowired
+    private FlowableDiagramService diagramService;
+
+    @Autowired
+    private MetricsRollupService metricsRollupService;
+
+    @Value("${app.events.poll-interval-ms:500}")
+    private long eventPollIntervalMs;
+
+    @Value("${app.events.database-logging:false}")
+    private boolean databaseEventLogging;
+
+    // Long-polls waiting for new entries; completed by the poller, never by a sleeping request thread
+    private final Set<PendingTail> pendingTails = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService tailPoller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "event-tail-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTailPoller() {
+        tailPoller.scheduleWithFixedDelay(this::pollPendingTails, eventPollIntervalMs, eventPollIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stopTailPoller() {
+        tailPoller.shutdownNow();
+        pendingTails.forEach(tail -> tail.result.setResult(tail.emptyPage()));
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public List<ProcessDefinitionDto> getProcessDefinitions() {
         return repositoryService.createProcessDefinitionQuery()
                 .latestVersion()
@@ -40,9 +126,38 @@ public class AdminRuntimeServiceImpl implements AdminRuntimeService {
     }
 
     @Override
-    public PagedResponse<ProcessInstanceDto> searchProcessInstances(String definitionKey, String state, int page, int size) {
-        var query = historyService.createHistoricProcessInstanceQuery();
+    @Transactional(readOnly = true)
+    @ReadReplica
+    public PagedResponse<ProcessInstanceDto> searchProcessInstances(String definitionKey, String state, int page, int size,
+                                                                    List<String> vars, CountMode countMode) {
+        // One extra row tells whether a next page exists without counting
+        List<HistoricProcessInstance> results = buildInstanceQuery(definitionKey, state)
+                .orderByProcessInstanceStartTime().desc()
+                .listPage(page * size, size + 1);
+        boolean hasNext = results.size() > size;
+        if (hasNext) {
+            results = results.subList(0, size);
+        }
+        long total = countCacheService.count(countMode, "instances|" + definitionKey + "|" + state,
+                () -> buildInstanceQuery(definitionKey, state).count());
+
+        Map<String, Map<String, Object>> variablesByInstance = getVariables(results, vars);
+        List<ProcessInstanceDto> content = results.stream()
+                .map(pi -> toProcessInstanceDto(pi, variablesByInstance.getOrDefault(pi.getId(), Collections.emptyMap())))
+                .collect(Collectors.toList());
 
+        PagedResponse<ProcessInstanceDto> response = new PagedResponse<>();
+        response.content = content;
+        response.total = total;
+        response.totalApproximate = countMode == CountMode.CACHED;
+        response.page = page;
+        response.size = size;
+        response.hasNext = hasNext;
+        return response;
+    }
+
+    private HistoricProcessInstanceQuery buildInstanceQuery(String definitionKey, String state) {
+        HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
         if (definitionKey != null && !definitionKey.isBlank()) {
             query.processDefinitionKey(definitionKey);
         }
@@ -52,31 +167,153 @@ public class AdminRuntimeServiceImpl implements AdminRuntimeService {
         if ("COMPLETED".equalsIgnoreCase(state)) {
             query.finished();
         }
+        return query;
+    }
 
-        long total = query.count();
-        List<HistoricProcessInstance> results = query.orderByProcessInstanceStartTime().desc().listPage(page * size, size);
-
-        List<ProcessInstanceDto> content = results.stream()
-                .map(pi -> toProcessInstanceDto(pi, getVariables(pi.getId())))
+    @Override
+    @Transactional(readOnly = true)
+    @ReadReplica
+    public List<EventLogDto> getEventLogs(int limit) {
+        List<EventLogEntry> entries = managementService.getEventLogEntries(0L, (long) limit);
+        return entries.stream()
+                .map(DtoMapper::toEventLogDto)
                 .collect(Collectors.toList());
-
-        PagedResponse<ProcessInstanceDto> response = new PagedResponse<>();
-        response.content = content;
-        response.total = total;
-        return response;
     }
 
     @Override
-    public List<EventLogDto> getEventLogs(int limit) {
+    public DeferredResult<EventLogPage> tailEventLogs(Long after, List<String> types, String processInstanceId,
+                                                      int limit, long waitMs) {
+        if (limit <= 0 || limit > MAX_EVENT_PAGE) {
+            throw new IllegalArgumentException("Invalid limit: must be between 1 and " + MAX_EVENT_PAGE);
+        }
+        long cursor = after != null ? after : 0L;
+        if (!databaseEventLogging) {
+            // Nothing will ever arrive, so answer at once and say why instead of long-polling an empty table
+            DeferredResult<EventLogPage> disabled = new DeferredResult<>();
+            disabled.setResult(EventLogPage.builder()
+                    .nextCursor(cursor)
+                    .loggingEnabled(false)
+                    .build());
+            return disabled;
+        }
+        long wait = Math.min(Math.max(waitMs, 0), MAX_EVENT_WAIT_MS);
+        PendingTail tail = new PendingTail(cursor, types, processInstanceId, limit, wait);
+        if (tail.check(maxLogNumber()) || wait == 0) {
+            if (!tail.result.hasResult()) {
+                tail.result.setResult(tail.emptyPage());
+            }
+            return tail.result;
+        }
+        tail.result.onCompletion(() -> pendingTails.remove(tail));
+        pendingTails.add(tail);
+        return tail.result;
+    }
+
+    /**
+     * One MAX(LOG_NR_) per tick; only tails that have not yet seen that log number re-run their read
+     */
+    private void pollPendingTails() {
+        if (pendingTails.isEmpty()) {
+            return;
+        }
         try {
-            return managementService.getEventLogEntries(0L, (long) limit)
-                    .stream()
-                    .map(this::toEventLogDto)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            // Event log might not be enabled, return empty list
-            return new ArrayList<>();
+            long max = maxLogNumber();
+            for (PendingTail tail : pendingTails) {
+                if (tail.checkedUpTo < max && !tail.result.isSetOrExpired()) {
+                    tail.check(max);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Event log tail poll failed: {}", e.getMessage());
+        }
+    }
+
+    private long maxLogNumber() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(LOG_NR_) FROM ACT_EVT_LOG", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private class PendingTail {
+        private final long cursor;
+        private final List<String> types;
+        private final String processInstanceId;
+        private final int limit;
+        private final DeferredResult<EventLogPage> result;
+        private volatile long checkedUpTo;
+
+        PendingTail(long cursor, List<String> types, String processInstanceId, int limit, long waitMs) {
+            this.cursor = cursor;
+            this.types = types;
+            this.processInstanceId = processInstanceId;
+            this.limit = limit;
+            this.result = new DeferredResult<>(waitMs > 0 ? waitMs : null, this::emptyPage);
+        }
+
+        /**
+         * Read entries after the cursor and complete the result when there are any
+         * @param max Highest log number known before the read; later checks skip until it moves
+         */
+        boolean check(long max) {
+            checkedUpTo = max;
+            List<EventLogDto> entries = readEventLog(cursor, types, processInstanceId, limit + 1);
+            if (entries.isEmpty()) {
+                return false;
+            }
+            boolean hasMore = entries.size() > limit;
+            if (hasMore) {
+                entries = entries.subList(0, limit);
+            }
+            result.setResult(EventLogPage.builder()
+                    .entries(entries)
+                    .nextCursor(Long.parseLong(entries.get(entries.size() - 1).getId()))
+                    .hasMore(hasMore)
+                    .build());
+            return true;
         }
+
+        EventLogPage emptyPage() {
+            return EventLogPage.builder()
+                    .entries(Collections.emptyList())
+                    .nextCursor(cursor)
+                    .hasMore(false)
+                    .build();
+        }
+    }
+
+    /**
+     * Keyset read of ACT_EVT_LOG on its primary key; type and process filters are applied in SQL
+     */
+    private List<EventLogDto> readEventLog(long after, List<String> types, String processInstanceId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT " + EVENT_LOG_COLUMNS + " FROM ACT_EVT_LOG WHERE LOG_NR_ > ?");
+        List<Object> args = new ArrayList<>();
+        args.add(after);
+        if (types != null && !types.isEmpty()) {
+            sql.append(" AND TYPE_ IN (").append(String.join(", ", Collections.nCopies(types.size(), "?"))).append(")");
+            args.addAll(types);
+        }
+        if (processInstanceId != null && !processInstanceId.isBlank()) {
+            sql.append(" AND PROC_INST_ID_ = ?");
+            args.add(processInstanceId);
+        }
+        sql.append(" ORDER BY LOG_NR_ ASC FETCH FIRST ? ROWS ONLY");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> DtoMapper.toEventLogDto(toEventLogEntry(rs)),
+                args.toArray());
+    }
+
+    /**
+     * Rows become engine entries so the tail and getEventLogs share DtoMapper.toEventLogDto
+     */
+    private static EventLogEntry toEventLogEntry(ResultSet rs) throws SQLException {
+        EventLogEntryEntityImpl entry = new EventLogEntryEntityImpl();
+        entry.setLogNumber(rs.getLong("LOG_NR_"));
+        entry.setType(rs.getString("TYPE_"));
+        entry.setProcessDefinitionId(rs.getString("PROC_DEF_ID_"));
+        entry.setProcessInstanceId(rs.getString("PROC_INST_ID_"));
+        entry.setExecutionId(rs.getString("EXECUTION_ID_"));
+        entry.setTimeStamp(rs.getTimestamp("TIME_STAMP_"));
+        entry.setData(rs.getBytes("DATA_"));
+        return entry;
     }
 
     @Override
@@ -103,23 +340,104 @@ public class AdminRuntimeServiceImpl implements AdminRuntimeService {
         return "";
     }
 
-    private Map<String, Object> getVariables(String processInstanceId) {
-        List<?> variables = historyService.createHistoricVariableInstanceQuery()
-                .processInstanceId(processInstanceId)
-                .list();
-        
-        Map<String, Object> result = new HashMap<>();
-        for (Object var : variables) {
-            try {
-                java.lang.reflect.Method getVariableName = var.getClass().getMethod("getVariableName");
-                java.lang.reflect.Method getValue = var.getClass().getMethod("getValue");
-                String name = (String) getVariableName.invoke(var);
-                Object value = getValue.invoke(var);
-                result.put(name, value);
-            } catch (Exception e) {
-                // Skip if reflection fails
+    @Override
+    @Transactional(readOnly = true)
+    @ReadReplica
+    public List<ActivityHeatmapDto> getActivityHeatmap(String definitionKey, boolean includeDiagram) {
+        long now = System.currentTimeMillis();
+        List<Object> args = new ArrayList<>(List.of(
+                new Timestamp(now - 3_600_000L),
+                new Timestamp(now - 86_400_000L),
+                new Timestamp(now - 7 * 86_400_000L)));
+        StringBuilder sql = new StringBuilder(HEATMAP_SQL);
+        if (definitionKey != null && !definitionKey.isBlank()) {
+            sql.append(" AND D.KEY_ = ?");
+            args.add(definitionKey);
+        }
+        sql.append(HEATMAP_GROUP_BY);
+
+        Map<String, ActivityHeatmapDto> byKey = new LinkedHashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            String key = rs.getString("DEF_KEY");
+            ActivityHeatmapDto heatmap = byKey.computeIfAbsent(key, k -> ActivityHeatmapDto.builder()
+                    .definitionKey(k)
+                    .runningInstances(metricsRollupService.get(MetricsRollupService.Counter.RUNNING, k))
+                    .build());
+            long count = rs.getLong("CNT");
+            long newer1h = rs.getLong("NEWER_1H");
+            long newer1d = rs.getLong("NEWER_1D");
+            long newer7d = rs.getLong("NEWER_7D");
+            Map<String, Long> ageBuckets = new LinkedHashMap<>();
+            ageBuckets.put("<1h", newer1h);
+            ageBuckets.put("1h-1d", newer1d - newer1h);
+            ageBuckets.put("1d-7d", newer7d - newer1d);
+            ageBuckets.put(">7d", count - newer7d);
+            Timestamp oldest = rs.getTimestamp("OLDEST");
+            heatmap.getActivities().add(ActivityHeatmapDto.ActivityStat.builder()
+                    .activityId(rs.getString("ACT_ID_"))
+                    .activityName(rs.getString("ACT_NAME"))
+                    .activityType(rs.getString("ACT_TYPE"))
+                    .count(count)
+                    .oldestStartTime(oldest != null ? oldest.toInstant().toString() : null)
+                    .ageBuckets(ageBuckets)
+                    .build());
+        }, args.toArray());
+
+        if (includeDiagram) {
+            for (ActivityHeatmapDto heatmap : byKey.values()) {
+                BpmnModel model = diagramService.getBpmnModel(heatmap.getDefinitionKey());
+                for (ActivityHeatmapDto.ActivityStat activity : heatmap.getActivities()) {
+                    GraphicInfo info = model.getGraphicInfo(activity.getActivityId());
+                    if (info != null) {
+                        activity.setBounds(new ActivityHeatmapDto.Bounds(
+                                info.getX(), info.getY(), info.getWidth(), info.getHeight()));
+                    }
+                }
             }
         }
+        return new ArrayList<>(byKey.values());
+    }
+
+    /**
+     * Load only the requested variables of the page's instances in one native query, keyed by
+     * process instance ID. The name filter is applied in SQL, so other variables (notably the
+     * serialized row lists stored as byte arrays) are never read or deserialized.
+     */
+    private Map<String, Map<String, Object>> getVariables(List<HistoricProcessInstance> instances, List<String> vars) {
+        Set<String> names = vars == null ? Collections.emptySet() : vars.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (names.isEmpty() || instances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (names.size() > MAX_PROJECTED_VARIABLES) {
+            throw new IllegalArgumentException("Invalid vars: at most " + MAX_PROJECTED_VARIABLES + " variable names");
+        }
+        NativeHistoricVariableInstanceQuery query = historyService.createNativeHistoricVariableInstanceQuery();
+        List<String> nameParams = new ArrayList<>();
+        for (String name : names) {
+            String param = "name" + nameParams.size();
+            query.parameter(param, name);
+            nameParams.add("#{" + param + "}");
+        }
+        List<String> instanceParams = new ArrayList<>();
+        for (HistoricProcessInstance instance : instances) {
+            String param = "pi" + instanceParams.size();
+            query.parameter(param, instance.getId());
+            instanceParams.add("#{" + param + "}");
+        }
+        List<HistoricVariableInstance> variables = query.sql("SELECT RES.* FROM ACT_HI_VARINST RES"
+                        + " WHERE RES.NAME_ IN (" + String.join(", ", nameParams) + ")"
+                        + " AND RES.PROC_INST_ID_ IN (" + String.join(", ", instanceParams) + ")"
+                        + " AND RES.TASK_ID_ IS NULL")
+                .list();
+
+        Map<String, Map<String, Object>> result = new HashMap<>();
+        for (HistoricVariableInstance variable : variables) {
+            result.computeIfAbsent(variable.getProcessInstanceId(), id -> new HashMap<>())
+                    .put(variable.getVariableName(), variable.getValue());
+        }
         return result;
     }
 
@@ -154,31 +472,4 @@ public class AdminRuntimeServiceImpl implements AdminRuntimeService {
         dto.description = pi.getDescription();
         return dto;
     }
-
-    private EventLogDto toEventLogDto(Object eventLogEntry) {
-        // Use reflection to handle EventLogEntry as it may not be available in all Flowable versions
-        try {
-            EventLogDto dto = new EventLogDto();
-            java.lang.reflect.Method getLogNumber = eventLogEntry.getClass().getMethod("getLogNumber");
-            java.lang.reflect.Method getTimeStamp = eventLogEntry.getClass().getMethod("getTimeStamp");
-            java.lang.reflect.Method getType = eventLogEntry.getClass().getMethod("getType");
-            java.lang.reflect.Method getProcessDefinitionId = eventLogEntry.getClass().getMethod("getProcessDefinitionId");
-            java.lang.reflect.Method getProcessInstanceId = eventLogEntry.getClass().getMethod("getProcessInstanceId");
-            java.lang.reflect.Method getExecutionId = eventLogEntry.getClass().getMethod("getExecutionId");
-            java.lang.reflect.Method getData = eventLogEntry.getClass().getMethod("getData");
-
-            dto.id = String.valueOf(getLogNumber.invoke(eventLogEntry));
-            dto.timestamp = (java.util.Date) getTimeStamp.invoke(eventLogEntry);
-            dto.type = (String) getType.invoke(eventLogEntry);
-            dto.processDefinitionId = (String) getProcessDefinitionId.invoke(eventLogEntry);
-            dto.processInstanceId = (String) getProcessInstanceId.invoke(eventLogEntry);
-            dto.executionId = (String) getExecutionId.invoke(eventLogEntry);
-            byte[] data = (byte[]) getData.invoke(eventLogEntry);
-            dto.data = data != null ? new String(data, StandardCharsets.UTF_8) : null;
-            return dto;
-        } catch (Exception e) {
-            throw new RuntimeException("Error mapping EventLogEntry", e);
-        }
-    }
 }
-
@@ -1,17 +1,30 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.config.ReadReplica;
 import com.example.backend.dto.*;
 import com.example.backend.service.AdminTaskService;
-import org.flowable.engine.HistoryService;
+import com.example.backend.service.CountCacheService;
+import com.example.backend.util.ValidationUtils;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskQuery;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,58 +34,125 @@ public class AdminTaskServiceImpl implements AdminTaskService {
     private TaskService taskService;
 
     @Autowired
-    private HistoryService historyService;
+    private RuntimeService runtimeService;
 
-    @Override
-    public PagedResponse<TaskDto> searchTasks(String candidateGroup, String state, int page, int size) {
-        var query = taskService.createTaskQuery();
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
-        if (candidateGroup != null && !candidateGroup.isBlank()) {
-            query.taskCandidateGroup(candidateGroup);
-        }
-        if ("CLAIMABLE".equalsIgnoreCase(state)) {
-            query.taskUnassigned();
-        }
-        if ("ASSIGNED".equalsIgnoreCase(state)) {
-            query.taskAssigned();
+    @Autowired
+    private CountCacheService countCacheService;
+
+    @Value("${app.admin.max-page-size:200}")
+    private int maxPageSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    @ReadReplica
+    public PagedResponse<TaskDto> searchTasks(String candidateGroup, String state, int page, int requestedSize, CountMode countMode) {
+        // The page size also bounds the variable query's IN list
+        int size = Math.min(requestedSize, maxPageSize);
+        ValidationUtils.requirePositive(size, "Size must be positive");
+        ValidationUtils.requireNonNegative(page, "Page must not be negative");
+        // One extra row tells whether a next page exists without counting
+        List<Task> tasks = buildQuery(candidateGroup, state).orderByTaskCreateTime().desc().listPage(page * size, size + 1);
+        boolean hasNext = tasks.size() > size;
+        if (hasNext) {
+            tasks = tasks.subList(0, size);
         }
 
-        long total = query.count();
-        List<Task> tasks = query.orderByTaskCreateTime().desc().listPage(page * size, size);
+        long total = countCacheService.count(countMode, "tasks|" + candidateGroup + "|" + state,
+                () -> buildQuery(candidateGroup, state).count());
 
+        Map<String, Map<String, Object>> variablesByInstance = getVariables(tasks);
         List<TaskDto> dtos = tasks.stream()
-                .map(t -> toTaskDto(t, getVariables(t.getProcessInstanceId())))
+                .map(t -> toTaskDto(t, variablesByInstance.getOrDefault(t.getProcessInstanceId(), Collections.emptyMap())))
                 .collect(Collectors.toList());
 
         PagedResponse<TaskDto> response = new PagedResponse<>();
         response.content = dtos;
         response.total = total;
+        response.totalApproximate = countMode == CountMode.CACHED;
+        response.page = page;
+        response.size = size;
+        response.hasNext = hasNext;
         return response;
     }
 
-    private Map<String, Object> getVariables(String processInstanceId) {
-        if (processInstanceId == null) {
+    private TaskQuery buildQuery(String candidateGroup, String state) {
+        TaskQuery query = taskService.createTaskQuery();
+        if (candidateGroup != null && !candidateGroup.isBlank()) {
+            query.taskCandidateGroup(candidateGroup);
+        }
+        if ("CLAIMABLE".equalsIgnoreCase(state)) {
+            query.taskUnassigned();
+        }
+        if ("ASSIGNED".equalsIgnoreCase(state)) {
+            query.taskAssigned();
+        }
+        return query;
+    }
+
+    /**
+     * Process-level runtime variables of all instances on the page, keyed by process instance ID. The variables
+     * come from one query and are decoded by their engine type; values stored as byte arrays (serialized row
+     * lists, long strings) are read for the whole page in one more query instead of one lazy load per variable.
+     */
+    private Map<String, Map<String, Object>> getVariables(List<Task> tasks) {
+        Set<String> processInstanceIds = tasks.stream()
+                .map(Task::getProcessInstanceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (processInstanceIds.isEmpty()) {
             return Collections.emptyMap();
         }
-        List<?> variables = historyService.createHistoricVariableInstanceQuery()
-                .processInstanceId(processInstanceId)
+        // Process-level variables live on the process instance execution
+        List<VariableInstance> variables = runtimeService.createVariableInstanceQuery()
+                .executionIds(processInstanceIds)
+                .excludeTaskVariables()
+                .excludeVariableInitialization()
                 .list();
-        
-        Map<String, Object> result = new HashMap<>();
-        for (Object var : variables) {
-            try {
-                java.lang.reflect.Method getVariableName = var.getClass().getMethod("getVariableName");
-                java.lang.reflect.Method getValue = var.getClass().getMethod("getValue");
-                String name = (String) getVariableName.invoke(var);
-                Object value = getValue.invoke(var);
-                result.put(name, value);
-            } catch (Exception e) {
-                // Skip if reflection fails
-            }
+        Map<String, byte[]> byteArrays = getByteArrays(variables);
+
+        Map<String, Map<String, Object>> result = new HashMap<>();
+        for (VariableInstance variable : variables) {
+            result.computeIfAbsent(variable.getProcessInstanceId(), id -> new HashMap<>())
+                    .put(variable.getName(), getValue((VariableInstanceEntity) variable, byteArrays));
         }
         return result;
     }
 
+    private Map<String, byte[]> getByteArrays(List<VariableInstance> variables) {
+        List<String> ids = variables.stream()
+                .map(variable -> byteArrayId((VariableInstanceEntity) variable))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, byte[]> byteArrays = new HashMap<>();
+        jdbcTemplate.query("SELECT ID_, BYTES_ FROM ACT_GE_BYTEARRAY WHERE ID_ IN ("
+                        + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")",
+                rs -> {
+                    byteArrays.put(rs.getString("ID_"), rs.getBytes("BYTES_"));
+                },
+                ids.toArray());
+        return byteArrays;
+    }
+
+    private static Object getValue(VariableInstanceEntity variable, Map<String, byte[]> byteArrays) {
+        String byteArrayId = byteArrayId(variable);
+        if (byteArrayId == null) {
+            // Inline value (text, long, double columns): no further query
+            return variable.getValue();
+        }
+        return variable.getType().getValue(new PrefetchedValueFields(variable, byteArrays.get(byteArrayId)));
+    }
+
+    private static String byteArrayId(VariableInstanceEntity variable) {
+        ByteArrayRef ref = variable.getByteArrayRef();
+        return ref != null ? ref.getId() : null;
+    }
+
     private TaskDto toTaskDto(Task t, Map<String, Object> vars) {
         TaskDto dto = new TaskDto();
         dto.id = t.getId();
@@ -96,5 +176,114 @@ public class AdminTaskServiceImpl implements AdminTaskService {
         dto.variables = vars;
         return dto;
     }
-}
 
+    /**
+     * Value fields of a runtime variable with its byte array already read
+     */
+    private static class PrefetchedValueFields implements ValueFields {
+
+        private final ValueFields variable;
+        private final byte[] bytes;
+        private Object cachedValue;
+
+        PrefetchedValueFields(ValueFields variable, byte[] bytes) {
+            this.variable = variable;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public String getName() {
+            return variable.getName();
+        }
+
+        @Override
+        public String getProcessInstanceId() {
+            return variable.getProcessInstanceId();
+        }
+
+        @Override
+        public String getExecutionId() {
+            return variable.getExecutionId();
+        }
+
+        @Override
+        public String getScopeId() {
+            return variable.getScopeId();
+        }
+
+        @Override
+        public String getSubScopeId() {
+            return variable.getSubScopeId();
+        }
+
+        @Override
+        public String getScopeType() {
+            return variable.getScopeType();
+        }
+
+        @Override
+        public String getTaskId() {
+            return variable.getTaskId();
+        }
+
+        @Override
+        public String getTextValue() {
+            return variable.getTextValue();
+        }
+
+        @Override
+        public void setTextValue(String textValue) {
+            throw new UnsupportedOperationException("Read-only variable " + getName());
+        }
+
+        @Override
+        public String getTextValue2() {
+            return variable.getTextValue2();
+        }
+
+        @Override
+        public void setTextValue2(String textValue2) {
+            throw new UnsupportedOperationException("Read-only variable " + getName());
+        }
+
+        @Override
+        public Long getLongValue() {
+            return variable.getLongValue();
+        }
+
+        @Override
+        public void setLongValue(Long longValue) {
+            throw new UnsupportedOperationException("Read-only variable " + getName());
+        }
+
+        @Override
+        public Double getDoubleValue() {
+            return variable.getDoubleValue();
+        }
+
+        @Override
+        public void setDoubleValue(Double doubleValue) {
+            throw new UnsupportedOperationException("Read-only variable " + getName());
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public void setBytes(byte[] bytes) {
+            throw new UnsupportedOperationException("Read-only variable " + getName());
+        }
+
+        @Override
+        public Object getCachedValue() {
+            return cachedValue;
+        }
+
+        @Override
+        public void setCachedValue(Object cachedValue) {
+            this.cachedValue = cachedValue;
+        }
+    }
+}
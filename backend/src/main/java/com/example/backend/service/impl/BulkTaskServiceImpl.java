@@ -0,0 +1,197 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.BulkTaskResultDto;
+import com.example.backend.dto.BulkTaskResultDto.Outcome;
+import com.example.backend.service.BulkTaskService;
+import com.example.backend.util.ValidationUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.FlowableTaskAlreadyClaimedException;
+import org.flowable.engine.TaskService;
+import org.flowable.task.api.Task;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkTaskServiceImpl implements BulkTaskService {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String SKIPPED = "SKIPPED";
+    private static final String NOT_FOUND = "NOT_FOUND";
+    private static final String CONFLICT = "CONFLICT";
+    private static final String FAILED = "FAILED";
+
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tasks.bulk.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${app.tasks.bulk.max-tasks:1000}")
+    private int maxTasks;
+
+    @Override
+    public BulkTaskResultDto claim(List<String> taskIds, String userId) {
+        ValidationUtils.validateNotEmpty(userId, "userId");
+        return execute("CLAIM", taskIds,
+                task -> {
+                    if (userId.equals(task.getAssignee())) {
+                        return new Outcome(task.getId(), SKIPPED, "Task is already claimed by " + userId);
+                    }
+                    if (task.getAssignee() != null) {
+                        return new Outcome(task.getId(), CONFLICT, "Task is already claimed by " + task.getAssignee());
+                    }
+                    return null;
+                },
+                task -> taskService.claim(task.getId(), userId));
+    }
+
+    @Override
+    public BulkTaskResultDto assign(List<String> taskIds, String userId) {
+        ValidationUtils.validateNotEmpty(userId, "userId");
+        return execute("ASSIGN", taskIds,
+                task -> userId.equals(task.getAssignee())
+                        ? new Outcome(task.getId(), SKIPPED, "Task is already assigned to " + userId)
+                        : null,
+                task -> taskService.setAssignee(task.getId(), userId));
+    }
+
+    @Override
+    public BulkTaskResultDto unclaim(List<String> taskIds) {
+        return execute("UNCLAIM", taskIds,
+                task -> task.getAssignee() == null
+                        ? new Outcome(task.getId(), SKIPPED, "Task is not assigned")
+                        : null,
+                task -> taskService.unclaim(task.getId()));
+    }
+
+    @Override
+    public BulkTaskResultDto complete(List<String> taskIds, Map<String, Object> variables) {
+        return execute("COMPLETE", taskIds,
+                task -> null,
+                task -> {
+                    if (variables != null && !variables.isEmpty()) {
+                        taskService.complete(task.getId(), variables);
+                    } else {
+                        taskService.complete(task.getId());
+                    }
+                });
+    }
+
+    @Override
+    public BulkTaskResultDto setPriority(List<String> taskIds, int priority) {
+        return execute("SET_PRIORITY", taskIds,
+                task -> task.getPriority() == priority
+                        ? new Outcome(task.getId(), SKIPPED, "Task already has priority " + priority)
+                        : null,
+                task -> taskService.setPriority(task.getId(), priority));
+    }
+
+    /**
+     * Pre-fetch all tasks in one query, pre-check each against the fetched state,
+     * then apply the action chunk by chunk
+     * @param precheck Returns an outcome to short-circuit a task, or null to proceed
+     */
+    private BulkTaskResultDto execute(String action, List<String> taskIds,
+                                      Function<Task, Outcome> precheck, Consumer<Task> operation) {
+        List<String> ids = distinct(taskIds);
+        log.info("Bulk {} on {} tasks", action, ids.size());
+
+        Map<String, Task> tasks = taskService.createTaskQuery()
+                .taskIds(ids)
+                .list()
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Map<String, Outcome> outcomes = new LinkedHashMap<>();
+        List<Task> pending = new ArrayList<>();
+        for (String id : ids) {
+            Task task = tasks.get(id);
+            Outcome skip = task == null
+                    ? new Outcome(id, NOT_FOUND, "Task with ID '" + id + "' not found")
+                    : task.isSuspended()
+                            ? new Outcome(id, CONFLICT, "Task is suspended")
+                            : precheck.apply(task);
+            outcomes.put(id, skip);
+            if (skip == null) {
+                pending.add(task);
+            }
+        }
+
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Task> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            runChunk(action, chunk, operation, outcomes);
+        }
+
+        List<Outcome> results = new ArrayList<>(outcomes.values());
+        int succeeded = (int) results.stream().filter(o -> SUCCESS.equals(o.getStatus())).count();
+        log.info("Bulk {} finished: {} of {} tasks succeeded", action, succeeded, ids.size());
+        return BulkTaskResultDto.builder()
+                .action(action)
+                .requested(ids.size())
+                .succeeded(succeeded)
+                .failed(ids.size() - succeeded)
+                .outcomes(results)
+                .build();
+    }
+
+    /**
+     * Apply the operation to a whole chunk in one transaction. If anything in the chunk
+     * fails, the chunk is rolled back and retried one task per transaction to isolate the failure.
+     */
+    private void runChunk(String action, List<Task> chunk, Consumer<Task> operation, Map<String, Outcome> outcomes) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(operation));
+            chunk.forEach(task -> outcomes.put(task.getId(), new Outcome(task.getId(), SUCCESS, null)));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Bulk {} chunk of {} tasks rolled back ({}), retrying per task", action, chunk.size(), e.getMessage());
+        }
+
+        for (Task task : chunk) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> operation.accept(task));
+                outcomes.put(task.getId(), new Outcome(task.getId(), SUCCESS, null));
+            } catch (RuntimeException e) {
+                outcomes.put(task.getId(), toOutcome(task.getId(), e));
+            }
+        }
+    }
+
+    private static Outcome toOutcome(String taskId, RuntimeException e) {
+        if (e instanceof FlowableObjectNotFoundException) {
+            return new Outcome(taskId, NOT_FOUND, e.getMessage());
+        }
+        if (e instanceof FlowableTaskAlreadyClaimedException || e instanceof FlowableOptimisticLockingException) {
+            return new Outcome(taskId, CONFLICT, e.getMessage());
+        }
+        log.warn("Bulk operation failed for task {}: {}", taskId, e.getMessage());
+        return new Outcome(taskId, FAILED, e.getMessage());
+    }
+
+    private List<String> distinct(List<String> taskIds) {
+        List<String> ids = taskIds == null ? new ArrayList<>() : new ArrayList<>(new LinkedHashSet<>(taskIds));
+        ids.removeIf(id -> id == null || id.isBlank());
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("Invalid request: taskIds must not be empty");
+        }
+        if (ids.size() > maxTasks) {
+            throw new IllegalArgumentException("Invalid request: at most " + maxTasks + " tasks per bulk operation");
+        }
+        return ids;
+    }
+}
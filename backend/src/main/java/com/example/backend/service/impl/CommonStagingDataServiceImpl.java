@@ -24,9 +24,7 @@ public class CommonStagingDataServiceImpl implements CommonStagingDataService {
     private final ItemStagingService itemStagingService;
     private final PlanStagingService planStagingService;
     private final ProductStagingService productStagingService;
-    private final ItemService itemService;
-    private final PlanService planService;
-    private final ProductService productService;
+    private final MasterDataSnapshotService masterDataSnapshotService;
     
     @Override
     @Transactional(readOnly = true)
@@ -126,25 +124,11 @@ public class CommonStagingDataServiceImpl implements CommonStagingDataService {
     }
     
     private Object fetchMasterData(String entityType) {
-        switch (entityType.toLowerCase()) {
-            case "item":
-                List<?> items = itemService.getItemsBySheet("MASTER");
-                log.info("Fetched {} items from MASTER", items.size());
-                return items;
-                
-            case "plan":
-                List<?> plans = planService.getPlansBySheet("MASTER");
-                log.info("Fetched {} plans from MASTER", plans.size());
-                return plans;
-                
-            case "product":
-                List<?> products = productService.getProductsBySheet("MASTER");
-                log.info("Fetched {} products from MASTER", products.size());
-                return products;
-                
-            default:
-                throw new IllegalArgumentException("Unknown entity type: " + entityType);
-        }
+        // Served from the in-memory snapshot (refreshed after each migration commit)
+        List<?> masterData = masterDataSnapshotService.getMasterData(entityType);
+        log.info("Fetched {} {} from MASTER snapshot v{}", masterData.size(),
+                EntityTypeUtils.getPluralForm(entityType), masterDataSnapshotService.getVersion());
+        return masterData;
     }
 }
 
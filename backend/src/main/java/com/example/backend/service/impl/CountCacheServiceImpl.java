@@ -0,0 +1,120 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.ReadWriteRoutingDataSource;
+import com.example.backend.dto.CountMode;
+import com.example.backend.service.CountCacheService;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+@Service
+@Slf4j
+public class CountCacheServiceImpl implements CountCacheService {
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "count-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("countCacheBuilder")
+    private Caffeine<Object, Object> countCacheBuilder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // The counter each key was first requested with, so the loader can compute any key getCount has seen
+    private final Map<String, LongSupplier> counters = new ConcurrentHashMap<>();
+
+    private LoadingCache<String, Entry> counts;
+
+    @PostConstruct
+    public void init() {
+        // Read-only in a replica scope so the routing datasource sends background counts to the read pool
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        counts = countCacheBuilder
+                .executor(refresher)
+                .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                    if (cause != RemovalCause.REPLACED && key != null && entry != null) {
+                        counters.remove(key, entry.counter());
+                    }
+                })
+                .build(new CacheLoader<String, Entry>() {
+                    @Override
+                    public Entry load(String key) {
+                        // Keys no caller has registered a counter for are absent rather than an error
+                        LongSupplier counter = counters.get(key);
+                        return counter != null ? new Entry(counter.getAsLong(), counter) : null;
+                    }
+
+                    @Override
+                    public Entry reload(String key, Entry oldValue) {
+                        try {
+                            return ReadWriteRoutingDataSource.onReadReplica(() -> readOnly.execute(status ->
+                                    new Entry(oldValue.counter().getAsLong(), oldValue.counter())));
+                        } catch (RuntimeException e) {
+                            log.warn("Background count refresh failed for {}: {}", key, e.getMessage());
+                            return oldValue;
+                        }
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "pagedCounts");
+    }
+
+    @Override
+    public long getCount(String key, LongSupplier counter) {
+        // Stale entries are served while the refresher recomputes them with the counter they were loaded with
+        counters.putIfAbsent(key, counter);
+        Entry entry = counts.get(key);
+        // Null only if the key was evicted between registering and loading; count directly then
+        return entry != null ? entry.count() : counter.getAsLong();
+    }
+
+    @Override
+    public long count(CountMode mode, String key, LongSupplier counter) {
+        switch (mode != null ? mode : CountMode.EXACT) {
+            case NONE:
+                return -1;
+            case CACHED:
+                return getCount(key, counter);
+            default:
+                return counter.getAsLong();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        counts.invalidateAll();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    private record Entry(long count, LongSupplier counter) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.ReadWriteRoutingDataSource;
+import com.example.backend.service.DataExportService;
+import com.example.backend.util.CsvUtils;
+import com.example.backend.util.EntityTypeUtils;
+import com.example.backend.util.ValidationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC cursor based implementation of DataExportService.
+ * The query runs inside a read-only transaction (required for drivers such as PostgreSQL to honour
+ * the fetch size) and every row is written and periodically flushed as soon as it is read.
+ */
+@Service
+@Slf4j
+public class DataExportServiceImpl implements DataExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public DataExportServiceImpl(DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void exportStagingSheet(String entityType, String sheetId, Format format, OutputStream out) {
+        ValidationUtils.requireNonEmpty(sheetId, "SheetId is required");
+        String table = EntityTypeUtils.getStagingTableName(entityType);
+        stream("SELECT * FROM " + table + " WHERE sheet_id = ? ORDER BY id", format, out, sheetId);
+    }
+
+    @Override
+    public void exportMasterData(String entityType, Format format, OutputStream out) {
+        EntityTypeUtils.validateEntityType(entityType);
+        String table = EntityTypeUtils.getMasterTableName(entityType);
+        stream("SELECT * FROM " + table + " ORDER BY id", format, out);
+    }
+
+    @Override
+    public void exportSheetHistory(String processInstanceId, Format format, OutputStream out) {
+        if (processInstanceId != null && !processInstanceId.isBlank()) {
+            stream("SELECT * FROM sheets WHERE process_instance_id = ? ORDER BY id", format, out, processInstanceId);
+        } else {
+            stream("SELECT * FROM sheets ORDER BY id", format, out);
+        }
+    }
+
+    private void stream(String sql, Format format, OutputStream out, Object... args) {
+        long start = System.currentTimeMillis();
+        // An export is a report: it may come from the read pool
+        Long rows = ReadWriteRoutingDataSource.onReadReplica(() -> readOnlyTransaction.execute(status -> jdbcTemplate.query(
+                sql,
+                (ResultSetExtractor<Long>) rs -> writeAll(rs, format, out),
+                args)));
+        log.info("Exported {} rows as {} in {} ms: {}", rows, format, System.currentTimeMillis() - start, sql);
+    }
+
+    private long writeAll(ResultSet rs, Format format, OutputStream out) throws SQLException {
+        List<String> columns = columnNames(rs.getMetaData());
+        try {
+            return format == Format.CSV ? writeCsv(rs, columns, out) : writeNdjson(rs, columns, out);
+        } catch (IOException e) {
+            // Typically the client went away; abort the cursor
+            throw new UncheckedIOException("Export stream aborted", e);
+        }
+    }
+
+    private long writeCsv(ResultSet rs, List<String> columns, OutputStream out) throws SQLException, IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CsvUtils.writeRow(writer, columns);
+        writer.flush();
+
+        List<Object> values = new ArrayList<>(columns.size());
+        long rows = 0;
+        while (rs.next()) {
+            values.clear();
+            for (int i = 1; i <= columns.size(); i++) {
+                values.add(columnValue(rs, i));
+            }
+            CsvUtils.writeRow(writer, values);
+            if (++rows % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private long writeNdjson(ResultSet rs, List<String> columns, OutputStream out) throws SQLException, IOException {
+        OutputStream buffered = new BufferedOutputStream(out);
+        long rows = 0;
+        while (rs.next()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 1; i <= columns.size(); i++) {
+                row.put(columns.get(i - 1), columnValue(rs, i));
+            }
+            buffered.write(objectMapper.writeValueAsBytes(row));
+            buffered.write('\n');
+            if (++rows == 1 || rows % FLUSH_EVERY_ROWS == 0) {
+                buffered.flush();
+            }
+        }
+        buffered.flush();
+        return rows;
+    }
+
+    /**
+     * Column labels converted to the camelCase names used by the DTOs (ITEM_NAME -> itemName)
+     */
+    private List<String> columnNames(ResultSetMetaData metaData) throws SQLException {
+        List<String> names = new ArrayList<>(metaData.getColumnCount());
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            names.add(toCamelCase(metaData.getColumnLabel(i)));
+        }
+        return names;
+    }
+
+    private static String toCamelCase(String column) {
+        StringBuilder sb = new StringBuilder();
+        boolean upperNext = false;
+        for (char c : column.toLowerCase().toCharArray()) {
+            if (c == '_') {
+                upperNext = true;
+            } else {
+                sb.append(upperNext ? Character.toUpperCase(c) : c);
+                upperNext = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Dates are written in ISO format (same as the JSON endpoints)
+     */
+    private static Object columnValue(ResultSet rs, int index) throws SQLException {
+        Object value = rs.getObject(index);
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().toString();
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toString();
+        }
+        return value;
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.event.MasterDataChangedEvent;
 import com.example.backend.model.*;
 import com.example.backend.repository.*;
 import com.example.backend.service.DataMigrationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
     private final PlanRepository planRepository;
     private final ItemRepository itemRepository;
     private final SheetRepository sheetRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public void migrateAllStagingToActual(String processInstanceId) {
@@ -98,6 +101,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
         }
         
         // Note: Staging data is preserved as historical audit trail (not deleted)
+        eventPublisher.publishEvent(new MasterDataChangedEvent("product", sheetId));
         log.info("Completed products migration for sheetId: {} (staging data preserved)", sheetId);
     }
     
@@ -147,6 +151,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
         }
         
         // Note: Staging data is preserved as historical audit trail (not deleted)
+        eventPublisher.publishEvent(new MasterDataChangedEvent("plan", sheetId));
         log.info("Completed plans migration for sheetId: {} (staging data preserved)", sheetId);
     }
     
@@ -196,6 +201,7 @@ public class DataMigrationServiceImpl implements DataMigrationService {
         }
         
         // Note: Staging data is preserved as historical audit trail (not deleted)
+        eventPublisher.publishEvent(new MasterDataChangedEvent("item", sheetId));
         log.info("Completed items migration for sheetId: {} (staging data preserved)", sheetId);
     }
 }
@@ -1,7 +1,10 @@
 package com.example.backend.service.impl;
 
 import com.example.backend.dto.EngineInfoDto;
+import com.example.backend.dto.TableStatsDto;
+import com.example.backend.flowable.AsyncJobExecutorInstrumentation;
 import com.example.backend.service.FlowableEngineInfoService;
+import com.example.backend.service.TableStatsService;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ManagementService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +22,12 @@ public class FlowableEngineInfoServiceImpl implements FlowableEngineInfoService
     @Autowired
     private ManagementService managementService;
 
+    @Autowired
+    private TableStatsService tableStatsService;
+
+    @Autowired
+    private AsyncJobExecutorInstrumentation asyncJobExecutorInstrumentation;
+
     @Override
     public EngineInfoDto getEngineInfo() {
         EngineInfoDto dto = new EngineInfoDto();
@@ -38,7 +47,7 @@ public class FlowableEngineInfoServiceImpl implements FlowableEngineInfoService
     @Override
     public Map<String, Object> getTableCounts() {
         Map<String, Object> tableCounts = new HashMap<>();
-        managementService.getTableCount().forEach((k, v) -> tableCounts.put(k, v));
+        tableStatsService.getRowCounts().forEach((k, v) -> tableCounts.put(k, v));
         return tableCounts;
     }
 
@@ -57,6 +66,7 @@ public class FlowableEngineInfoServiceImpl implements FlowableEngineInfoService
             stats.put("suspendedJobs", suspendedJobs);
             stats.put("deadLetterJobs", deadLetterJobs);
             stats.put("totalJobs", jobs + timerJobs + suspendedJobs + deadLetterJobs);
+            stats.put("executor", asyncJobExecutorInstrumentation.getPoolSnapshot());
         } catch (Exception e) {
             stats.put("error", "Unable to retrieve job statistics: " + e.getMessage());
         }
@@ -80,11 +90,13 @@ public class FlowableEngineInfoServiceImpl implements FlowableEngineInfoService
             dbHealth.put("type", managementService.getProperties().get("database.type"));
             health.put("database", dbHealth);
             
-            // Table counts as health indicator
-            Map<String, Long> tableCounts = managementService.getTableCount();
+            // Table counts as health indicator, from the latest background sample (never counts here)
+            TableStatsDto latest = tableStatsService.getLatest();
             Map<String, Object> tableInfo = new HashMap<>();
-            tableCounts.forEach((k, v) -> tableInfo.put(k, v));
+            latest.getTables().forEach(t -> tableInfo.put(t.getTable(), t.getRows()));
             health.put("tableInfo", tableInfo);
+            health.put("tableInfoSampledAt", latest.getSampledAt());
+            health.put("tableInfoEstimated", latest.isEstimated());
             
         } catch (Exception e) {
             health.put("status", "DOWN");
@@ -1,45 +1,95 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.config.ReadReplica;
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.ProcessInstanceDto;
 import com.example.backend.dto.TaskDto;
 import com.example.backend.service.FlowableHistoryService;
+import com.example.backend.service.MetricsRollupService;
+import com.example.backend.service.MetricsRollupService.Counter;
 import com.example.backend.util.DtoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.NativeHistoricProcessInstanceQuery;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.service.history.NativeHistoricTaskInstanceQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * History reads through Flowable native queries, so keyset conditions
+ * ("older than the cursor row") can be pushed into SQL and the entities are still
+ * mapped by the engine. No read ever loads more than one page or one stream batch.
+ * Read-only transactions in a @ReadReplica scope, so the routing datasource serves them from the read pool; streams
+ * run without one and read each batch in its own short transaction, so a slow download never
+ * holds a connection.
+ */
 @Service
+@Transactional(readOnly = true)
+@ReadReplica
+@Slf4j
 public class FlowableHistoryServiceImpl implements FlowableHistoryService {
 
+    private static final String PROCESS_SELECT =
+            "SELECT RES.*, DEF.KEY_ AS PROC_DEF_KEY_, DEF.NAME_ AS PROC_DEF_NAME_, DEF.VERSION_ AS PROC_DEF_VERSION_ " +
+            "FROM ACT_HI_PROCINST RES LEFT OUTER JOIN ACT_RE_PROCDEF DEF ON RES.PROC_DEF_ID_ = DEF.ID_ WHERE 1 = 1";
+
+    private static final String TASK_SELECT = "SELECT RES.* FROM ACT_HI_TASKINST RES WHERE 1 = 1";
+
     @Autowired
     private HistoryService historyService;
 
+    @Autowired
+    private MetricsRollupService metricsRollupService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.history.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.history.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${app.history.stream-batch-size:500}")
+    private int streamBatchSize;
+
+    @Value("${app.history.max-stream-rows:100000}")
+    private int maxStreamRows;
+
     @Override
-    public List<ProcessInstanceDto> getProcessHistory(String processKey) {
-        return historyService.createHistoricProcessInstanceQuery()
-                .processDefinitionKey(processKey)
-                .list()
-                .stream()
-                .map(DtoMapper::toProcessInstanceDto)
-                .collect(Collectors.toList());
+    public PagedResponse<ProcessInstanceDto> getProcessHistory(String processKey, Integer size, String cursor) {
+        return processPage(new ProcessFilter(processKey, null, null), size, cursor);
     }
 
     @Override
-    public List<ProcessInstanceDto> getAllProcessHistory() {
-        return historyService.createHistoricProcessInstanceQuery()
-                .list()
-                .stream()
-                .map(DtoMapper::toProcessInstanceDto)
-                .collect(Collectors.toList());
+    public PagedResponse<ProcessInstanceDto> getAllProcessHistory(Integer size, String cursor) {
+        return processPage(new ProcessFilter(null, null, null), size, cursor);
     }
 
     @Override
@@ -61,30 +111,20 @@ public class FlowableHistoryServiceImpl implements FlowableHistoryService {
     }
 
     @Override
-    public List<TaskDto> getTaskHistoryByUser(String user) {
-        return historyService.createHistoricTaskInstanceQuery()
-                .taskAssignee(user)
-                .list()
-                .stream()
-                .map(DtoMapper::toTaskDto)
-                .collect(Collectors.toList());
+    public PagedResponse<TaskDto> getTaskHistoryByUser(String user, Integer size, String cursor) {
+        return taskPage(new TaskFilter(user, false), size, cursor);
     }
 
     @Override
-    public List<TaskDto> getCompletedTasks() {
-        return historyService.createHistoricTaskInstanceQuery()
-                .finished()
-                .list()
-                .stream()
-                .map(DtoMapper::toTaskDto)
-                .collect(Collectors.toList());
+    public PagedResponse<TaskDto> getCompletedTasks(Integer size, String cursor) {
+        return taskPage(new TaskFilter(null, true), size, cursor);
     }
 
     @Override
     public Map<String, Object> getProcessStatistics() {
-        long totalProcesses = historyService.createHistoricProcessInstanceQuery().count();
-        long finishedProcesses = historyService.createHistoricProcessInstanceQuery().finished().count();
-        long unfinishedProcesses = historyService.createHistoricProcessInstanceQuery().unfinished().count();
+        long totalProcesses = metricsRollupService.get(Counter.STARTED, null);
+        long finishedProcesses = metricsRollupService.get(Counter.COMPLETED, null);
+        long unfinishedProcesses = metricsRollupService.get(Counter.RUNNING, null);
         
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalProcesses", totalProcesses);
@@ -97,9 +137,9 @@ public class FlowableHistoryServiceImpl implements FlowableHistoryService {
 
     @Override
     public Map<String, Object> getTaskStatistics() {
-        long totalTasks = historyService.createHistoricTaskInstanceQuery().count();
-        long completedTasks = historyService.createHistoricTaskInstanceQuery().finished().count();
-        long pendingTasks = totalTasks - completedTasks;
+        long totalTasks = metricsRollupService.get(Counter.TASKS_CREATED, null);
+        long completedTasks = metricsRollupService.get(Counter.TASKS_COMPLETED, null);
+        long pendingTasks = metricsRollupService.get(Counter.TASKS_OPEN, null);
         
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalTasks", totalTasks);
@@ -111,21 +151,208 @@ public class FlowableHistoryServiceImpl implements FlowableHistoryService {
     }
 
     @Override
-    public List<ProcessInstanceDto> getProcessHistoryByDateRange(String startDate, String endDate) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+    public PagedResponse<ProcessInstanceDto> getProcessHistoryByDateRange(String startDate, String endDate,
+                                                                          Integer size, String cursor) {
+        return processPage(new ProcessFilter(null, parseDate(startDate), parseDate(endDate)), size, cursor);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamProcessHistory(String processKey, String startDate, String endDate, Integer limit, OutputStream out) {
+        ProcessFilter filter = new ProcessFilter(processKey,
+                startDate != null ? parseDate(startDate) : null,
+                endDate != null ? parseDate(endDate) : null);
+        streamNdjson(limit, out, (after, max) -> fetchProcesses(filter, after, max),
+                hpi -> new Cursor(hpi.getStartTime(), hpi.getId()), DtoMapper::toProcessInstanceDto);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamTaskHistory(String user, boolean completedOnly, Integer limit, OutputStream out) {
+        TaskFilter filter = new TaskFilter(user, completedOnly);
+        streamNdjson(limit, out, (after, max) -> fetchTasks(filter, after, max),
+                task -> filter.cursorOf(task), DtoMapper::toTaskDto);
+    }
+
+    private PagedResponse<ProcessInstanceDto> processPage(ProcessFilter filter, Integer size, String cursor) {
+        int pageSize = pageSize(size);
+        // One extra row tells whether a next page exists
+        List<HistoricProcessInstance> rows = fetchProcesses(filter, Cursor.decode(cursor), pageSize + 1);
+        return page(rows, pageSize, hpi -> new Cursor(hpi.getStartTime(), hpi.getId()), DtoMapper::toProcessInstanceDto);
+    }
+
+    private PagedResponse<TaskDto> taskPage(TaskFilter filter, Integer size, String cursor) {
+        int pageSize = pageSize(size);
+        List<HistoricTaskInstance> rows = fetchTasks(filter, Cursor.decode(cursor), pageSize + 1);
+        return page(rows, pageSize, filter::cursorOf, DtoMapper::toTaskDto);
+    }
+
+    private static <E, D> PagedResponse<D> page(List<E> rows, int pageSize, Function<E, Cursor> cursorOf, Function<E, D> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> content = hasNext ? rows.subList(0, pageSize) : rows;
+        PagedResponse<D> response = new PagedResponse<>();
+        response.content = content.stream().map(mapper).collect(Collectors.toList());
+        response.total = -1;
+        response.size = pageSize;
+        response.hasNext = hasNext;
+        response.nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return response;
+    }
+
+    /**
+     * Newest first by start time; the ID breaks ties so the order is total and pages never overlap
+     */
+    private List<HistoricProcessInstance> fetchProcesses(ProcessFilter filter, Cursor after, int max) {
+        NativeHistoricProcessInstanceQuery query = historyService.createNativeHistoricProcessInstanceQuery();
+        StringBuilder sql = new StringBuilder(PROCESS_SELECT);
+        if (filter.processKey != null && !filter.processKey.isBlank()) {
+            sql.append(" AND DEF.KEY_ = #{processKey}");
+            query.parameter("processKey", filter.processKey);
+        }
+        if (filter.startedFrom != null) {
+            sql.append(" AND RES.START_TIME_ >= #{startedFrom}");
+            query.parameter("startedFrom", filter.startedFrom);
+        }
+        if (filter.startedTo != null) {
+            sql.append(" AND RES.START_TIME_ <= #{startedTo}");
+            query.parameter("startedTo", filter.startedTo);
+        }
+        appendKeyset(sql, "RES.START_TIME_", after, query::parameter);
+        sql.append(" ORDER BY RES.START_TIME_ DESC, RES.ID_ DESC");
+        return query.sql(sql.toString()).listPage(0, max);
+    }
+
+    private List<HistoricTaskInstance> fetchTasks(TaskFilter filter, Cursor after, int max) {
+        NativeHistoricTaskInstanceQuery query = historyService.createNativeHistoricTaskInstanceQuery();
+        StringBuilder sql = new StringBuilder(TASK_SELECT);
+        if (filter.user != null) {
+            sql.append(" AND RES.ASSIGNEE_ = #{assignee}");
+            query.parameter("assignee", filter.user);
+        }
+        if (filter.completedOnly) {
+            sql.append(" AND RES.END_TIME_ IS NOT NULL");
+        }
+        String timeColumn = filter.timeColumn();
+        appendKeyset(sql, timeColumn, after, query::parameter);
+        sql.append(" ORDER BY ").append(timeColumn).append(" DESC, RES.ID_ DESC");
+        return query.sql(sql.toString()).listPage(0, max);
+    }
+
+    private static void appendKeyset(StringBuilder sql, String timeColumn, Cursor after, ParameterSink parameters) {
+        if (after == null) {
+            return;
+        }
+        sql.append(" AND (").append(timeColumn).append(" < #{cursorTime} OR (")
+                .append(timeColumn).append(" = #{cursorTime} AND RES.ID_ < #{cursorId}))");
+        parameters.parameter("cursorTime", after.time);
+        parameters.parameter("cursorId", after.id);
+    }
+
+    /**
+     * Write NDJSON in keyset batches until the source is exhausted or the row limit is reached.
+     * Each batch is read in its own read-only transaction; the connection goes back to the pool
+     * before the batch is written to the client.
+     */
+    private <E, D> void streamNdjson(Integer limit, OutputStream out, BatchSource<E> source,
+                                     Function<E, Cursor> cursorOf, Function<E, D> mapper) {
+        int maxRows = limit == null || limit <= 0 ? maxStreamRows : Math.min(limit, maxStreamRows);
+        long start = System.currentTimeMillis();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        int written = 0;
+        try {
+            OutputStream buffered = new BufferedOutputStream(out);
+            Cursor after = null;
+            while (written < maxRows) {
+                int batchSize = Math.min(streamBatchSize, maxRows - written);
+                Cursor from = after;
+                List<E> batch = readOnly.execute(status -> source.fetch(from, batchSize));
+                for (E row : batch) {
+                    buffered.write(objectMapper.writeValueAsBytes(mapper.apply(row)));
+                    buffered.write('\n');
+                }
+                buffered.flush();
+                written += batch.size();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                after = cursorOf.apply(batch.get(batch.size() - 1));
+            }
+        } catch (IOException e) {
+            // Typically the client went away
+            throw new UncheckedIOException("History stream aborted", e);
+        }
+        log.info("Streamed {} history rows in {} ms", written, System.currentTimeMillis() - start);
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Invalid size: must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private static Date parseDate(String value) {
         try {
-            Date start = sdf.parse(startDate);
-            Date end = sdf.parse(endDate);
-            
-            return historyService.createHistoricProcessInstanceQuery()
-                    .startedAfter(start)
-                    .startedBefore(end)
-                    .list()
-                    .stream()
-                    .map(DtoMapper::toProcessInstanceDto)
-                    .collect(Collectors.toList());
+            return new SimpleDateFormat("yyyy-MM-dd").parse(value);
         } catch (ParseException e) {
             throw new RuntimeException("Invalid date format. Use yyyy-MM-dd", e);
         }
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    private interface BatchSource<E> {
+        List<E> fetch(Cursor after, int max);
+    }
+
+    @FunctionalInterface
+    private interface ParameterSink {
+        Object parameter(String name, Object value);
+    }
+
+    private record ProcessFilter(String processKey, Date startedFrom, Date startedTo) {
+    }
+
+    /**
+     * Tasks of one assignee are ordered by start time, all completed tasks by end time
+     */
+    private record TaskFilter(String user, boolean completedOnly) {
+
+        String timeColumn() {
+            return user == null && completedOnly ? "RES.END_TIME_" : "RES.START_TIME_";
+        }
+
+        Cursor cursorOf(HistoricTaskInstance task) {
+            return new Cursor(user == null && completedOnly ? task.getEndTime() : task.getCreateTime(), task.getId());
+        }
+    }
+
+    /**
+     * Keyset position: base64url("epochMillis|id") of the last row of a page
+     */
+    private record Cursor(Date time, String id) {
+
+        String encode() {
+            String raw = time.getTime() + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                if (parts.length != 2 || parts[1].isEmpty()) {
+                    throw new IllegalArgumentException("malformed");
+                }
+                return new Cursor(new Date(Long.parseLong(parts[0])), parts[1]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + e.getMessage());
+            }
+        }
+    }
+}
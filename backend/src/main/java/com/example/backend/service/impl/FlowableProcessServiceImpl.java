@@ -1,12 +1,15 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.ProcessInstanceDto;
 import com.example.backend.dto.TaskDto;
+import com.example.backend.dto.TaskPageQuery;
 import com.example.backend.service.FlowableProcessService;
+import com.example.backend.service.MetricsRollupService;
+import com.example.backend.service.MetricsRollupService.Counter;
+import com.example.backend.service.TaskInboxService;
 import org.flowable.engine.RuntimeService;
-import org.flowable.engine.TaskService;
 import org.flowable.engine.runtime.ProcessInstance;
-import org.flowable.task.api.Task;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -21,7 +24,10 @@ public class FlowableProcessServiceImpl implements FlowableProcessService {
     private RuntimeService runtimeService;
 
     @Autowired
-    private TaskService taskService;
+    private TaskInboxService taskInboxService;
+
+    @Autowired
+    private MetricsRollupService metricsRollupService;
 
     @Override
     public ProcessInstanceDto startProcess(String processKey) {
@@ -70,19 +76,19 @@ public class FlowableProcessServiceImpl implements FlowableProcessService {
     }
 
     @Override
-    public List<TaskDto> getTasksForUser(String user) {
-        return taskService.createTaskQuery().taskCandidateOrAssigned(user).list()
-                .stream().map(this::toTaskDto).collect(Collectors.toList());
+    public PagedResponse<TaskDto> getTasksForUser(String user, TaskPageQuery query) {
+        // Served from the task inbox (same rules as /api/flowable/task/my-tasks)
+        return taskInboxService.findForUser(user, query);
     }
 
     @Override
     public Map<String, String> getProcessStatistics() {
-        long activeCount = runtimeService.createProcessInstanceQuery().active().count();
-        long suspendedCount = runtimeService.createProcessInstanceQuery().suspended().count();
+        long runningCount = metricsRollupService.get(Counter.RUNNING, null);
+        long suspendedCount = metricsRollupService.get(Counter.SUSPENDED, null);
         return Map.of(
-                "activeProcesses", String.valueOf(activeCount),
+                "activeProcesses", String.valueOf(runningCount - suspendedCount),
                 "suspendedProcesses", String.valueOf(suspendedCount),
-                "totalProcesses", String.valueOf(activeCount + suspendedCount)
+                "totalProcesses", String.valueOf(runningCount)
         );
     }
 
@@ -98,25 +104,4 @@ public class FlowableProcessServiceImpl implements FlowableProcessService {
         dto.tenantId = pi.getTenantId();
         return dto;
     }
-
-    private TaskDto toTaskDto(Task t) {
-        TaskDto dto = new TaskDto();
-        dto.id = t.getId();
-        dto.name = t.getName();
-        dto.description = t.getDescription();
-        dto.assignee = t.getAssignee();
-        dto.owner = t.getOwner();
-        dto.delegationState = t.getDelegationState() != null ? t.getDelegationState().name() : null;
-        dto.processInstanceId = t.getProcessInstanceId();
-        dto.processDefinitionId = t.getProcessDefinitionId();
-        dto.executionId = t.getExecutionId();
-        dto.taskDefinitionKey = t.getTaskDefinitionKey();
-        dto.createTime = t.getCreateTime();
-        dto.dueDate = t.getDueDate();
-        dto.priority = t.getPriority();
-        dto.category = t.getCategory();
-        dto.formKey = t.getFormKey();
-        dto.tenantId = t.getTenantId();
-        return dto;
-    }
 }
\ No newline at end of file
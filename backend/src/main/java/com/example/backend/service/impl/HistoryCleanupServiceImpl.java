@@ -0,0 +1,332 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.HistoryCleanupResult;
+import com.example.backend.event.HistoryPurgedEvent;
+import com.example.backend.service.CountCacheService;
+import com.example.backend.service.HistoryCleanupService;
+import com.example.backend.util.DtoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.lock.LockManager;
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.NativeHistoricActivityInstanceQuery;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * History cleanup with archival. Each batch is written to the run's archive file, sync-flushed
+ * through gzip and forced to disk before its instances are bulk-deleted, so nothing is removed
+ * that was not durably archived first. One node runs a pass at a time (engine lock table).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HistoryCleanupServiceImpl implements HistoryCleanupService {
+
+    private static final String CLEANUP_LOCK = "historyCleanup";
+    // A node that died mid-run loses the lock after this long
+    private static final Duration CLEANUP_LOCK_FORCE_AFTER = Duration.ofHours(1);
+
+    private final HistoryService historyService;
+    private final ManagementService managementService;
+    private final CountCacheService countCacheService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "history-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.history.cleanup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.history.cleanup.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.history.cleanup.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${app.history.cleanup.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.history.cleanup.max-instances-per-run:5000}")
+    private int maxInstancesPerRun;
+
+    @Value("${app.history.cleanup.batch-pause-ms:200}")
+    private long batchPauseMs;
+
+    @Value("${app.history.cleanup.archive-dir:}")
+    private String archiveDir;
+
+    private Counter removedInstances;
+    private DistributionSummary rowsPerRun;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        removedInstances = Counter.builder("flowable.history.cleanup.instances")
+                .description("Finished process instances archived and removed from history")
+                .register(meterRegistry);
+        rowsPerRun = DistributionSummary.builder("flowable.history.cleanup.rows")
+                .description("History rows removed per cleanup run")
+                .register(meterRegistry);
+        if (!enabled) {
+            log.info("History cleanup disabled (app.history.cleanup.enabled=false)");
+            return;
+        }
+        // Fail startup rather than archive into a directory relative to wherever the process was started
+        Path root = archiveRoot();
+        scheduler.scheduleWithFixedDelay(this::runScheduled, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        log.info("✓ History cleanup scheduled every {} min (retention {} days, archive dir {})",
+                intervalMinutes, retentionDays, root);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public HistoryCleanupResult runCleanup() {
+        Path root = archiveRoot();
+        if (!running.compareAndSet(false, true)) {
+            return HistoryCleanupResult.builder().skipped(true).build();
+        }
+        // Taken outside any transaction, so the other nodes see it at once
+        LockManager lock = managementService.getLockManager(CLEANUP_LOCK);
+        boolean locked = false;
+        try {
+            locked = lock.acquireLock(CLEANUP_LOCK_FORCE_AFTER);
+            if (!locked) {
+                log.info("History cleanup skipped: another node holds the cleanup lock");
+                return HistoryCleanupResult.builder().skipped(true).build();
+            }
+            return cleanup(root);
+        } finally {
+            if (locked) {
+                lock.releaseLock();
+            }
+            running.set(false);
+        }
+    }
+
+    private HistoryCleanupResult cleanup(Path root) {
+        long start = System.currentTimeMillis();
+        HistoryCleanupResult result = new HistoryCleanupResult();
+        Date cutoff = new Date(start - TimeUnit.DAYS.toMillis(retentionDays));
+        Path archive = root.resolve("history-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(start)) + ".ndjson.gz");
+        FileChannel channel = null;
+        OutputStream out = null;
+        try {
+            while (result.getInstances() < maxInstancesPerRun) {
+                int limit = (int) Math.min(batchSize, maxInstancesPerRun - result.getInstances());
+                List<HistoricProcessInstance> batch = historyService.createHistoricProcessInstanceQuery()
+                        .finished()
+                        .finishedBefore(cutoff)
+                        .orderByProcessInstanceEndTime().asc()
+                        .listPage(0, limit);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                if (out == null) {
+                    Files.createDirectories(root);
+                    channel = FileChannel.open(archive, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                    // syncFlush: flush() emits every byte written so far instead of holding it in the deflater
+                    out = new BufferedOutputStream(new GZIPOutputStream(Channels.newOutputStream(channel), true));
+                    result.setArchiveFile(archive.toString());
+                }
+                archiveBatch(batch, out, result);
+                out.flush();
+                channel.force(true);
+                historyService.bulkDeleteHistoricProcessInstances(
+                        batch.stream().map(HistoricProcessInstance::getId).collect(Collectors.toList()));
+                result.setInstances(result.getInstances() + batch.size());
+                removedInstances.increment(batch.size());
+                if (batch.size() < limit) {
+                    break;
+                }
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (IOException e) {
+            // The failed batch was not deleted; the next run picks it up again
+            throw new UncheckedIOException("History archive write failed: " + archive, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(out != null ? out : channel);
+            result.setRowsRemoved(result.getInstances() + result.getTasks() + result.getActivities() + result.getVariables());
+            result.setDurationMs(System.currentTimeMillis() - start);
+            rowsPerRun.record(result.getRowsRemoved());
+        }
+        if (result.getInstances() > 0) {
+            countCacheService.invalidateAll();
+            eventPublisher.publishEvent(new HistoryPurgedEvent(result.getInstances()));
+        }
+        log.info("History cleanup removed {} instances ({} rows) older than {} days in {} ms, archive: {}",
+                result.getInstances(), result.getRowsRemoved(), retentionDays, result.getDurationMs(), result.getArchiveFile());
+        return result;
+    }
+
+    /**
+     * The configured archive directory; required and absolute so every node archives to a known place
+     */
+    private Path archiveRoot() {
+        if (archiveDir == null || archiveDir.isBlank()) {
+            throw new IllegalArgumentException("Invalid app.history.cleanup.archive-dir: required when history cleanup runs");
+        }
+        Path root = Paths.get(archiveDir.trim());
+        if (!root.isAbsolute()) {
+            throw new IllegalArgumentException("Invalid app.history.cleanup.archive-dir: must be an absolute path, got " + archiveDir);
+        }
+        return root;
+    }
+
+    private void runScheduled() {
+        try {
+            runCleanup();
+        } catch (RuntimeException e) {
+            log.error("History cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One NDJSON line per instance: the instance with its tasks, activities and variables.
+     * Tasks, variables and activities are each loaded with one query for the whole batch.
+     */
+    private void archiveBatch(List<HistoricProcessInstance> batch, OutputStream out, HistoryCleanupResult result) throws IOException {
+        Set<String> ids = batch.stream().map(HistoricProcessInstance::getId).collect(Collectors.toSet());
+        Map<String, List<HistoricTaskInstance>> tasks = historyService.createHistoricTaskInstanceQuery()
+                .processInstanceIdIn(new ArrayList<>(ids))
+                .list()
+                .stream()
+                .collect(Collectors.groupingBy(HistoricTaskInstance::getProcessInstanceId));
+        Map<String, List<HistoricVariableInstance>> variables = historyService.createHistoricVariableInstanceQuery()
+                .processInstanceIds(ids)
+                .list()
+                .stream()
+                .collect(Collectors.groupingBy(HistoricVariableInstance::getProcessInstanceId));
+        Map<String, List<HistoricActivityInstance>> activitiesByInstance = loadActivities(ids);
+
+        for (HistoricProcessInstance instance : batch) {
+            List<HistoricActivityInstance> activities = activitiesByInstance.getOrDefault(instance.getId(), List.of());
+            List<HistoricTaskInstance> instanceTasks = tasks.getOrDefault(instance.getId(), List.of());
+            List<HistoricVariableInstance> instanceVariables = variables.getOrDefault(instance.getId(), List.of());
+
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("instance", DtoMapper.toProcessInstanceDto(instance));
+            record.put("tasks", instanceTasks.stream().map(DtoMapper::toTaskDto).collect(Collectors.toList()));
+            record.put("activities", activities.stream().map(HistoryCleanupServiceImpl::toActivityRecord).collect(Collectors.toList()));
+            Map<String, Object> values = new HashMap<>();
+            for (HistoricVariableInstance variable : instanceVariables) {
+                values.put(variable.getVariableName(), archivable(variable.getValue()));
+            }
+            record.put("variables", values);
+            out.write(objectMapper.writeValueAsBytes(record));
+            out.write('\n');
+
+            result.setTasks(result.getTasks() + instanceTasks.size());
+            result.setActivities(result.getActivities() + activities.size());
+            result.setVariables(result.getVariables() + instanceVariables.size());
+        }
+    }
+
+    private Map<String, List<HistoricActivityInstance>> loadActivities(Set<String> processInstanceIds) {
+        NativeHistoricActivityInstanceQuery query = historyService.createNativeHistoricActivityInstanceQuery();
+        List<String> params = new ArrayList<>();
+        for (String id : processInstanceIds) {
+            String param = "pi" + params.size();
+            query.parameter(param, id);
+            params.add("#{" + param + "}");
+        }
+        return query.sql("SELECT RES.* FROM ACT_HI_ACTINST RES WHERE RES.PROC_INST_ID_ IN (" + String.join(", ", params) + ")"
+                        + " ORDER BY RES.START_TIME_ ASC, RES.ID_ ASC")
+                .list()
+                .stream()
+                .collect(Collectors.groupingBy(HistoricActivityInstance::getProcessInstanceId));
+    }
+
+    private static Map<String, Object> toActivityRecord(HistoricActivityInstance activity) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("activityId", activity.getActivityId());
+        record.put("activityName", activity.getActivityName());
+        record.put("activityType", activity.getActivityType());
+        record.put("assignee", activity.getAssignee());
+        record.put("startTime", activity.getStartTime());
+        record.put("endTime", activity.getEndTime());
+        record.put("durationInMillis", activity.getDurationInMillis());
+        return record;
+    }
+
+    /**
+     * Variable value as it goes into the archive: lists, maps and beans as JSON trees, so they can be
+     * read back; values Jackson cannot serialize fall back to their string form
+     */
+    private Object archivable(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Date) {
+            return value;
+        }
+        if (value instanceof byte[]) {
+            return Base64.getEncoder().encodeToString((byte[]) value);
+        }
+        try {
+            return objectMapper.valueToTree(value);
+        } catch (IllegalArgumentException e) {
+            return String.valueOf(value);
+        }
+    }
+
+    private static void closeQuietly(Closeable out) {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("Closing history archive failed: {}", e.getMessage());
+        }
+    }
+}
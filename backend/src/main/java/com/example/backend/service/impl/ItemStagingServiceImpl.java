@@ -4,6 +4,7 @@ import com.example.backend.dto.ItemStagingDto;
 import com.example.backend.model.ItemStaging;
 import com.example.backend.repository.ItemStagingRepository;
 import com.example.backend.service.ItemStagingService;
+import com.example.backend.service.SheetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 public class ItemStagingServiceImpl implements ItemStagingService {
     
     private final ItemStagingRepository repository;
+    private final SheetService sheetService;
     
     @Override
     public List<ItemStagingDto> getItemsBySheetId(String sheetId) {
@@ -59,6 +61,7 @@ public class ItemStagingServiceImpl implements ItemStagingService {
         item.setEditedAt(now);
         item.setStatus("APPROVED");
         repository.save(item);
+        sheetService.markApprovalChanged(item.getSheetId());
         
         log.info("✓ Approved item {} by {}", item.getItemName(), approverUsername);
     }
@@ -88,6 +91,7 @@ public class ItemStagingServiceImpl implements ItemStagingService {
             item.setStatus("APPROVED");
         });
         repository.saveAll(items);
+        sheetService.markApprovalChanged(sheetId);
         
         log.info("✓ Bulk approved {} items for sheet {} by {}", items.size(), sheetId, approverUsername);
     }
@@ -101,6 +105,7 @@ public class ItemStagingServiceImpl implements ItemStagingService {
     @Override
     public void deleteBySheetId(String sheetId) {
         repository.deleteBySheetId(sheetId);
+        sheetService.markApprovalChanged(sheetId);
     }
     
     private ItemStagingDto toDto(ItemStaging entity) {
@@ -0,0 +1,174 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.service.CacheInvalidationBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache invalidation bus over the shared database: evictions are rows in cache_invalidation,
+ * and every node polls for rows written by other nodes since its last poll.
+ *
+ * Identity values can commit out of order, so each poll also re-reads the recent rows of a trailing
+ * window of ids (app.cache.invalidation.id-window, rows younger than app.cache.invalidation.late-commit-seconds)
+ * and skips the ids it has already delivered; an eviction committed late behind a higher id is still picked up.
+ * Publishing commits right after the insert, so only the recent part of the window can still change, and an
+ * idle bus reads no rows.
+ */
+@Service
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "jdbc", matchIfMissing = true)
+@Slf4j
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final int MAX_KEY_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate ownTransaction;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final NavigableSet<Long> delivered = new ConcurrentSkipListSet<>();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "cache-invalidation-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Counter published;
+    private final Counter received;
+
+    private volatile long lastId = -1L;
+    private long polls;
+
+    @Value("${app.cache.invalidation.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${app.cache.invalidation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.cache.invalidation.id-window:1000}")
+    private long idWindow;
+
+    @Value("${app.cache.invalidation.late-commit-seconds:60}")
+    private long lateCommitSeconds;
+
+    @Value("${app.cache.invalidation.retention-minutes:10}")
+    private long retentionMinutes;
+
+    public JdbcCacheInvalidationBus(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.published = Counter.builder("cache.invalidation.published")
+                .description("Cache evictions broadcast to other nodes")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("Cache evictions received from other nodes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // Older rows describe caches this node never filled
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_invalidation", Long.class);
+        lastId = max != null ? max : 0L;
+        poller.scheduleWithFixedDelay(this::pollQuietly, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("✓ Cache invalidation bus started (node {}, polling every {} ms)", nodeId, pollIntervalMs);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        poller.shutdownNow();
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        // A key that does not fit is broadcast as a clear of the whole cache
+        String cacheKey = key != null && key.length() <= MAX_KEY_LENGTH ? key : null;
+        ownTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO cache_invalidation (node_id, cache_name, cache_key, created_at) VALUES (?, ?, ?, ?)",
+                nodeId, cacheName, cacheKey, new Timestamp(System.currentTimeMillis())));
+        published.increment();
+    }
+
+    @Override
+    public void subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+            if (++polls % 60 == 0) {
+                purge();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cache invalidation poll failed: {}", e.getMessage());
+        }
+    }
+
+    private void poll() {
+        long seen = lastId;
+        long from = Math.max(0L, seen - idWindow);
+        // created_at is set by the publishing node before its commit; the margin also covers clock skew
+        Timestamp lateCutoff = new Timestamp(System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(lateCommitSeconds));
+        jdbcTemplate.query(
+                "SELECT id, node_id, cache_name, cache_key FROM cache_invalidation"
+                        + " WHERE id > ? AND (id > ? OR created_at >= ?) ORDER BY id LIMIT ?",
+                rs -> {
+                    long id = rs.getLong("id");
+                    if (id > lastId) {
+                        lastId = id;
+                    }
+                    if (!delivered.add(id) || nodeId.equals(rs.getString("node_id"))) {
+                        return;
+                    }
+                    deliver(rs.getString("cache_name"), rs.getString("cache_key"));
+                },
+                from, seen, lateCutoff, batchSize + idWindow);
+        delivered.headSet(lastId - idWindow, true).clear();
+    }
+
+    private void deliver(String cacheName, String key) {
+        received.increment();
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.onInvalidation(cacheName, key);
+            } catch (RuntimeException e) {
+                log.error("Cache invalidation subscriber failed for {} / {}", cacheName, key, e);
+            }
+        }
+    }
+
+    private void purge() {
+        int deleted = jdbcTemplate.update("DELETE FROM cache_invalidation WHERE created_at < ?",
+                new Timestamp(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(retentionMinutes)));
+        if (deleted > 0) {
+            log.debug("Purged {} cache invalidation rows", deleted);
+        }
+    }
+}
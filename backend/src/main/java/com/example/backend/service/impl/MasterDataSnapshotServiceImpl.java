@@ -0,0 +1,162 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.event.MasterDataChangedEvent;
+import com.example.backend.service.CacheInvalidationBus;
+import com.example.backend.service.ItemService;
+import com.example.backend.service.MasterDataSnapshotService;
+import com.example.backend.service.PlanService;
+import com.example.backend.service.ProductService;
+import com.example.backend.util.EntityTypeUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MasterDataSnapshotServiceImpl implements MasterDataSnapshotService {
+
+    private static final String MASTER_SHEET_ID = "MASTER";
+    private static final String[] ENTITY_TYPES = {"item", "plan", "product"};
+
+    private final ItemService itemService;
+    private final PlanService planService;
+    private final ProductService productService;
+    private final ObjectProvider<CacheInvalidationBus> invalidationBus;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    @Override
+    public List<?> getMasterData(String entityType) {
+        EntityTypeUtils.validateEntityType(entityType);
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            snapshot = loadAll();
+        }
+        return snapshot.tables.get(entityType.toLowerCase());
+    }
+
+    @Override
+    public long getVersion() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot.version : 0L;
+    }
+
+    @Override
+    public synchronized void reload(String entityType) {
+        EntityTypeUtils.validateEntityType(entityType);
+        Snapshot previous = current.get();
+        if (previous == null) {
+            loadAll();
+            return;
+        }
+        Map<String, List<?>> tables = new HashMap<>(previous.tables);
+        tables.put(entityType.toLowerCase(), load(entityType.toLowerCase()));
+        Snapshot next = new Snapshot(versions.incrementAndGet(), tables);
+        current.set(next);
+        log.info("Master data snapshot v{}: reloaded {} ({} rows)", next.version, entityType,
+                next.tables.get(entityType.toLowerCase()).size());
+    }
+
+    @Override
+    public void invalidateAll() {
+        current.set(null);
+        log.info("Master data snapshot invalidated");
+    }
+
+    /**
+     * Migrations on other nodes arrive through the cache invalidation bus
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        invalidationBus.ifAvailable(bus -> bus.subscribe((cacheName, key) -> {
+            if (!CacheInvalidationBus.MASTER_DATA.equals(cacheName)) {
+                return;
+            }
+            if (key == null) {
+                invalidateAll();
+            } else {
+                reloadOrInvalidate(key);
+            }
+        }));
+    }
+
+    /**
+     * Swap in the new master rows only once the migration has committed, then tell the other nodes
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMasterDataChanged(MasterDataChangedEvent event) {
+        reloadOrInvalidate(event.getEntityType());
+        invalidationBus.ifAvailable(bus -> {
+            try {
+                bus.publish(CacheInvalidationBus.MASTER_DATA, event.getEntityType().toLowerCase());
+            } catch (RuntimeException e) {
+                log.error("Failed to broadcast master data change for {}", event.getEntityType(), e);
+            }
+        });
+    }
+
+    private void reloadOrInvalidate(String entityType) {
+        try {
+            reload(entityType);
+        } catch (Exception e) {
+            // Never serve the stale table; the next read reloads everything
+            log.error("Failed to reload master data snapshot for {}", entityType, e);
+            invalidateAll();
+        }
+    }
+
+    private synchronized Snapshot loadAll() {
+        Snapshot existing = current.get();
+        if (existing != null) {
+            return existing; // Loaded by a concurrent caller
+        }
+        Map<String, List<?>> tables = new HashMap<>();
+        for (String entityType : ENTITY_TYPES) {
+            tables.put(entityType, load(entityType));
+        }
+        Snapshot snapshot = new Snapshot(versions.incrementAndGet(), tables);
+        current.set(snapshot);
+        log.info("Master data snapshot v{} loaded: {} items, {} plans, {} products", snapshot.version,
+                tables.get("item").size(), tables.get("plan").size(), tables.get("product").size());
+        return snapshot;
+    }
+
+    private List<?> load(String entityType) {
+        switch (entityType) {
+            case "item":
+                return List.copyOf(itemService.getItemsBySheet(MASTER_SHEET_ID));
+            case "plan":
+                return List.copyOf(planService.getPlansBySheet(MASTER_SHEET_ID));
+            case "product":
+                return List.copyOf(productService.getProductsBySheet(MASTER_SHEET_ID));
+            default:
+                throw new IllegalArgumentException("Unknown entity type: " + entityType);
+        }
+    }
+
+    /**
+     * Immutable view of all master tables at one version
+     */
+    private static final class Snapshot {
+        final long version;
+        final Map<String, List<?>> tables;
+
+        Snapshot(long version, Map<String, List<?>> tables) {
+            this.version = version;
+            this.tables = Map.copyOf(tables);
+        }
+    }
+}
@@ -0,0 +1,637 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.MetricsDto;
+import com.example.backend.event.HistoryPurgedEvent;
+import com.example.backend.service.MetricsRollupService;
+import com.example.backend.util.DurationHistogram;
+import com.example.backend.util.FlowableQueryUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Rollup store backed by LongAdder counters and fixed-size hourly/daily ring buffers.
+ * Running instances and open tasks are tracked by ID, so repeated end events
+ * (TASK_COMPLETED followed by ENTITY_DELETED) are only counted once.
+ * Their start/create times give the durations recorded into per-definition histograms,
+ * which are merged on read for the all-definitions view.
+ * A rebuild loads a fresh state without blocking readers or events; updates applied while it loads
+ * are recorded and replayed onto the fresh state, which is then swapped in under a short write lock.
+ * The counters are per node (an instance started here and ended on another node stays RUNNING here),
+ * so the store is rebuilt periodically and after every history purge.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MetricsRollupServiceImpl implements MetricsRollupService {
+
+    private static final String NO_DEFINITION = "(none)";
+
+    private static final Set<Counter> SERIES = EnumSet.of(
+            Counter.STARTED, Counter.COMPLETED, Counter.TASKS_COMPLETED, Counter.CLAIMS);
+    private static final int HOURLY_SLOTS = 48;
+    private static final int DAILY_SLOTS = 91;
+    private static final long HOUR_SECONDS = 3600L;
+    private static final double MINUTE_MILLIS = 60_000d;
+
+    private static final String INSTANCE_TOTALS_SQL =
+            "SELECT PROC_DEF_ID_, COUNT(*) AS STARTED, " +
+            "COALESCE(SUM(CASE WHEN END_TIME_ IS NOT NULL THEN 1 ELSE 0 END), 0) AS ENDED " +
+            "FROM ACT_HI_PROCINST GROUP BY PROC_DEF_ID_";
+
+    private static final String RUNNING_INSTANCES_SQL =
+            "SELECT ID_, PROC_DEF_ID_, SUSPENSION_STATE_, START_TIME_ FROM ACT_RU_EXECUTION " +
+            "WHERE PARENT_ID_ IS NULL AND ID_ = PROC_INST_ID_";
+
+    // CLAIM_TIME_ only keeps the latest claim of a task, so rebuilt claim counts are a lower bound
+    private static final String TASK_TOTALS_SQL =
+            "SELECT PROC_DEF_ID_, COUNT(*) AS CREATED, " +
+            "COALESCE(SUM(CASE WHEN END_TIME_ IS NOT NULL THEN 1 ELSE 0 END), 0) AS ENDED, " +
+            "COALESCE(SUM(CASE WHEN CLAIM_TIME_ IS NOT NULL THEN 1 ELSE 0 END), 0) AS CLAIMED " +
+            "FROM ACT_HI_TASKINST GROUP BY PROC_DEF_ID_";
+
+    private static final String OPEN_TASKS_SQL =
+            "SELECT ID_, PROC_DEF_ID_, TASK_DEF_KEY_, ASSIGNEE_, CREATE_TIME_ FROM ACT_RU_TASK";
+
+    // Deleted instances and tasks (DELETE_REASON_ set) are left out of the duration histograms
+    private static final String PROCESS_DURATIONS_SQL =
+            "SELECT PROC_DEF_ID_, DURATION_ FROM ACT_HI_PROCINST " +
+            "WHERE END_TIME_ IS NOT NULL AND DURATION_ IS NOT NULL AND DELETE_REASON_ IS NULL";
+
+    private static final String TASK_DURATIONS_SQL =
+            "SELECT PROC_DEF_ID_, TASK_DEF_KEY_, DURATION_ FROM ACT_HI_TASKINST " +
+            "WHERE END_TIME_ IS NOT NULL AND DURATION_ IS NOT NULL AND DELETE_REASON_ IS NULL";
+
+    private static final String SERIES_SQL =
+            "SELECT PROC_DEF_ID_, CAST(%1$s AS DATE) AS BUCKET_DAY, EXTRACT(HOUR FROM %1$s) AS BUCKET_HOUR, " +
+            "COUNT(*) AS CNT FROM %2$s WHERE %1$s >= ? " +
+            "GROUP BY PROC_DEF_ID_, CAST(%1$s AS DATE), EXTRACT(HOUR FROM %1$s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildMonitor = new Object();
+    private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "metrics-rollup-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile State state = new State();
+    // Updates applied while a rebuild is loading; null when no rebuild runs
+    private volatile Queue<Consumer<State>> replay;
+
+    @Value("${app.metrics.rollup.reconcile-minutes:15}")
+    private long reconcileMinutes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startReconciler() {
+        if (reconcileMinutes > 0) {
+            reconciler.scheduleWithFixedDelay(this::reconcile, reconcileMinutes, reconcileMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stopReconciler() {
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * Purged instances leave the history-based totals and durations; reload them
+     */
+    @EventListener(HistoryPurgedEvent.class)
+    public void onHistoryPurged(HistoryPurgedEvent event) {
+        reconciler.execute(this::reconcile);
+    }
+
+    @Override
+    public boolean hasSeries(Counter counter) {
+        return SERIES.contains(counter);
+    }
+
+    @Override
+    public long get(Counter counter, String definitionKey) {
+        Stats stats = state.find(definitionKey);
+        return stats != null ? stats.counters[counter.ordinal()].sum() : 0L;
+    }
+
+    @Override
+    public long[] daily(Counter counter, String definitionKey, int days) {
+        return series(counter, definitionKey, days, DAILY_SLOTS, false);
+    }
+
+    @Override
+    public long[] hourly(Counter counter, String definitionKey, int hours) {
+        return series(counter, definitionKey, hours, HOURLY_SLOTS, true);
+    }
+
+    @Override
+    public Map<String, Map<Counter, Long>> snapshot() {
+        State current = state;
+        Map<String, Map<Counter, Long>> result = new LinkedHashMap<>();
+        result.put(ALL_DEFINITIONS, current.totals.toMap());
+        new TreeMap<>(current.byKey).forEach((key, stats) -> result.put(key, stats.toMap()));
+        return result;
+    }
+
+    @Override
+    public List<MetricsDto.DurationPercentiles> processDurations() {
+        State current = state;
+        List<MetricsDto.DurationPercentiles> result = new ArrayList<>();
+        DurationHistogram all = new DurationHistogram();
+        new TreeMap<>(current.processDurations).forEach((key, histogram) -> {
+            all.merge(histogram);
+            result.add(percentiles(key, null, histogram));
+        });
+        result.add(0, percentiles(ALL_DEFINITIONS, null, all));
+        return result;
+    }
+
+    @Override
+    public List<MetricsDto.DurationPercentiles> taskDurations(String definitionKey) {
+        State current = state;
+        List<MetricsDto.DurationPercentiles> result = new ArrayList<>();
+        new TreeMap<>(current.taskDurations).forEach((key, byTask) -> {
+            if (definitionKey == null || ALL_DEFINITIONS.equals(definitionKey) || definitionKey.equals(key)) {
+                new TreeMap<>(byTask).forEach((taskKey, histogram) -> result.add(percentiles(key, taskKey, histogram)));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void rebuild() {
+        synchronized (rebuildMonitor) {
+            long start = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                replay = new ConcurrentLinkedQueue<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            State fresh = new State();
+            try {
+                // Deliberately not in a read replica scope: updates committed just before the replay queue
+                // was set must be in the scan, so it reads the write pool
+                TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+                readOnly.setReadOnly(true);
+                readOnly.executeWithoutResult(status -> load(fresh));
+            } catch (RuntimeException e) {
+                replay = null;
+                throw e;
+            }
+            lock.writeLock().lock();
+            try {
+                // Updates are idempotent per running instance/open task ID, so one the scan already saw is a
+                // no-op. An instance that both started and ended during the scan is counted twice in the
+                // STARTED/COMPLETED totals until the next reconcile.
+                for (Consumer<State> update : replay) {
+                    applyTo(fresh, update);
+                }
+                state = fresh;
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("✓ Metrics rollup rebuilt in {} ms", System.currentTimeMillis() - start);
+        }
+    }
+
+    private void reconcile() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Metrics rollup reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    private void load(State fresh) {
+        loadTotals(fresh);
+        loadDurations(fresh);
+        loadSeries(fresh, "ACT_HI_PROCINST", "START_TIME_", Counter.STARTED);
+        loadSeries(fresh, "ACT_HI_PROCINST", "END_TIME_", Counter.COMPLETED);
+        loadSeries(fresh, "ACT_HI_TASKINST", "END_TIME_", Counter.TASKS_COMPLETED);
+        loadSeries(fresh, "ACT_HI_TASKINST", "CLAIM_TIME_", Counter.CLAIMS);
+    }
+
+    @Override
+    public void processStarted(String processInstanceId, String processDefinitionId, Date time) {
+        afterCommit(current -> {
+            String key = definitionKey(processDefinitionId);
+            if (current.instances.putIfAbsent(processInstanceId, new InstanceState(key, false, time)) == null) {
+                current.add(key, Counter.RUNNING, 1);
+                current.addSeries(key, Counter.STARTED, time, 1);
+            }
+        });
+    }
+
+    @Override
+    public void processEnded(String processInstanceId, Date time, boolean completed) {
+        afterCommit(current -> {
+            InstanceState instance = current.instances.remove(processInstanceId);
+            if (instance == null) {
+                return;
+            }
+            current.add(instance.key, Counter.RUNNING, -1);
+            if (instance.suspended.get()) {
+                current.add(instance.key, Counter.SUSPENDED, -1);
+            }
+            current.addSeries(instance.key, Counter.COMPLETED, time, 1);
+            if (completed && instance.startTime != null && time != null) {
+                current.processHistogram(instance.key).record(time.getTime() - instance.startTime.getTime());
+            }
+        });
+    }
+
+    @Override
+    public void processSuspended(String processInstanceId, boolean suspended) {
+        afterCommit(current -> {
+            InstanceState instance = current.instances.get(processInstanceId);
+            if (instance != null && instance.suspended.getAndSet(suspended) != suspended) {
+                current.add(instance.key, Counter.SUSPENDED, suspended ? 1 : -1);
+            }
+        });
+    }
+
+    @Override
+    public void taskCreated(String taskId, String processDefinitionId, String taskDefinitionKey, String assignee, Date createTime) {
+        afterCommit(current -> {
+            String key = definitionKey(processDefinitionId);
+            TaskState task = new TaskState(key, taskDefinitionKey, assignee != null, createTime);
+            if (current.tasks.putIfAbsent(taskId, task) == null) {
+                current.add(key, Counter.TASKS_CREATED, 1);
+                current.add(key, Counter.TASKS_OPEN, 1);
+                if (assignee != null) {
+                    current.add(key, Counter.TASKS_ASSIGNED, 1);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void taskAssigned(String taskId, String assignee, Date time) {
+        afterCommit(current -> {
+            TaskState task = current.tasks.get(taskId);
+            boolean assigned = assignee != null;
+            if (task == null || task.assigned.getAndSet(assigned) == assigned) {
+                // Unknown task, or an update that did not change the assignment state
+                return;
+            }
+            current.add(task.key, Counter.TASKS_ASSIGNED, assigned ? 1 : -1);
+            if (assigned) {
+                current.addSeries(task.key, Counter.CLAIMS, time, 1);
+            }
+        });
+    }
+
+    @Override
+    public void taskEnded(String taskId, Date time, boolean completed) {
+        afterCommit(current -> {
+            TaskState task = current.tasks.remove(taskId);
+            if (task == null) {
+                return;
+            }
+            current.add(task.key, Counter.TASKS_OPEN, -1);
+            if (task.assigned.get()) {
+                current.add(task.key, Counter.TASKS_ASSIGNED, -1);
+            }
+            current.addSeries(task.key, Counter.TASKS_COMPLETED, time, 1);
+            if (completed && task.createTime != null && time != null) {
+                current.taskHistogram(task.key, task.taskDefinitionKey).record(time.getTime() - task.createTime.getTime());
+            }
+        });
+    }
+
+    private long[] series(Counter counter, String definitionKey, int length, int slots, boolean hourly) {
+        if (!hasSeries(counter)) {
+            throw new IllegalArgumentException("Invalid counter: " + counter + " has no time series");
+        }
+        if (length < 1 || length > slots) {
+            throw new IllegalArgumentException("Invalid range: must be between 1 and " + slots);
+        }
+        long[] values = new long[length];
+        Stats stats = state.find(definitionKey);
+        if (stats == null) {
+            return values;
+        }
+        TimeBuckets buckets = hourly ? stats.hourly.get(counter) : stats.daily.get(counter);
+        long last = hourly ? hourEpoch(new Date()) : LocalDate.now().toEpochDay();
+        for (int i = 0; i < length; i++) {
+            values[i] = buckets.get(last - length + 1 + i);
+        }
+        return values;
+    }
+
+    /**
+     * Apply an update once the surrounding engine transaction has committed,
+     * so rolled back starts or claims are never counted
+     */
+    private void afterCommit(Consumer<State> update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update);
+                }
+            });
+        } else {
+            apply(update);
+        }
+    }
+
+    private void apply(Consumer<State> update) {
+        lock.readLock().lock();
+        try {
+            applyTo(state, update);
+            Queue<Consumer<State>> pending = replay;
+            if (pending != null) {
+                pending.add(update);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyTo(State target, Consumer<State> update) {
+        try {
+            update.accept(target);
+        } catch (RuntimeException e) {
+            log.warn("Metrics rollup update failed: {}", e.getMessage());
+        }
+    }
+
+    private void loadTotals(State fresh) {
+        jdbcTemplate.query(INSTANCE_TOTALS_SQL, rs -> {
+            String key = definitionKey(rs.getString("PROC_DEF_ID_"));
+            fresh.add(key, Counter.STARTED, rs.getLong("STARTED"));
+            fresh.add(key, Counter.COMPLETED, rs.getLong("ENDED"));
+        });
+        jdbcTemplate.query(RUNNING_INSTANCES_SQL, rs -> {
+            String key = definitionKey(rs.getString("PROC_DEF_ID_"));
+            boolean suspended = rs.getInt("SUSPENSION_STATE_") == 2;
+            fresh.instances.put(rs.getString("ID_"), new InstanceState(key, suspended, rs.getTimestamp("START_TIME_")));
+            fresh.add(key, Counter.RUNNING, 1);
+            if (suspended) {
+                fresh.add(key, Counter.SUSPENDED, 1);
+            }
+        });
+        jdbcTemplate.query(TASK_TOTALS_SQL, rs -> {
+            String key = definitionKey(rs.getString("PROC_DEF_ID_"));
+            fresh.add(key, Counter.TASKS_CREATED, rs.getLong("CREATED"));
+            fresh.add(key, Counter.TASKS_COMPLETED, rs.getLong("ENDED"));
+            fresh.add(key, Counter.CLAIMS, rs.getLong("CLAIMED"));
+        });
+        jdbcTemplate.query(OPEN_TASKS_SQL, rs -> {
+            String key = definitionKey(rs.getString("PROC_DEF_ID_"));
+            boolean assigned = rs.getString("ASSIGNEE_") != null;
+            fresh.tasks.put(rs.getString("ID_"),
+                    new TaskState(key, rs.getString("TASK_DEF_KEY_"), assigned, rs.getTimestamp("CREATE_TIME_")));
+            fresh.add(key, Counter.TASKS_OPEN, 1);
+            if (assigned) {
+                fresh.add(key, Counter.TASKS_ASSIGNED, 1);
+            }
+        });
+    }
+
+    private void loadDurations(State fresh) {
+        jdbcTemplate.query(PROCESS_DURATIONS_SQL, rs -> {
+            fresh.processHistogram(definitionKey(rs.getString("PROC_DEF_ID_"))).record(rs.getLong("DURATION_"));
+        });
+        jdbcTemplate.query(TASK_DURATIONS_SQL, rs -> {
+            fresh.taskHistogram(definitionKey(rs.getString("PROC_DEF_ID_")), rs.getString("TASK_DEF_KEY_"))
+                    .record(rs.getLong("DURATION_"));
+        });
+    }
+
+    private static MetricsDto.DurationPercentiles percentiles(String definitionKey, String taskDefinitionKey,
+                                                              DurationHistogram histogram) {
+        MetricsDto.DurationPercentiles dto = new MetricsDto.DurationPercentiles();
+        dto.definitionKey = definitionKey;
+        dto.taskDefinitionKey = taskDefinitionKey;
+        dto.count = histogram.getCount();
+        dto.avgMinutes = histogram.getMean() / MINUTE_MILLIS;
+        dto.p50Minutes = histogram.percentile(50) / MINUTE_MILLIS;
+        dto.p90Minutes = histogram.percentile(90) / MINUTE_MILLIS;
+        dto.p99Minutes = histogram.percentile(99) / MINUTE_MILLIS;
+        dto.maxMinutes = histogram.getMax() / MINUTE_MILLIS;
+        return dto;
+    }
+
+    /**
+     * Fill the ring buffers of one counter from a grouped (definition, day, hour) query
+     * over the daily window; hours older than the hourly window are skipped
+     */
+    private void loadSeries(State fresh, String table, String column, Counter counter) {
+        LocalDate firstDay = LocalDate.now().minusDays(DAILY_SLOTS - 1L);
+        long firstHour = hourEpoch(new Date()) - HOURLY_SLOTS + 1;
+        jdbcTemplate.query(String.format(SERIES_SQL, column, table), rs -> {
+            Stats stats = fresh.stats(definitionKey(rs.getString("PROC_DEF_ID_")));
+            LocalDate day = rs.getDate("BUCKET_DAY").toLocalDate();
+            long count = rs.getLong("CNT");
+            stats.daily.get(counter).add(day.toEpochDay(), count);
+            fresh.totals.daily.get(counter).add(day.toEpochDay(), count);
+            long hour = day.atTime(rs.getInt("BUCKET_HOUR"), 0)
+                    .atZone(ZoneId.systemDefault()).toEpochSecond() / HOUR_SECONDS;
+            if (hour >= firstHour) {
+                stats.hourly.get(counter).add(hour, count);
+                fresh.totals.hourly.get(counter).add(hour, count);
+            }
+        }, Timestamp.valueOf(firstDay.atStartOfDay()));
+    }
+
+    private static String definitionKey(String processDefinitionId) {
+        String key = FlowableQueryUtils.processDefinitionKey(processDefinitionId);
+        return key != null ? key : NO_DEFINITION;
+    }
+
+    private static long hourEpoch(Date time) {
+        return time.getTime() / 1000L / HOUR_SECONDS;
+    }
+
+    private static long dayEpoch(Date time) {
+        return LocalDateTime.ofInstant(time.toInstant(), ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Everything a rebuild replaces in one step
+     */
+    private static final class State {
+        final Map<String, Stats> byKey = new ConcurrentHashMap<>();
+        final Stats totals = new Stats();
+        final Map<String, InstanceState> instances = new ConcurrentHashMap<>();
+        final Map<String, TaskState> tasks = new ConcurrentHashMap<>();
+        final Map<String, DurationHistogram> processDurations = new ConcurrentHashMap<>();
+        final Map<String, Map<String, DurationHistogram>> taskDurations = new ConcurrentHashMap<>();
+
+        DurationHistogram processHistogram(String definitionKey) {
+            return processDurations.computeIfAbsent(definitionKey, k -> new DurationHistogram());
+        }
+
+        DurationHistogram taskHistogram(String definitionKey, String taskDefinitionKey) {
+            return taskDurations.computeIfAbsent(definitionKey, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(taskDefinitionKey != null ? taskDefinitionKey : NO_DEFINITION, k -> new DurationHistogram());
+        }
+
+        Stats find(String definitionKey) {
+            return definitionKey == null || ALL_DEFINITIONS.equals(definitionKey) ? totals : byKey.get(definitionKey);
+        }
+
+        Stats stats(String definitionKey) {
+            return byKey.computeIfAbsent(definitionKey, k -> new Stats());
+        }
+
+        void add(String definitionKey, Counter counter, long delta) {
+            stats(definitionKey).counters[counter.ordinal()].add(delta);
+            totals.counters[counter.ordinal()].add(delta);
+        }
+
+        void addSeries(String definitionKey, Counter counter, Date time, long delta) {
+            add(definitionKey, counter, delta);
+            Date at = time != null ? time : new Date();
+            long hour = hourEpoch(at);
+            long day = dayEpoch(at);
+            Stats stats = stats(definitionKey);
+            stats.hourly.get(counter).add(hour, delta);
+            stats.daily.get(counter).add(day, delta);
+            totals.hourly.get(counter).add(hour, delta);
+            totals.daily.get(counter).add(day, delta);
+        }
+    }
+
+    /**
+     * Counters and ring buffers of one definition key (or of all of them)
+     */
+    private static final class Stats {
+        final LongAdder[] counters = new LongAdder[Counter.values().length];
+        final Map<Counter, TimeBuckets> hourly = new EnumMap<>(Counter.class);
+        final Map<Counter, TimeBuckets> daily = new EnumMap<>(Counter.class);
+
+        Stats() {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = new LongAdder();
+            }
+            for (Counter counter : SERIES) {
+                hourly.put(counter, new TimeBuckets(HOURLY_SLOTS));
+                daily.put(counter, new TimeBuckets(DAILY_SLOTS));
+            }
+        }
+
+        Map<Counter, Long> toMap() {
+            Map<Counter, Long> values = new EnumMap<>(Counter.class);
+            for (Counter counter : Counter.values()) {
+                values.put(counter, counters[counter.ordinal()].sum());
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Ring buffer of counts keyed by epoch (hour or day number). A slot is reused
+     * once a newer epoch maps onto it; updates for epochs that fell out of the window are dropped.
+     */
+    private static final class TimeBuckets {
+        private final int size;
+        private final AtomicLongArray epochs;
+        private final AtomicLongArray counts;
+
+        TimeBuckets(int size) {
+            this.size = size;
+            this.epochs = new AtomicLongArray(size);
+            this.counts = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) {
+                epochs.set(i, Long.MIN_VALUE);
+            }
+        }
+
+        void add(long epoch, long delta) {
+            int slot = (int) Math.floorMod(epoch, (long) size);
+            long current = epochs.get(slot);
+            if (current != epoch) {
+                if (current > epoch) {
+                    return;
+                }
+                synchronized (this) {
+                    if (epochs.get(slot) < epoch) {
+                        counts.set(slot, 0L);
+                        epochs.set(slot, epoch);
+                    } else if (epochs.get(slot) > epoch) {
+                        return;
+                    }
+                }
+            }
+            counts.addAndGet(slot, delta);
+        }
+
+        long get(long epoch) {
+            int slot = (int) Math.floorMod(epoch, (long) size);
+            return epochs.get(slot) == epoch ? counts.get(slot) : 0L;
+        }
+    }
+
+    /**
+     * Running process instance
+     */
+    private static final class InstanceState {
+        final String key;
+        final AtomicBoolean suspended;
+        final Date startTime;
+
+        InstanceState(String key, boolean suspended, Date startTime) {
+            this.key = key;
+            this.suspended = new AtomicBoolean(suspended);
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * Open task
+     */
+    private static final class TaskState {
+        final String key;
+        final String taskDefinitionKey;
+        final AtomicBoolean assigned;
+        final Date createTime;
+
+        TaskState(String key, String taskDefinitionKey, boolean assigned, Date createTime) {
+            this.key = key;
+            this.taskDefinitionKey = taskDefinitionKey;
+            this.assigned = new AtomicBoolean(assigned);
+            this.createTime = createTime;
+        }
+    }
+}
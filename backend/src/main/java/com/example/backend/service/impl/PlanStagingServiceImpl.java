@@ -4,6 +4,7 @@ import com.example.backend.dto.PlanStagingDto;
 import com.example.backend.model.PlanStaging;
 import com.example.backend.repository.PlanStagingRepository;
 import com.example.backend.service.PlanStagingService;
+import com.example.backend.service.SheetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 public class PlanStagingServiceImpl implements PlanStagingService {
     
     private final PlanStagingRepository repository;
+    private final SheetService sheetService;
     
     @Override
     public List<PlanStagingDto> getPlansBySheetId(String sheetId) {
@@ -59,6 +61,7 @@ public class PlanStagingServiceImpl implements PlanStagingService {
         plan.setEditedAt(now);
         plan.setStatus("APPROVED");
         repository.save(plan);
+        sheetService.markApprovalChanged(plan.getSheetId());
         
         log.info("✓ Approved plan {} by {}", plan.getPlanName(), approverUsername);
     }
@@ -88,6 +91,7 @@ public class PlanStagingServiceImpl implements PlanStagingService {
             plan.setStatus("APPROVED");
         });
         repository.saveAll(plans);
+        sheetService.markApprovalChanged(sheetId);
         
         log.info("✓ Bulk approved {} plans for sheet {} by {}", plans.size(), sheetId, approverUsername);
     }
@@ -101,6 +105,7 @@ public class PlanStagingServiceImpl implements PlanStagingService {
     @Override
     public void deleteBySheetId(String sheetId) {
         repository.deleteBySheetId(sheetId);
+        sheetService.markApprovalChanged(sheetId);
     }
     
     private PlanStagingDto toDto(PlanStaging entity) {
@@ -4,6 +4,7 @@ import com.example.backend.dto.ProductStagingDto;
 import com.example.backend.model.ProductStaging;
 import com.example.backend.repository.ProductStagingRepository;
 import com.example.backend.service.ProductStagingService;
+import com.example.backend.service.SheetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 public class ProductStagingServiceImpl implements ProductStagingService {
     
     private final ProductStagingRepository repository;
+    private final SheetService sheetService;
     
     @Override
     public List<ProductStagingDto> getProductsBySheetId(String sheetId) {
@@ -59,6 +61,7 @@ public class ProductStagingServiceImpl implements ProductStagingService {
         product.setEditedAt(now);
         product.setStatus("APPROVED");
         repository.save(product);
+        sheetService.markApprovalChanged(product.getSheetId());
         
         log.info("✓ Approved product {} by {}", product.getProductName(), approverUsername);
     }
@@ -88,6 +91,7 @@ public class ProductStagingServiceImpl implements ProductStagingService {
             product.setStatus("APPROVED");
         });
         repository.saveAll(products);
+        sheetService.markApprovalChanged(sheetId);
         
         log.info("✓ Bulk approved {} products for sheet {} by {}", products.size(), sheetId, approverUsername);
     }
@@ -101,6 +105,7 @@ public class ProductStagingServiceImpl implements ProductStagingService {
     @Override
     public void deleteBySheetId(String sheetId) {
         repository.deleteBySheetId(sheetId);
+        sheetService.markApprovalChanged(sheetId);
     }
     
     private ProductStagingDto toDto(ProductStaging entity) {
@@ -1,12 +1,14 @@
 package com.example.backend.service.impl;
 
 import com.example.backend.dto.SheetDto;
+import com.example.backend.event.SheetApprovalChangedEvent;
 import com.example.backend.model.Sheet;
 import com.example.backend.repository.SheetRepository;
 import com.example.backend.service.SheetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.flowable.engine.TaskService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class SheetServiceImpl implements SheetService {
     
     private final SheetRepository sheetRepository;
     private final TaskService taskService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public SheetDto createSheet(String processInstanceId, String sheetType, String createdBy) {
@@ -74,9 +77,13 @@ public class SheetServiceImpl implements SheetService {
         }
         
         sheet = sheetRepository.save(sheet);
+        // Atomic bump (and change event), so a concurrent row approval cannot be lost
+        markApprovalChanged(sheetId);
         log.info("✓ Sheet approved: {} by {}", sheetId, approvedBy);
         
-        return mapToDto(sheet);
+        SheetDto dto = mapToDto(sheet);
+        sheetRepository.findApprovalRevisionBySheetId(sheetId).ifPresent(dto::setApprovalRevision);
+        return dto;
     }
     
     @Override
@@ -119,6 +126,22 @@ public class SheetServiceImpl implements SheetService {
                 .collect(java.util.stream.Collectors.toList());
     }
     
+    @Override
+    public void markApprovalChanged(String sheetId) {
+        if (sheetRepository.incrementApprovalRevision(sheetId) == 0) {
+            log.debug("No sheet found to bump approval revision: {}", sheetId);
+            return;
+        }
+        eventPublisher.publishEvent(new SheetApprovalChangedEvent(sheetId));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getSheetETag(String sheetId) {
+        return sheetRepository.findApprovalRevisionBySheetId(sheetId)
+                .map(revision -> "\"" + sheetId + "-r" + revision + "\"");
+    }
+    
     private SheetDto mapToDto(Sheet sheet) {
         SheetDto dto = new SheetDto();
         dto.setId(sheet.getId());
@@ -133,6 +156,7 @@ public class SheetServiceImpl implements SheetService {
         dto.setApprovedAt(sheet.getApprovedAt());
         dto.setStatus(sheet.getStatus());
         dto.setComments(sheet.getComments());
+        dto.setApprovalRevision(sheet.getApprovalRevision());
         return dto;
     }
 }
@@ -0,0 +1,354 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.ImportResultDto;
+import com.example.backend.dto.SheetDto;
+import com.example.backend.service.SheetService;
+import com.example.backend.service.StagingImportService;
+import com.example.backend.util.CsvUtils;
+import com.example.backend.util.EntityTypeUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.TaskService;
+import org.flowable.task.api.Task;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC batch implementation of StagingImportService.
+ * Applies the same approval rules as TaskListenerUtils on resubmission: rows identical to a row of the
+ * previous sheet version keep its approval and createdBy, every other row starts as PENDING.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StagingImportServiceImpl implements StagingImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 500;
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final DateTimeFormatter US_DATE = DateTimeFormatter.ofPattern("M/d/yyyy");
+
+    private static final Map<String, List<ColumnSpec>> COLUMNS = Map.of(
+            "item", List.of(
+                    new ColumnSpec("itemName", "item_name", FieldType.TEXT),
+                    new ColumnSpec("itemCategory", "item_category", FieldType.TEXT),
+                    new ColumnSpec("price", "price", FieldType.DECIMAL),
+                    new ColumnSpec("quantity", "quantity", FieldType.INTEGER),
+                    new ColumnSpec("effectiveDate", "effective_date", FieldType.DATE)),
+            "plan", List.of(
+                    new ColumnSpec("planName", "plan_name", FieldType.TEXT),
+                    new ColumnSpec("planType", "plan_type", FieldType.TEXT),
+                    new ColumnSpec("premium", "premium", FieldType.DECIMAL),
+                    new ColumnSpec("coverageAmount", "coverage_amount", FieldType.INTEGER),
+                    new ColumnSpec("effectiveDate", "effective_date", FieldType.DATE)),
+            "product", List.of(
+                    new ColumnSpec("productName", "product_name", FieldType.TEXT),
+                    new ColumnSpec("rate", "rate", FieldType.DECIMAL),
+                    new ColumnSpec("api", "api", FieldType.TEXT),
+                    new ColumnSpec("effectiveDate", "effective_date", FieldType.DATE)));
+
+    private final TaskService taskService;
+    private final SheetService sheetService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public ImportResultDto importCsv(String taskId, InputStream csv, String username, boolean allowPartial) {
+        Task task = taskService.createTaskQuery().taskId(taskId).singleResult();
+        if (task == null) {
+            throw new RuntimeException("Task not found: " + taskId);
+        }
+        if (!username.equals(task.getAssignee())) {
+            throw new RuntimeException("Access denied: task " + taskId + " is not assigned to " + username);
+        }
+        String entityType = EntityTypeUtils.fromMakerFormKey(task.getFormKey());
+
+        long start = System.currentTimeMillis();
+        ImportResultDto result = transactionTemplate.execute(status -> {
+            ImportResultDto r = importRows(task, entityType, csv, username, allowPartial);
+            if (!r.isCommitted()) {
+                status.setRollbackOnly();
+            }
+            return r;
+        });
+        log.info("CSV import for task {} ({}): read={}, imported={}, errors={}, committed={} in {} ms",
+                taskId, entityType, result.getRowsRead(), result.getRowsImported(), result.getErrorCount(),
+                result.isCommitted(), System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private ImportResultDto importRows(Task task, String entityType, InputStream csv, String username, boolean allowPartial) {
+        List<ColumnSpec> columns = COLUMNS.get(entityType);
+        ImportResultDto result = ImportResultDto.builder()
+                .taskId(task.getId())
+                .entityType(entityType)
+                .build();
+
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+            int[] positions = resolveHeader(CsvUtils.readRecord(reader), columns);
+
+            // Approval of unchanged rows is carried over from the previous version (as in TaskListenerUtils)
+            Map<String, PriorRow> priorRows = sheetService.findSheetByProcessAndType(task.getProcessInstanceId(), entityType)
+                    .map(previous -> loadPriorRows(entityType, columns, previous.getSheetId()))
+                    .orElse(Collections.emptyMap());
+
+            SheetDto sheet = sheetService.createSheet(task.getProcessInstanceId(), entityType, username);
+            String insertSql = buildInsertSql(entityType, columns);
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> batch = new ArrayList<>(batchSize);
+
+            List<String> record;
+            while ((record = CsvUtils.readRecord(reader)) != null) {
+                if (CsvUtils.isBlank(record)) {
+                    continue;
+                }
+                long row = result.getRowsRead() + 1;
+                result.setRowsRead(row);
+
+                Object[] values = parseRow(record, positions, columns, row, result);
+                if (values == null || (!allowPartial && result.getErrorCount() > 0)) {
+                    continue; // Keep validating so every error is reported, but stop writing
+                }
+                batch.add(toInsertArgs(values, priorRows.get(signature(values)), sheet.getSheetId(), username, now));
+                if (batch.size() >= batchSize) {
+                    flush(insertSql, batch, result);
+                }
+            }
+            if (allowPartial || result.getErrorCount() == 0) {
+                flush(insertSql, batch, result);
+            }
+
+            if (result.getRowsRead() == 0) {
+                addError(result, 0, null, "File contains no data rows");
+            }
+            result.setCommitted(result.getRowsImported() > 0 && (allowPartial || result.getErrorCount() == 0));
+            if (result.isCommitted()) {
+                result.setSheetId(sheet.getSheetId());
+                result.setVersion(sheet.getVersion());
+                // The maker listener skips when no list variable is present, so drop any stale one
+                taskService.removeVariable(task.getId(), EntityTypeUtils.getPluralForm(entityType));
+                taskService.setVariable(task.getId(), task.getFormKey() + "-sheetId", sheet.getSheetId());
+            }
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read CSV: " + e.getMessage(), e);
+        }
+    }
+
+    private int[] resolveHeader(List<String> header, List<ColumnSpec> columns) {
+        if (header == null || CsvUtils.isBlank(header)) {
+            throw new IllegalArgumentException("Invalid CSV: missing header row");
+        }
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.putIfAbsent(normalizeName(header.get(i)), i);
+        }
+        int[] positions = new int[columns.size()];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            Integer position = index.get(normalizeName(columns.get(i).field));
+            if (position == null) {
+                missing.add(columns.get(i).field);
+            } else {
+                positions[i] = position;
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Invalid CSV: missing column(s) " + missing);
+        }
+        return positions;
+    }
+
+    /**
+     * itemName, item_name, "Item Name" and a BOM-prefixed header all resolve to the same column
+     */
+    private static String normalizeName(String name) {
+        return name.replace("\uFEFF", "").replaceAll("[^A-Za-z0-9]", "").toLowerCase();
+    }
+
+    private Object[] parseRow(List<String> record, int[] positions, List<ColumnSpec> columns, long row, ImportResultDto result) {
+        Object[] values = new Object[columns.size()];
+        boolean valid = true;
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnSpec column = columns.get(i);
+            String raw = positions[i] < record.size() ? record.get(positions[i]).trim() : "";
+            try {
+                values[i] = parseValue(column.type, raw);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                addError(result, row, column.field, e instanceof DateTimeParseException
+                        ? "must be a date (yyyy-MM-dd or M/d/yyyy)" : e.getMessage());
+                valid = false;
+            }
+        }
+        if (!valid) {
+            result.setErrorCount(result.getErrorCount() + 1);
+        }
+        return valid ? values : null;
+    }
+
+    private static Object parseValue(FieldType type, String raw) {
+        if (raw.isEmpty()) {
+            throw new IllegalArgumentException("is required");
+        }
+        switch (type) {
+            case TEXT:
+                if (raw.length() > MAX_TEXT_LENGTH) {
+                    throw new IllegalArgumentException("must be at most " + MAX_TEXT_LENGTH + " characters");
+                }
+                return raw;
+            case DECIMAL:
+                double decimal;
+                try {
+                    decimal = Double.parseDouble(raw);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("must be a number");
+                }
+                if (Double.isNaN(decimal) || Double.isInfinite(decimal) || decimal < 0) {
+                    throw new IllegalArgumentException("must be a non-negative number");
+                }
+                return decimal;
+            case INTEGER:
+                int integer;
+                try {
+                    integer = Integer.parseInt(raw);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("must be a whole number");
+                }
+                if (integer < 0) {
+                    throw new IllegalArgumentException("must be a non-negative whole number");
+                }
+                return integer;
+            case DATE:
+                return raw.contains("/") ? LocalDate.parse(raw, US_DATE) : LocalDate.parse(raw);
+            default:
+                throw new IllegalStateException("Unsupported field type: " + type);
+        }
+    }
+
+    private void addError(ImportResultDto result, long row, String field, String message) {
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new ImportResultDto.RowError(row, field, message));
+        }
+    }
+
+    private void flush(String insertSql, List<Object[]> batch, ImportResultDto result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertSql, batch);
+        result.setRowsImported(result.getRowsImported() + batch.size());
+        batch.clear();
+    }
+
+    private static String buildInsertSql(String entityType, List<ColumnSpec> columns) {
+        String businessColumns = columns.stream().map(c -> c.column).collect(Collectors.joining(", "));
+        String placeholders = String.join(", ", Collections.nCopies(columns.size() + 10, "?"));
+        return "INSERT INTO " + EntityTypeUtils.getStagingTableName(entityType)
+                + " (" + businessColumns + ", sheet_id, status, approved, approved_by, approved_at,"
+                + " created_by, edited_by, edited_at, comments, created_at) VALUES (" + placeholders + ")";
+    }
+
+    private static Object[] toInsertArgs(Object[] values, PriorRow prior, String sheetId, String username, LocalDateTime now) {
+        Object[] args = Arrays.copyOf(values, values.length + 10);
+        int i = values.length;
+        args[i++] = sheetId;
+        args[i++] = prior != null && prior.status != null ? prior.status : "PENDING";
+        args[i++] = prior != null && prior.approved;
+        args[i++] = prior != null ? prior.approvedBy : null;
+        args[i++] = prior != null ? prior.approvedAt : null;
+        args[i++] = prior != null && prior.createdBy != null && !prior.createdBy.isEmpty() ? prior.createdBy : username;
+        args[i++] = username;
+        args[i++] = now;
+        args[i++] = null;
+        args[i] = now;
+        return args;
+    }
+
+    private Map<String, PriorRow> loadPriorRows(String entityType, List<ColumnSpec> columns, String sheetId) {
+        String businessColumns = columns.stream().map(c -> c.column).collect(Collectors.joining(", "));
+        String sql = "SELECT " + businessColumns + ", status, approved, approved_by, approved_at, created_by FROM "
+                + EntityTypeUtils.getStagingTableName(entityType) + " WHERE sheet_id = ? ORDER BY id";
+        Map<String, PriorRow> rows = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            Object[] values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rs.getObject(i + 1);
+            }
+            Timestamp approvedAt = rs.getTimestamp("approved_at");
+            rows.putIfAbsent(signature(values), new PriorRow(
+                    rs.getString("status"),
+                    rs.getBoolean("approved"),
+                    rs.getString("approved_by"),
+                    approvedAt != null ? approvedAt.toLocalDateTime() : null,
+                    rs.getString("created_by")));
+        }, sheetId);
+        log.info("Loaded {} distinct rows of previous sheet {} for approval carry-over", rows.size(), sheetId);
+        return rows;
+    }
+
+    /**
+     * Business-data key of a row, comparable between parsed CSV values and values read back from the table
+     */
+    private static String signature(Object[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (Object value : values) {
+            if (value instanceof java.sql.Date) {
+                value = ((java.sql.Date) value).toLocalDate();
+            } else if (value instanceof Number) {
+                value = BigDecimal.valueOf(((Number) value).doubleValue()).stripTrailingZeros().toPlainString();
+            }
+            sb.append(value).append('\u001F');
+        }
+        return sb.toString();
+    }
+
+    private enum FieldType { TEXT, DECIMAL, INTEGER, DATE }
+
+    private static final class ColumnSpec {
+        final String field;
+        final String column;
+        final FieldType type;
+
+        ColumnSpec(String field, String column, FieldType type) {
+            this.field = field;
+            this.column = column;
+            this.type = type;
+        }
+    }
+
+    private static final class PriorRow {
+        final String status;
+        final boolean approved;
+        final String approvedBy;
+        final LocalDateTime approvedAt;
+        final String createdBy;
+
+        PriorRow(String status, boolean approved, String approvedBy, LocalDateTime approvedAt, String createdBy) {
+            this.status = status;
+            this.approved = approved;
+            this.approvedBy = approvedBy;
+            this.approvedAt = approvedAt;
+            this.createdBy = createdBy;
+        }
+    }
+}
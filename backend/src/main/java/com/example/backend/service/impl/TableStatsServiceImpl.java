@@ -0,0 +1,239 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.ReadWriteRoutingDataSource;
+import com.example.backend.dto.TableStatsDto;
+import com.example.backend.service.TableStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples ACT_* table sizes on a fixed delay. In estimate mode the row counts come from the
+ * database's own statistics (H2 INFORMATION_SCHEMA, PostgreSQL pg_class, MySQL information_schema),
+ * which costs one catalog query instead of a COUNT(*) per table; other databases, and a catalog
+ * query that fails (e.g. no access to the statistics views), fall back to exact counts.
+ * Samples inside the growth window are kept to derive rows/hour per table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TableStatsServiceImpl implements TableStatsService {
+
+    private static final String H2_ESTIMATE_SQL =
+            "SELECT TABLE_NAME, ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES " +
+            "WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME LIKE 'ACT!_%' ESCAPE '!'";
+
+    private static final String POSTGRES_ESTIMATE_SQL =
+            "SELECT C.RELNAME AS TABLE_NAME, CAST(C.RELTUPLES AS BIGINT) AS ROW_COUNT_ESTIMATE FROM PG_CLASS C " +
+            "JOIN PG_NAMESPACE N ON N.OID = C.RELNAMESPACE " +
+            "WHERE C.RELKIND = 'r' AND N.NSPNAME = CURRENT_SCHEMA() AND UPPER(C.RELNAME) LIKE 'ACT!_%' ESCAPE '!'";
+
+    private static final String MYSQL_ESTIMATE_SQL =
+            "SELECT TABLE_NAME, TABLE_ROWS AS ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND UPPER(TABLE_NAME) LIKE 'ACT!_%' ESCAPE '!'";
+
+    private final ManagementService managementService;
+    private final ProcessEngine processEngine;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Deque<Sample> samples = new ArrayDeque<>();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "table-stats-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Sample latest;
+
+    @Value("${app.engine.table-stats.mode:estimate}")
+    private String mode;
+
+    @Value("${app.engine.table-stats.interval-seconds:60}")
+    private long intervalSeconds;
+
+    @Value("${app.engine.table-stats.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.engine.table-stats.growth-window-minutes:60}")
+    private long growthWindowMinutes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        sampler.scheduleWithFixedDelay(this::sampleQuietly, 0, intervalSeconds, TimeUnit.SECONDS);
+        log.info("✓ Table stats sampler started ({} mode, every {} s)", mode, intervalSeconds);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        sampler.shutdownNow();
+    }
+
+    @Override
+    public Map<String, Long> getRowCounts() {
+        return fresh().rows;
+    }
+
+    @Override
+    public TableStatsDto getStats() {
+        Sample current = fresh();
+        Sample oldest;
+        synchronized (samples) {
+            oldest = samples.peekFirst();
+        }
+        double hours = oldest != null && oldest != current ? (current.at - oldest.at) / 3_600_000d : 0d;
+
+        List<TableStatsDto.TableStat> tables = new ArrayList<>();
+        current.rows.forEach((table, rows) -> {
+            double growth = 0d;
+            if (hours > 0 && oldest.rows.containsKey(table)) {
+                growth = (rows - oldest.rows.get(table)) / hours;
+            }
+            tables.add(new TableStatsDto.TableStat(table, rows, growth));
+        });
+        tables.sort(Comparator.comparingLong(TableStatsDto.TableStat::getRows).reversed());
+
+        TableStatsDto dto = summary(current);
+        dto.setGrowthWindowMinutes(hours * 60);
+        dto.setTables(tables);
+        return dto;
+    }
+
+    @Override
+    public TableStatsDto getLatest() {
+        Sample current = latest;
+        if (current == null) {
+            return new TableStatsDto();
+        }
+        TableStatsDto dto = summary(current);
+        current.rows.forEach((table, rows) -> dto.getTables().add(new TableStatsDto.TableStat(table, rows, 0d)));
+        return dto;
+    }
+
+    @Override
+    public void sample() {
+        long start = System.currentTimeMillis();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Sample sample = null;
+        String sql = "estimate".equalsIgnoreCase(mode) ? estimateSql() : null;
+        if (sql != null) {
+            try {
+                sample = ReadWriteRoutingDataSource.onReadReplica(() -> readOnly.execute(status -> estimate(sql)));
+            } catch (DataAccessException e) {
+                // Its own transaction failed, so the exact count below starts on a clean one
+                log.warn("Table size estimate failed, counting exactly: {}", e.getMessage());
+            }
+        }
+        if (sample == null || sample.rows.isEmpty()) {
+            // No estimate, or a catalog that shows no engine tables (e.g. they live in another schema)
+            sample = ReadWriteRoutingDataSource.onReadReplica(() -> readOnly.execute(status -> new Sample(
+                    System.currentTimeMillis(), Collections.unmodifiableMap(new TreeMap<>(managementService.getTableCount())), false)));
+        }
+        synchronized (samples) {
+            samples.addLast(sample);
+            long windowStart = sample.at - TimeUnit.MINUTES.toMillis(growthWindowMinutes);
+            // Drop the oldest sample only while the next one still reaches back to the window start
+            while (samples.size() > 2) {
+                Iterator<Sample> it = samples.iterator();
+                it.next();
+                if (it.next().at > windowStart) {
+                    break;
+                }
+                samples.removeFirst();
+            }
+        }
+        latest = sample;
+        log.debug("Sampled {} engine tables ({}) in {} ms", sample.rows.size(),
+                sample.estimated ? "estimated" : "exact", System.currentTimeMillis() - start);
+    }
+
+    private Sample fresh() {
+        Sample current = latest;
+        if (current == null || System.currentTimeMillis() - current.at > TimeUnit.SECONDS.toMillis(ttlSeconds)) {
+            sample();
+            current = latest;
+        }
+        return current;
+    }
+
+    private Sample estimate(String sql) {
+        long at = System.currentTimeMillis();
+        Map<String, Long> rows = new TreeMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            rows.put(rs.getString("TABLE_NAME").toUpperCase(Locale.ROOT), Math.max(0L, rs.getLong("ROW_COUNT_ESTIMATE")));
+        });
+        return new Sample(at, Collections.unmodifiableMap(rows), true);
+    }
+
+    private String estimateSql() {
+        String databaseType = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getDatabaseType();
+        if (databaseType == null) {
+            return null;
+        }
+        switch (databaseType) {
+            case "h2":
+                return H2_ESTIMATE_SQL;
+            case "postgres":
+                return POSTGRES_ESTIMATE_SQL;
+            case "mysql":
+                return MYSQL_ESTIMATE_SQL;
+            default:
+                return null;
+        }
+    }
+
+    private void sampleQuietly() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            log.warn("Table stats sampling failed: {}", e.getMessage());
+        }
+    }
+
+    private static TableStatsDto summary(Sample sample) {
+        TableStatsDto dto = new TableStatsDto();
+        dto.setSampledAt(Instant.ofEpochMilli(sample.at).toString());
+        dto.setAgeMs(System.currentTimeMillis() - sample.at);
+        dto.setEstimated(sample.estimated);
+        return dto;
+    }
+
+    private static final class Sample {
+        final long at;
+        final Map<String, Long> rows;
+        final boolean estimated;
+
+        Sample(long at, Map<String, Long> rows, boolean estimated) {
+            this.at = at;
+            this.rows = rows;
+            this.estimated = estimated;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.PagedResponse;
+import com.example.backend.dto.TaskDto;
+import com.example.backend.dto.TaskPageQuery;
+import com.example.backend.event.TaskChangedEvent;
+import com.example.backend.model.TaskInbox;
+import com.example.backend.model.TaskInboxCandidate;
+import com.example.backend.repository.TaskInboxCandidateRepository;
+import com.example.backend.repository.TaskInboxRepository;
+import com.example.backend.repository.TaskInboxSpecifications;
+import com.example.backend.service.TaskInboxService;
+import com.example.backend.service.UserService;
+import com.example.backend.util.DtoMapper;
+import com.example.backend.util.FlowableQueryUtils;
+import com.example.backend.util.ValidationUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.lock.LockManager;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.TaskService;
+import org.flowable.identitylink.api.IdentityLinkInfo;
+import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TaskInboxServiceImpl implements TaskInboxService {
+    
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final String REBUILD_LOCK = "taskInboxRebuild";
+    // A lock left behind by a node that died mid-rebuild is taken over after this
+    private static final Duration REBUILD_LOCK_FORCE_AFTER = Duration.ofMinutes(30);
+    private static final List<String> SORT_FIELDS = List.of("createTime", "priority", "dueDate");
+    private static final List<String> KEYSET_SORT_FIELDS = List.of("createTime", "priority"); // non-null columns only
+    
+    private final TaskInboxRepository taskInboxRepository;
+    private final TaskInboxCandidateRepository taskInboxCandidateRepository;
+    private final UserService userService;
+    private final TaskService taskService;
+    private final ManagementService managementService;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${app.tasks.default-page-size:50}")
+    private int defaultPageSize;
+    
+    @Value("${app.tasks.max-page-size:200}")
+    private int maxPageSize;
+    
+    @Override
+    public void upsert(TaskInfo task, boolean replaceCandidates) {
+        String previousAssignee = taskInboxRepository.findById(task.getId()).map(TaskInbox::getAssignee).orElse(null);
+        TaskInbox row = taskInboxRepository.save(toInbox(task));
+        if (replaceCandidates) {
+            taskInboxCandidateRepository.deleteByTaskId(task.getId());
+            taskInboxCandidateRepository.saveAll(toCandidates(task));
+        }
+        log.debug("Inbox upsert: task={}, assignee={}", task.getId(), task.getAssignee());
+        publishChange(task.getId(), replaceCandidates ? "CREATED" : "UPDATED", row, previousAssignee);
+    }
+    
+    @Override
+    public void remove(String taskId) {
+        TaskInbox row = taskInboxRepository.findById(taskId).orElse(null);
+        // Audience is captured before the candidates are deleted
+        publishChange(taskId, "REMOVED", null, row != null ? row.getAssignee() : null);
+        taskInboxCandidateRepository.deleteByTaskId(taskId);
+        taskInboxRepository.deleteById(taskId);
+        log.debug("Inbox remove: task={}", taskId);
+    }
+    
+    @Override
+    public void addCandidate(String taskId, String groupId, String userId) {
+        boolean exists = groupId != null
+                ? taskInboxCandidateRepository.existsByTaskIdAndGroupId(taskId, groupId)
+                : taskInboxCandidateRepository.existsByTaskIdAndUserId(taskId, userId);
+        if (!exists) {
+            taskInboxCandidateRepository.save(TaskInboxCandidate.builder()
+                    .taskId(taskId)
+                    .groupId(groupId)
+                    .userId(userId)
+                    .build());
+            taskInboxRepository.findById(taskId).ifPresent(row -> publishChange(taskId, "UPDATED", row, null));
+        }
+    }
+    
+    @Override
+    public void removeCandidate(String taskId, String groupId, String userId) {
+        TaskInbox row = taskInboxRepository.findById(taskId).orElse(null);
+        if (row != null) {
+            // Audience is captured before the candidate is deleted, so the removed candidate is told to refresh
+            publishChange(taskId, "UPDATED", row, null);
+        }
+        if (groupId != null) {
+            taskInboxCandidateRepository.deleteByTaskIdAndGroupId(taskId, groupId);
+        } else if (userId != null) {
+            taskInboxCandidateRepository.deleteByTaskIdAndUserId(taskId, userId);
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild() {
+        // The lock is taken outside the rebuild transaction, so other nodes see it immediately
+        LockManager lock = managementService.getLockManager(REBUILD_LOCK);
+        if (!lock.acquireLock(REBUILD_LOCK_FORCE_AFTER)) {
+            log.info("Task inbox rebuild skipped: another node holds the rebuild lock");
+            return -1;
+        }
+        try {
+            // One transaction: nodes serving the inbox keep reading the old rows until the new ones commit
+            Long loaded = new TransactionTemplate(transactionManager).execute(status -> reload());
+            return loaded != null ? loaded : 0;
+        } finally {
+            lock.releaseLock();
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean rebuildIfOutOfDate() {
+        long openTasks = taskService.createTaskQuery().count();
+        long inboxRows = taskInboxRepository.count();
+        if (openTasks == inboxRows) {
+            log.info("Task inbox up to date ({} tasks), no rebuild", inboxRows);
+            return false;
+        }
+        log.info("Task inbox out of date ({} rows, {} open tasks), rebuilding", inboxRows, openTasks);
+        return rebuild() >= 0;
+    }
+    
+    private long reload() {
+        long start = System.currentTimeMillis();
+        taskInboxCandidateRepository.deleteAllInBatch();
+        taskInboxRepository.deleteAllInBatch();
+        
+        long loaded = 0;
+        List<Task> page;
+        do {
+            page = taskService.createTaskQuery()
+                    .includeIdentityLinks()
+                    .orderByTaskId().asc()
+                    .listPage((int) loaded, REBUILD_PAGE_SIZE);
+            List<TaskInbox> rows = new ArrayList<>(page.size());
+            List<TaskInboxCandidate> candidates = new ArrayList<>();
+            for (Task task : page) {
+                rows.add(toInbox(task));
+                candidates.addAll(toCandidates(task));
+            }
+            taskInboxRepository.saveAll(rows);
+            taskInboxCandidateRepository.saveAll(candidates);
+            loaded += page.size();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        
+        log.info("Task inbox rebuilt: {} tasks in {} ms", loaded, System.currentTimeMillis() - start);
+        return loaded;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<TaskDto> findForUser(String username, TaskPageQuery query) {
+        List<String> groups = userService.getUserGroups(username);
+        return page(TaskInboxSpecifications.assignedOrCandidate(username, groups), query);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<TaskDto> findByCandidateGroup(String group, TaskPageQuery query) {
+        return page(TaskInboxSpecifications.candidateGroup(group), query);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<TaskDto> findByCandidateGroupOrAssignee(String group, String username, TaskPageQuery query) {
+        return page(TaskInboxSpecifications.candidateGroupOrAssignee(group, username), query);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findClaimableTaskIds(String username, String group, String processDefinitionKey,
+                                             String taskDefinitionKey, int limit) {
+        List<String> groups = userService.getUserGroups(username);
+        Specification<TaskInbox> spec = TaskInboxSpecifications.claimableBy(username, groups)
+                .and(TaskInboxSpecifications.processDefinitionKey(processDefinitionKey))
+                .and(TaskInboxSpecifications.taskDefinitionKey(taskDefinitionKey));
+        if (group != null && !group.isBlank()) {
+            spec = spec.and(TaskInboxSpecifications.candidateGroup(group));
+        }
+        Sort sort = Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("createTime"), Sort.Order.asc("taskId"));
+        return taskInboxRepository.findWindow(spec, sort, 0, limit).stream()
+                .map(TaskInbox::getTaskId)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Runs one window query of size + 1 rows (the extra row only tells whether a next page exists).
+     * Offset paging also reports the total; keyset paging skips the count and returns a cursor instead.
+     */
+    private PagedResponse<TaskDto> page(Specification<TaskInbox> scope, TaskPageQuery query) {
+        String sortField = resolveSortField(query.getSort());
+        boolean descending = !"asc".equalsIgnoreCase(query.getDirection());
+        int size = Math.min(query.getSize() != null ? query.getSize() : defaultPageSize, maxPageSize);
+        ValidationUtils.requirePositive(size, "Size must be positive");
+        
+        Specification<TaskInbox> filtered = scope
+                .and(TaskInboxSpecifications.processDefinitionKey(query.getProcessDefinitionKey()))
+                .and(TaskInboxSpecifications.taskDefinitionKey(query.getTaskDefinitionKey()));
+        Sort sort = Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, sortField, "taskId");
+        
+        boolean keyset = query.getCursor() != null && !query.getCursor().isBlank();
+        Specification<TaskInbox> window = filtered;
+        int page = 0;
+        if (keyset) {
+            Object[] cursor = decodeCursor(query.getCursor(), sortField);
+            window = filtered.and(TaskInboxSpecifications.after(sortField, descending, (Comparable<?>) cursor[0], (String) cursor[1]));
+        } else {
+            page = query.getPage() != null ? query.getPage() : 0;
+            ValidationUtils.requireNonNegative(page, "Page must not be negative");
+        }
+        
+        List<TaskInbox> rows = taskInboxRepository.findWindow(window, sort, (long) page * size, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        
+        PagedResponse<TaskDto> response = new PagedResponse<>();
+        response.content = rows.stream().map(DtoMapper::toTaskDto).collect(Collectors.toList());
+        response.total = keyset ? -1 : taskInboxRepository.count(filtered);
+        response.page = keyset ? null : page;
+        response.size = size;
+        response.hasNext = hasNext;
+        response.nextCursor = hasNext && KEYSET_SORT_FIELDS.contains(sortField)
+                ? encodeCursor(sortField, rows.get(rows.size() - 1)) : null;
+        return response;
+    }
+    
+    private static String resolveSortField(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return "createTime";
+        }
+        for (String field : SORT_FIELDS) {
+            if (field.equalsIgnoreCase(sort)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Invalid sort field: " + sort + " (use createTime, priority or dueDate)");
+    }
+    
+    /**
+     * Cursor = base64url("sortField|value|taskId"); createTime is carried as epoch millis
+     */
+    private static String encodeCursor(String sortField, TaskInbox last) {
+        Object value = "priority".equals(sortField) ? last.getPriority() : last.getCreateTime().getTime();
+        String raw = sortField + "|" + value + "|" + last.getTaskId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static Object[] decodeCursor(String cursor, String sortField) {
+        if (!KEYSET_SORT_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Invalid cursor: keyset paging supports sort=createTime or priority");
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(sortField)) {
+                throw new IllegalArgumentException("cursor does not match sort " + sortField);
+            }
+            Comparable<?> value = "priority".equals(sortField)
+                    ? Integer.valueOf(parts[1])
+                    : new Date(Long.parseLong(parts[1]));
+            return new Object[]{value, parts[2]};
+        } catch (IllegalArgumentException e) {
+            // Covers bad base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Publish a TaskChangedEvent addressed to everyone who can see the task (delivered after commit)
+     */
+    private void publishChange(String taskId, String action, TaskInbox row, String previousAssignee) {
+        Set<String> users = new HashSet<>();
+        Set<String> groups = new HashSet<>();
+        if (row != null) {
+            addIfPresent(users, row.getAssignee());
+            addIfPresent(users, row.getOwner());
+        }
+        addIfPresent(users, previousAssignee);
+        for (TaskInboxCandidate candidate : taskInboxCandidateRepository.findByTaskId(taskId)) {
+            addIfPresent(users, candidate.getUserId());
+            addIfPresent(groups, candidate.getGroupId());
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(
+                taskId, action, row != null ? DtoMapper.toTaskDto(row) : null, users, groups));
+    }
+    
+    private static void addIfPresent(Set<String> target, String value) {
+        if (value != null) {
+            target.add(value);
+        }
+    }
+    
+    private TaskInbox toInbox(TaskInfo task) {
+        return TaskInbox.builder()
+                .taskId(task.getId())
+                .name(task.getName())
+                .description(task.getDescription())
+                .assignee(task.getAssignee())
+                .owner(task.getOwner())
+                .processInstanceId(task.getProcessInstanceId())
+                .processDefinitionId(task.getProcessDefinitionId())
+                .processDefinitionKey(FlowableQueryUtils.processDefinitionKey(task.getProcessDefinitionId()))
+                .executionId(task.getExecutionId())
+                .taskDefinitionKey(task.getTaskDefinitionKey())
+                .formKey(task.getFormKey())
+                .category(task.getCategory())
+                .tenantId(task.getTenantId())
+                .priority(task.getPriority())
+                .createTime(task.getCreateTime())
+                .dueDate(task.getDueDate())
+                .suspended(task instanceof Task && ((Task) task).isSuspended())
+                .build();
+    }
+    
+    private List<TaskInboxCandidate> toCandidates(TaskInfo task) {
+        List<TaskInboxCandidate> candidates = new ArrayList<>();
+        for (IdentityLinkInfo link : task.getIdentityLinks()) {
+            if (IdentityLinkType.CANDIDATE.equals(link.getType())) {
+                candidates.add(TaskInboxCandidate.builder()
+                        .taskId(task.getId())
+                        .groupId(link.getGroupId())
+                        .userId(link.getUserId())
+                        .build());
+            }
+        }
+        return candidates;
+    }
+}
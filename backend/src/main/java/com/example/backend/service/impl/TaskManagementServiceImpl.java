@@ -1,20 +1,34 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.PagedResponse;
 import com.example.backend.dto.TaskActionResponse;
 import com.example.backend.dto.TaskDto;
+import com.example.backend.dto.TaskPageQuery;
+import com.example.backend.exception.TaskClaimConflictException;
+import com.example.backend.service.TaskInboxService;
 import com.example.backend.service.TaskManagementService;
-import com.example.backend.util.DtoMapper;
 import com.example.backend.util.FlowableQueryUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.FlowableTaskAlreadyClaimedException;
 import org.flowable.engine.TaskService;
 import org.flowable.task.api.Task;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Implementation of TaskManagementService.
@@ -26,52 +40,127 @@ import java.util.stream.Collectors;
 @Transactional
 public class TaskManagementServiceImpl implements TaskManagementService {
 
+    private static final String CLAIM_TIMER = "flowable.task.claim";
+    private static final String CLAIM_CONFLICTS = "flowable.task.claim.conflicts";
+    private static final String CLAIM_NEXT_ATTEMPTS = "flowable.task.claim.next.attempts";
+
     private final TaskService taskService;
+    private final TaskInboxService taskInboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.tasks.claim-next.candidates:10}")
+    private int claimNextCandidates;
+
+    @Value("${app.tasks.claim-next.rounds:2}")
+    private int claimNextRounds;
 
     @Override
-    public List<TaskDto> getMyTasks(String username) {
-        log.info("Getting tasks for user: {}", username);
-        List<Task> tasks = FlowableQueryUtils.getTasksForUser(taskService, username);
-        return tasks.stream()
-                .map(DtoMapper::toTaskDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PagedResponse<TaskDto> getMyTasks(String username, TaskPageQuery query) {
+        log.info("Getting tasks for user: {} ({})", username, query);
+        return taskInboxService.findForUser(username, query);
     }
 
     @Override
-    public List<TaskDto> getTasksByCandidateGroup(String group) {
-        log.info("Getting tasks for candidate group: {}", group);
-        List<Task> tasks = FlowableQueryUtils.getTasksByCandidateGroup(taskService, group);
-        return tasks.stream()
-                .map(DtoMapper::toTaskDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PagedResponse<TaskDto> getTasksByCandidateGroup(String group, TaskPageQuery query) {
+        log.info("Getting tasks for candidate group: {} ({})", group, query);
+        return taskInboxService.findByCandidateGroup(group, query);
     }
 
     @Override
-    public List<TaskDto> getTasksByGroupOrAssigned(String group, String username) {
-        log.info("Getting tasks for group: {} or assigned to: {}", group, username);
-        List<Task> tasks = FlowableQueryUtils.getTasksByGroupOrAssigned(taskService, group, username);
-        return tasks.stream()
-                .map(DtoMapper::toTaskDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PagedResponse<TaskDto> getTasksByGroupOrAssigned(String group, String username, TaskPageQuery query) {
+        log.info("Getting tasks for group: {} or assigned to: {} ({})", group, username, query);
+        return taskInboxService.findByCandidateGroupOrAssignee(group, username, query);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TaskActionResponse claimTask(String taskId, String username) {
         log.info("User {} claiming task: {}", username, taskId);
         
-        Task task = FlowableQueryUtils.getTaskOrThrow(taskService, taskId);
+        // No pre-read: ClaimTaskCmd checks the assignee and the revision update is the atomic guard
+        tryClaim(taskId, username, "direct");
+        return claimed(taskId, username, "Task claimed successfully");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskActionResponse claimNextTask(String username, String group, String processDefinitionKey, String taskDefinitionKey) {
+        log.info("User {} claiming next task (group: {}, process: {}, task: {})", username, group, processDefinitionKey, taskDefinitionKey);
         
-        if (task.getAssignee() != null) {
-            throw new IllegalStateException("Task is already claimed by: " + task.getAssignee());
+        int attempts = 0;
+        try {
+            for (int round = 0; round < claimNextRounds; round++) {
+                List<String> candidates = taskInboxService.findClaimableTaskIds(
+                        username, group, processDefinitionKey, taskDefinitionKey, claimNextCandidates);
+                if (candidates.isEmpty()) {
+                    return null;
+                }
+                Collections.shuffle(candidates, ThreadLocalRandom.current());
+                for (String taskId : candidates) {
+                    attempts++;
+                    try {
+                        tryClaim(taskId, username, "next");
+                        return claimed(taskId, username, "Next task claimed successfully");
+                    } catch (TaskClaimConflictException | IllegalArgumentException e) {
+                        log.debug("Claim-next skipped task {}: {}", taskId, e.getMessage());
+                    }
+                }
+            }
+            log.info("User {} could not claim any task after {} attempts", username, attempts);
+            return null;
+        } finally {
+            DistributionSummary.builder(CLAIM_NEXT_ATTEMPTS)
+                    .description("Claim attempts per claim-next request")
+                    .register(meterRegistry)
+                    .record(attempts);
         }
-        
-        taskService.claim(taskId, username);
-        
+    }
+
+    /**
+     * One claim in its own transaction, timed and tagged with its outcome.
+     * Conflicts become TaskClaimConflictException (409), a vanished task becomes "not found".
+     */
+    private void tryClaim(String taskId, String username, String mode) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            transactionTemplate.executeWithoutResult(status -> taskService.claim(taskId, username));
+            outcome = "success";
+        } catch (FlowableTaskAlreadyClaimedException e) {
+            outcome = "conflict";
+            throw new TaskClaimConflictException(taskId, "Task " + taskId + " is already claimed by " + e.getTaskAssignee(), e);
+        } catch (FlowableOptimisticLockingException e) {
+            outcome = "conflict";
+            throw new TaskClaimConflictException(taskId, "Task " + taskId + " was modified concurrently, please retry", e);
+        } catch (FlowableObjectNotFoundException e) {
+            outcome = "not_found";
+            throw new IllegalArgumentException("Task with ID '" + taskId + "' not found", e);
+        } finally {
+            sample.stop(Timer.builder(CLAIM_TIMER)
+                    .description("Task claim latency")
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            if ("conflict".equals(outcome)) {
+                Counter.builder(CLAIM_CONFLICTS)
+                        .description("Task claims lost to a concurrent claim")
+                        .tag("mode", mode)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+
+    private static TaskActionResponse claimed(String taskId, String username, String message) {
         return TaskActionResponse.builder()
                 .taskId(taskId)
                 .action("CLAIM")
                 .performedBy(username)
-                .message("Task claimed successfully")
+                .message(message)
                 .taskState("ASSIGNED")
                 .build();
     }
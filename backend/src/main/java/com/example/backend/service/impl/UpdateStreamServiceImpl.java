@@ -0,0 +1,256 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.event.SheetApprovalChangedEvent;
+import com.example.backend.event.TaskChangedEvent;
+import com.example.backend.service.UpdateStreamService;
+import com.example.backend.service.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE hub. Events are fanned out after the publishing transaction commits; every connection
+ * has its own bounded buffer drained by a small sender pool, so one slow client never blocks
+ * the publisher or other clients. On overflow the backlog is dropped and the client gets a
+ * single "resync" event telling it to re-fetch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpdateStreamServiceImpl implements UpdateStreamService {
+
+
+    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ExecutorService sender = Executors.newFixedThreadPool(4, daemon("sse-sender"));
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("sse-heartbeat"));
+
+    @Value("${app.push.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.push.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.push.heartbeat-seconds:25}")
+    private long heartbeatSeconds;
+
+    private Counter overflows;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Gauge.builder("push.connections", connections, Set::size)
+                .description("Open SSE update streams")
+                .register(meterRegistry);
+        overflows = Counter.builder("push.buffer.overflows")
+                .description("SSE buffers that overflowed and were reset with a resync event")
+                .register(meterRegistry);
+        // Comment lines keep proxies from closing idle streams and detect dead clients
+        heartbeat.scheduleAtFixedRate(() -> connections.forEach(c -> c.enqueueIfIdle(Outgoing.HEARTBEAT)),
+                heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        log.info("✓ Update stream hub started (buffer {} events per connection)", bufferSize);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        heartbeat.shutdownNow();
+        connections.forEach(c -> c.emitter.complete());
+        sender.shutdown();
+    }
+
+    @Override
+    public SseEmitter subscribe(String username, Set<String> topics, Set<String> sheetIds) {
+        Set<String> effectiveTopics = topics == null || topics.isEmpty()
+                ? Set.of(TOPIC_TASKS, TOPIC_SHEETS) : topics;
+        for (String topic : effectiveTopics) {
+            if (!TOPIC_TASKS.equals(topic) && !TOPIC_SHEETS.equals(topic)) {
+                throw new IllegalArgumentException("Invalid topic: " + topic + " (use tasks or sheets)");
+            }
+        }
+        Set<String> groups = new HashSet<>(userService.getUserGroups(username));
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(username, groups, effectiveTopics,
+                sheetIds == null ? Set.of() : sheetIds, emitter);
+
+        emitter.onCompletion(() -> connections.remove(connection));
+        emitter.onTimeout(() -> connections.remove(connection));
+        emitter.onError(e -> connections.remove(connection));
+        connections.add(connection);
+
+        Map<String, Object> hello = new LinkedHashMap<>();
+        hello.put("topics", effectiveTopics);
+        hello.put("sheetIds", connection.sheetIds);
+        connection.enqueue(new Outgoing("connected", hello));
+        log.debug("Update stream opened for {} (topics {})", username, effectiveTopics);
+        return emitter;
+    }
+
+    @Override
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("action", event.getAction());
+        payload.put("taskId", event.getTaskId());
+        payload.put("task", event.getTask());
+        Outgoing outgoing = new Outgoing("task", payload);
+
+        for (Connection connection : connections) {
+            if (connection.topics.contains(TOPIC_TASKS) && connection.canSee(event)) {
+                connection.enqueue(outgoing);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSheetApprovalChanged(SheetApprovalChangedEvent event) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        Outgoing outgoing = new Outgoing("sheet", Map.of("sheetId", event.getSheetId(), "action", "APPROVAL_CHANGED"));
+        for (Connection connection : connections) {
+            if (connection.topics.contains(TOPIC_SHEETS)
+                    && (connection.sheetIds.isEmpty() || connection.sheetIds.contains(event.getSheetId()))) {
+                connection.enqueue(outgoing);
+            }
+        }
+    }
+
+    /**
+     * An event waiting in a connection buffer. The SSE frame is built at send time because
+     * SseEventBuilder instances are single-use.
+     */
+    private record Outgoing(String name, Object data) {
+
+        static final Outgoing HEARTBEAT = new Outgoing(null, null);
+        static final Outgoing RESYNC = new Outgoing("resync", Map.of("reason", "buffer overflow"));
+    }
+
+    private final class Connection {
+
+        private final String username;
+        private final Set<String> groups;
+        private final Set<String> topics;
+        private final Set<String> sheetIds;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(String username, Set<String> groups, Set<String> topics, Set<String> sheetIds, SseEmitter emitter) {
+            this.username = username;
+            this.groups = groups;
+            this.topics = topics;
+            this.sheetIds = sheetIds;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean canSee(TaskChangedEvent event) {
+            return event.getUsers().contains(username)
+                    || !Collections.disjoint(event.getGroups(), groups);
+        }
+
+        private void enqueue(Outgoing outgoing) {
+            if (!buffer.offer(outgoing)) {
+                // Slow consumer: deltas are useless once some are lost, so ask for a full re-fetch
+                buffer.clear();
+                buffer.offer(Outgoing.RESYNC);
+                if (overflows != null) {
+                    overflows.increment();
+                }
+                log.debug("Update stream buffer overflow for {}", username);
+            }
+            scheduleDrain();
+        }
+
+        private void enqueueIfIdle(Outgoing outgoing) {
+            if (buffer.isEmpty()) {
+                enqueue(outgoing);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // Sender pool shut down
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Outgoing outgoing;
+                while ((outgoing = buffer.poll()) != null) {
+                    emitter.send(toFrame(outgoing));
+                }
+            } catch (Exception e) {
+                // Client went away (IOException) or the emitter already completed
+                connections.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toFrame(Outgoing outgoing) {
+            if (outgoing.name() == null) {
+                return SseEmitter.event().comment("keepalive");
+            }
+            return SseEmitter.event()
+                    .id(String.valueOf(eventIds.incrementAndGet()))
+                    .name(outgoing.name())
+                    .data(outgoing.data(), MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
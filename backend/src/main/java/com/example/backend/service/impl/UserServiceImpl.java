@@ -8,6 +8,8 @@ import com.example.backend.repository.UserRepository;
 import com.example.backend.security.JwtUtil;
 import com.example.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -104,11 +106,21 @@ public class UserServiceImpl implements UserService {
     }
     
     @Override
+    @Cacheable(value = "userGroups", key = "#username")
+    public List<String> getUserGroups(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> List.of(user.getRole().name()))
+                .orElse(List.of());
+    }
+    
+    @Override
+    @CacheEvict(value = "userGroups", allEntries = true)
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
     }
     
     @Override
+    @CacheEvict(value = "userGroups", allEntries = true)
     public User updateUser(Long id, User user) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -0,0 +1,111 @@
+package com.example.backend.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV utility class (RFC 4180 style quoting).
+ * Used by the streaming export and import endpoints.
+ */
+@UtilityClass
+public class CsvUtils {
+
+    /**
+     * Escapes a single value, quoting it when it contains a separator, quote or line break
+     * @param value the value (null is written as an empty field)
+     * @return the escaped field
+     */
+    public static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Writes one CSV record followed by CRLF
+     * @param writer the target writer
+     * @param values the field values
+     * @throws IOException if writing fails
+     */
+    public static void writeRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Reads one CSV record; quoted fields may contain separators, escaped quotes and line breaks
+     * @param reader the source reader (must support mark/reset)
+     * @return the field values, or null at end of input
+     * @throws IOException if reading fails
+     */
+    public static List<String> readRecord(BufferedReader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r' || ch == '\n') {
+                if (ch == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append(ch);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Checks whether a record holds only empty fields (e.g. a trailing blank line)
+     * @param record the record
+     * @return true if every field is blank
+     */
+    public static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+}
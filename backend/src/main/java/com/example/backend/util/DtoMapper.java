@@ -1,6 +1,8 @@
 package com.example.backend.util;
 
 import com.example.backend.dto.*;
+import com.example.backend.model.TaskInbox;
+import org.flowable.engine.event.EventLogEntry;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.Model;
@@ -72,6 +74,30 @@ public final class DtoMapper {
                 .build();
     }
 
+    /**
+     * Convert an inbox row to TaskDto (same shape as the Flowable task mapping)
+     */
+    public static TaskDto toTaskDto(TaskInbox task) {
+        return TaskDto.builder()
+                .id(task.getTaskId())
+                .name(task.getName())
+                .description(task.getDescription())
+                .assignee(task.getAssignee())
+                .owner(task.getOwner())
+                .processInstanceId(task.getProcessInstanceId())
+                .processDefinitionId(task.getProcessDefinitionId())
+                .executionId(task.getExecutionId())
+                .taskDefinitionKey(task.getTaskDefinitionKey())
+                .createTime(task.getCreateTime())
+                .dueDate(task.getDueDate())
+                .priority(task.getPriority())
+                .category(task.getCategory())
+                .formKey(task.getFormKey())
+                .suspended(String.valueOf(task.getSuspended()))
+                .tenantId(task.getTenantId())
+                .build();
+    }
+
     // ==================== DEPLOYMENT MAPPING ====================
     
     /**
@@ -209,31 +235,17 @@ public final class DtoMapper {
     
     /**
      * Convert EventLogEntry to EventLogDto for admin portal
-     * Uses reflection to handle EventLogEntry as it may not be available in all Flowable versions
      */
-    public static EventLogDto toEventLogDto(Object eventLogEntry) {
-        try {
-            EventLogDto dto = new EventLogDto();
-            java.lang.reflect.Method getLogNumber = eventLogEntry.getClass().getMethod("getLogNumber");
-            java.lang.reflect.Method getTimeStamp = eventLogEntry.getClass().getMethod("getTimeStamp");
-            java.lang.reflect.Method getType = eventLogEntry.getClass().getMethod("getType");
-            java.lang.reflect.Method getProcessDefinitionId = eventLogEntry.getClass().getMethod("getProcessDefinitionId");
-            java.lang.reflect.Method getProcessInstanceId = eventLogEntry.getClass().getMethod("getProcessInstanceId");
-            java.lang.reflect.Method getExecutionId = eventLogEntry.getClass().getMethod("getExecutionId");
-            java.lang.reflect.Method getData = eventLogEntry.getClass().getMethod("getData");
-
-            dto.id = String.valueOf(getLogNumber.invoke(eventLogEntry));
-            dto.timestamp = (java.util.Date) getTimeStamp.invoke(eventLogEntry);
-            dto.type = (String) getType.invoke(eventLogEntry);
-            dto.processDefinitionId = (String) getProcessDefinitionId.invoke(eventLogEntry);
-            dto.processInstanceId = (String) getProcessInstanceId.invoke(eventLogEntry);
-            dto.executionId = (String) getExecutionId.invoke(eventLogEntry);
-            byte[] data = (byte[]) getData.invoke(eventLogEntry);
-            dto.data = data != null ? new String(data, StandardCharsets.UTF_8) : null;
-            return dto;
-        } catch (Exception e) {
-            throw new RuntimeException("Error mapping EventLogEntry", e);
-        }
+    public static EventLogDto toEventLogDto(EventLogEntry entry) {
+        return EventLogDto.builder()
+                .id(String.valueOf(entry.getLogNumber()))
+                .timestamp(entry.getTimeStamp())
+                .type(entry.getType())
+                .processDefinitionId(entry.getProcessDefinitionId())
+                .processInstanceId(entry.getProcessInstanceId())
+                .executionId(entry.getExecutionId())
+                .data(entry.getData() != null ? new String(entry.getData(), StandardCharsets.UTF_8) : null)
+                .build();
     }
     
     // ==================== OTHER MAPPINGS ====================
@@ -0,0 +1,103 @@
+package com.example.backend.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of durations in milliseconds (HDR-style: 32 linear sub-buckets
+ * per power of two, so any percentile is within ~3% of the recorded value).
+ * Fixed size, lock-free to record, and mergeable by adding bucket counts.
+ */
+public class DurationHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    // Values up to 2^40 ms (~35 years); anything larger lands in the last bucket
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int BUCKETS = (MAX_MAGNITUDE - SUB_BITS + 2) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record one duration (negative values are recorded as zero)
+     */
+    public void record(long millis) {
+        long value = Math.max(0L, millis);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Add all recordings of another histogram to this one
+     */
+    public void merge(DurationHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+            }
+        }
+        count.addAndGet(other.count.get());
+        sum.addAndGet(other.sum.get());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.get();
+        return n > 0 ? (double) sum.get() / n : 0d;
+    }
+
+    /**
+     * Value at the given percentile (0-100), or 0 when nothing was recorded
+     */
+    public long percentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100d * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(midpointOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int magnitude = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_MAGNITUDE);
+        if (magnitude == MAX_MAGNITUDE && value >= (1L << (MAX_MAGNITUDE + 1))) {
+            return BUCKETS - 1;
+        }
+        int shift = magnitude - SUB_BITS;
+        int sub = (int) (value >>> shift) - SUB_COUNT;
+        return (shift + 1) * SUB_COUNT + sub;
+    }
+
+    private static long midpointOf(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_COUNT - 1;
+        long lower = (long) (bucket % SUB_COUNT + SUB_COUNT) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+}
@@ -45,6 +45,21 @@ public class EntityTypeUtils {
         }
     }
     
+    /**
+     * Get the staging table name for an entity type
+     */
+    public static String getStagingTableName(String entityType) {
+        validateEntityType(entityType);
+        return entityType.toLowerCase() + "_staging";
+    }
+    
+    /**
+     * Get the master (actual) table name for an entity type
+     */
+    public static String getMasterTableName(String entityType) {
+        return getPluralForm(entityType);
+    }
+    
     /**
      * Generate maker formKey from entity type
      */
@@ -52,5 +67,17 @@ public class EntityTypeUtils {
         validateEntityType(entityType);
         return "/maker/" + entityType.toLowerCase() + "-edit";
     }
+    
+    /**
+     * Resolve the entity type edited by a maker task from its formKey
+     */
+    public static String fromMakerFormKey(String formKey) {
+        for (String entityType : new String[]{"item", "plan", "product"}) {
+            if (getMakerFormKey(entityType).equals(formKey)) {
+                return entityType;
+            }
+        }
+        throw new IllegalArgumentException("Invalid maker task formKey: " + formKey);
+    }
 }
 
@@ -73,14 +73,21 @@ public class FlowableQueryUtils {
     }
 
     /**
-     * Check if user can claim task (is candidate or in candidate group)
+     * Check if user can claim task (is candidate or in one of the user's candidate groups)
+     * @param groups the user's groups, see UserService#getUserGroups
      */
-    public static boolean canUserClaimTask(TaskService taskService, String taskId, String username) {
+    public static boolean canUserClaimTask(TaskService taskService, String taskId, String username, List<String> groups) {
+        if (groups.isEmpty()) {
+            return taskService.createTaskQuery()
+                    .taskId(taskId)
+                    .taskCandidateUser(username)
+                    .count() > 0;
+        }
         return taskService.createTaskQuery()
                 .taskId(taskId)
                 .or()
                     .taskCandidateUser(username)
-                    .taskCandidateGroupIn(getUserGroups(username))
+                    .taskCandidateGroupIn(groups)
                 .endOr()
                 .count() > 0;
     }
@@ -101,11 +108,13 @@ public class FlowableQueryUtils {
     }
 
     /**
-     * Get user groups (could be extended to query from security context)
+     * Extract the process definition key from a process definition ID (key:version:id)
      */
-    private static List<String> getUserGroups(String username) {
-        // Placeholder - could be implemented to get actual user groups
-        return List.of();
+    public static String processDefinitionKey(String processDefinitionId) {
+        if (processDefinitionId == null) {
+            return null;
+        }
+        int separator = processDefinitionId.indexOf(':');
+        return separator > 0 ? processDefinitionId.substring(0, separator) : processDefinitionId;
     }
 }
-
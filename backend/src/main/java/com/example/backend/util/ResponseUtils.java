@@ -2,13 +2,21 @@ package com.example.backend.util;
 
 import lombok.experimental.UtilityClass;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Response utility class for creating consistent API responses
@@ -56,6 +64,48 @@ public class ResponseUtils {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Creates a conditional GET response keyed by a strong ETag.
+     * Answers 304 without invoking the loader when If-None-Match matches.
+     * Falls back to a plain 200 when no ETag is available.
+     * @param eTag the quoted ETag, if known
+     * @param request the current request (If-None-Match is read from it)
+     * @param loader supplies the body, only called on a miss
+     * @param <T> the type of data
+     * @return ResponseEntity with 200 + ETag, or 304
+     */
+    public static <T> ResponseEntity<T> conditional(Optional<String> eTag, WebRequest request, Supplier<T> loader) {
+        if (eTag.isEmpty()) {
+            return ResponseEntity.ok(loader.get());
+        }
+        if (request.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag.get())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag.get())
+                .cacheControl(CacheControl.noCache())
+                .body(loader.get());
+    }
+
+    /**
+     * Creates a streamed download response; the body is written on an async thread
+     * so the servlet thread is released while the export runs
+     * @param mediaType the content type
+     * @param fileName the attachment file name
+     * @param body writes the payload to the response stream
+     * @return ResponseEntity with Content-Disposition: attachment
+     */
+    public static ResponseEntity<StreamingResponseBody> stream(MediaType mediaType, String fileName, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
     /**
      * Creates a not found response (404) with message
      * @param message the error message
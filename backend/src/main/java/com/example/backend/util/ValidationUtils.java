@@ -103,6 +103,20 @@ public class ValidationUtils {
         }
     }
 
+    /**
+     * Validates an offset page number: not negative and not deeper than maxPage
+     * (deeper pages must be reached with a keyset cursor)
+     * @param page the zero-based page number, null for the first page
+     * @param maxPage the deepest page allowed
+     * @throws IllegalArgumentException if validation fails
+     */
+    public static void requirePageWithin(Integer page, int maxPage) {
+        if (page != null && (page < 0 || page > maxPage)) {
+            throw new IllegalArgumentException("Invalid page: " + page + " (use 0.." + maxPage
+                    + ", or the nextCursor of the previous page for deeper pages)");
+        }
+    }
+
     /**
      * Validates that a number is positive
      * @param value the number to validate
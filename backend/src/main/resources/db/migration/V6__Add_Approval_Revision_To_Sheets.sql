@@ -0,0 +1,6 @@
+-- Add approval_revision to sheets table
+-- Rows under a sheetId never change after the task listener writes them, except for approval flags.
+-- The revision is bumped on every approval change and is used to build the sheet's ETag.
+
+ALTER TABLE sheets ADD COLUMN approval_revision BIGINT DEFAULT 0 NOT NULL;
+COMMENT ON COLUMN sheets.approval_revision IS 'Incremented whenever row approval flags or sheet approval change';
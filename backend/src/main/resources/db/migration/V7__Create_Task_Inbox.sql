@@ -0,0 +1,37 @@
+-- Denormalized task inbox read model (maintained by TaskInboxEventListener)
+-- One row per open task, plus one row per candidate user/group
+
+CREATE TABLE IF NOT EXISTS task_inbox (
+    task_id VARCHAR(64) PRIMARY KEY,
+    name VARCHAR(255),
+    description VARCHAR(4000),
+    assignee VARCHAR(255),
+    owner VARCHAR(255),
+    process_instance_id VARCHAR(255),
+    process_definition_id VARCHAR(255),
+    process_definition_key VARCHAR(255),
+    execution_id VARCHAR(255),
+    task_definition_key VARCHAR(255),
+    form_key VARCHAR(255),
+    category VARCHAR(255),
+    tenant_id VARCHAR(255),
+    priority INTEGER NOT NULL,
+    create_time TIMESTAMP,
+    due_date TIMESTAMP,
+    suspended BOOLEAN DEFAULT FALSE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_inbox_assignee_created ON task_inbox (assignee, create_time);
+CREATE INDEX IF NOT EXISTS idx_task_inbox_created ON task_inbox (create_time);
+CREATE INDEX IF NOT EXISTS idx_task_inbox_process_instance ON task_inbox (process_instance_id);
+
+CREATE TABLE IF NOT EXISTS task_inbox_candidate (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id VARCHAR(64) NOT NULL,
+    group_id VARCHAR(255),
+    user_id VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_inbox_cand_group ON task_inbox_candidate (group_id, task_id);
+CREATE INDEX IF NOT EXISTS idx_task_inbox_cand_user ON task_inbox_candidate (user_id, task_id);
+CREATE INDEX IF NOT EXISTS idx_task_inbox_cand_task ON task_inbox_candidate (task_id);
@@ -0,0 +1,12 @@
+-- Broadcast cache evictions (JDBC transport of the cache invalidation bus, see JdbcCacheInvalidationBus)
+-- Nodes poll for rows written by other nodes; rows older than the retention are deleted
+
+CREATE TABLE IF NOT EXISTS cache_invalidation (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id VARCHAR(64) NOT NULL,
+    cache_name VARCHAR(255) NOT NULL,
+    cache_key VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_created ON cache_invalidation (created_at);
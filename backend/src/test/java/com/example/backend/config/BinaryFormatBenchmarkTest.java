@@ -0,0 +1,113 @@
+package com.example.backend.config;
+
+import com.example.backend.dto.ItemStagingDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bytes and serialize/deserialize time of a 10k-row sheet as JSON, Smile and CBOR, with mappers built
+ * the same way as BinaryFormatConfig. Excluded from the default build; run with
+ * mvn test -Dgroups=benchmark -Dsurefire.excludedGroups=
+ */
+@Tag("benchmark")
+class BinaryFormatBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 30;
+    private static final TypeReference<List<ItemStagingDto>> ROW_LIST = new TypeReference<>() {};
+
+    @Test
+    void compareFormatsOnTenThousandRows() throws Exception {
+        List<ItemStagingDto> rows = sheet();
+        Result json = measure("JSON", mapper(new JsonFactory()), rows);
+        Result smile = measure("Smile", mapper(new SmileFactory()), rows);
+        Result cbor = measure("CBOR", mapper(new CBORFactory()), rows);
+
+        System.out.printf("%-6s %10s %12s %14s%n", "format", "bytes", "write ms", "read ms");
+        for (Result result : List.of(json, smile, cbor)) {
+            System.out.printf("%-6s %10d %12.2f %14.2f%n", result.format, result.bytes, result.writeMs, result.readMs);
+        }
+        assertTrue(smile.bytes < json.bytes, "Smile should be smaller than JSON");
+        assertTrue(cbor.bytes < json.bytes, "CBOR should be smaller than JSON");
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return new Jackson2ObjectMapperBuilder().factory(factory).build();
+    }
+
+    private static Result measure(String format, ObjectMapper mapper, List<ItemStagingDto> rows) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(rows);
+        assertEquals(rows, mapper.readValue(bytes, ROW_LIST), format + " round trip");
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(rows), ROW_LIST);
+        }
+        long writeNanos = 0;
+        long readNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            byte[] written = mapper.writeValueAsBytes(rows);
+            long middle = System.nanoTime();
+            mapper.readValue(written, ROW_LIST);
+            long end = System.nanoTime();
+            writeNanos += middle - start;
+            readNanos += end - middle;
+        }
+        return new Result(format, bytes.length,
+                writeNanos / 1e6 / MEASURED_ROUNDS, readNanos / 1e6 / MEASURED_ROUNDS);
+    }
+
+    private static List<ItemStagingDto> sheet() {
+        List<ItemStagingDto> rows = new ArrayList<>(ROWS);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 9, 30);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(ItemStagingDto.builder()
+                    .id((long) i)
+                    .sheetId("SHEET-BENCH-1")
+                    .itemName("Item " + i)
+                    .itemCategory("Category " + (i % 12))
+                    .price(10.0 + (i % 500) * 0.25)
+                    .quantity(i % 1000)
+                    .effectiveDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .status(i % 3 == 0 ? "APPROVED" : "PENDING")
+                    .approved(i % 3 == 0)
+                    .approvedBy(i % 3 == 0 ? "checker1" : null)
+                    .approvedAt(i % 3 == 0 ? now.plusMinutes(i) : null)
+                    .createdBy("maker1")
+                    .editedBy("maker1")
+                    .editedAt(now.minusMinutes(i))
+                    .comments(i % 10 == 0 ? "Price reviewed against the supplier list" : null)
+                    .build());
+        }
+        return rows;
+    }
+
+    private static final class Result {
+        final String format;
+        final int bytes;
+        final double writeMs;
+        final double readMs;
+
+        Result(String format, int bytes, double writeMs, double readMs) {
+            this.format = format;
+            this.bytes = bytes;
+            this.writeMs = writeMs;
+            this.readMs = readMs;
+        }
+    }
+}
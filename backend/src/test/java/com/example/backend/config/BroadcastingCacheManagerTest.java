@@ -0,0 +1,132 @@
+package com.example.backend.config;
+
+import com.example.backend.service.CacheInvalidationBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BroadcastingCacheManagerTest {
+
+    private ConcurrentMapCacheManager delegate;
+    private CacheInvalidationBus bus;
+    private BroadcastingCacheManager cacheManager;
+    private CacheInvalidationBus.Subscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCacheManager("models", "model");
+        bus = mock(CacheInvalidationBus.class);
+        cacheManager = new BroadcastingCacheManager(delegate, bus);
+        ArgumentCaptor<CacheInvalidationBus.Subscriber> captor = ArgumentCaptor.forClass(CacheInvalidationBus.Subscriber.class);
+        verify(bus).subscribe(captor.capture());
+        subscriber = captor.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictionOutsideATransactionIsBroadcastRightAway() {
+        Cache cache = cacheManager.getCache("model");
+        cache.put("m1", "old");
+
+        cache.evict("m1");
+
+        assertNull(delegate.getCache("model").get("m1"));
+        verify(bus).publish("model", "m1");
+    }
+
+    @Test
+    void evictionInATransactionIsRepeatedAndBroadcastAfterCommit() {
+        Cache cache = cacheManager.getCache("model");
+        cache.put("m1", "old");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("m1");
+        assertNull(cache.get("m1"));
+        // A read before the commit still sees the old row and caches it again
+        cache.put("m1", "old");
+        verify(bus, never()).publish(any(), any());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        assertNull(cache.get("m1"));
+        verify(bus).publish("model", "m1");
+    }
+
+    @Test
+    void clearInATransactionIsRepeatedAfterCommit() {
+        Cache cache = cacheManager.getCache("models");
+        cache.put("all", "old");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.clear();
+        cache.put("all", "old");
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        assertNull(cache.get("all"));
+        verify(bus).publish("models", null);
+    }
+
+    @Test
+    void rolledBackEvictionIsNotBroadcast() {
+        Cache cache = cacheManager.getCache("model");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("m1");
+        TransactionSynchronizationManager.clearSynchronization();
+
+        verify(bus, never()).publish(any(), any());
+    }
+
+    @Test
+    void keysOtherThanStringsAreBroadcastAsAClear() {
+        Cache cache = cacheManager.getCache("model");
+        cache.put(42L, "old");
+
+        cache.evict(42L);
+
+        assertNull(cache.get(42L));
+        verify(bus).publish("model", null);
+    }
+
+    @Test
+    void remoteEvictionsApplyLocallyWithoutRebroadcast() {
+        Cache cache = cacheManager.getCache("model");
+        cache.put("m1", "old");
+        cache.put("m2", "old");
+
+        subscriber.onInvalidation("model", "m1");
+        assertNull(cache.get("m1"));
+        assertNotNull(cache.get("m2"));
+
+        subscriber.onInvalidation("model", null);
+        assertNull(cache.get("m2"));
+        subscriber.onInvalidation("unknown", "m1");
+
+        verify(bus, never()).publish(any(), any());
+    }
+
+    @Test
+    void cachesAreWrappedOnce() {
+        assertSame(cacheManager.getCache("model"), cacheManager.getCache("model"));
+        assertNull(cacheManager.getCache("notACache"));
+    }
+}
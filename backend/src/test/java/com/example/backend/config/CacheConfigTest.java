@@ -0,0 +1,116 @@
+package com.example.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheConfigTest {
+
+    private static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=10m";
+
+    private final CacheConfig config = new CacheConfig();
+
+    @Test
+    void cachesWithoutASpecUseTheDefault() {
+        CaffeineCacheManager manager = config.caffeineCacheManager(new MockEnvironment(), DEFAULT_SPEC);
+
+        Policy<Object, Object> policy = nativeCache(manager, "processDefinitions").policy();
+        assertEquals(1000, policy.eviction().orElseThrow().getMaximum());
+        assertEquals(10, policy.expireAfterWrite().orElseThrow().getExpiresAfter(TimeUnit.MINUTES));
+        assertTrue(policy.isRecordingStats());
+    }
+
+    @Test
+    void perCacheSpecsOverrideTheDefaultIgnoringCase() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.specs.modelstatistics", "maximumSize=20,expireAfterWrite=30s");
+
+        CaffeineCacheManager manager = config.caffeineCacheManager(environment, DEFAULT_SPEC);
+
+        Policy<Object, Object> policy = nativeCache(manager, "modelStatistics").policy();
+        assertEquals(20, policy.eviction().orElseThrow().getMaximum());
+        assertEquals(30, policy.expireAfterWrite().orElseThrow().getExpiresAfter(TimeUnit.SECONDS));
+        assertEquals(1000, nativeCache(manager, "models").policy().eviction().orElseThrow().getMaximum());
+    }
+
+    @Test
+    void recordStatsInASpecIsAccepted() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.specs.models", "maximumSize=50, recordStats");
+
+        CaffeineCacheManager manager = config.caffeineCacheManager(environment, "recordStats,maximumSize=10");
+
+        assertTrue(nativeCache(manager, "models").policy().isRecordingStats());
+        assertEquals(50, nativeCache(manager, "models").policy().eviction().orElseThrow().getMaximum());
+        assertEquals(10, nativeCache(manager, "offers").policy().eviction().orElseThrow().getMaximum());
+    }
+
+    @Test
+    void maximumWeightSpecsWeighValuesBySize() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.specs.processVariables", "maximumWeight=100");
+
+        CaffeineCacheManager manager = config.caffeineCacheManager(environment, DEFAULT_SPEC);
+
+        Cache<Object, Object> cache = nativeCache(manager, "processVariables");
+        cache.put("list", List.of(1, 2, 3, 4, 5));
+        cache.put("text", "x".repeat(4 * 1024));
+        cache.put("other", 42);
+        cache.cleanUp();
+        assertTrue(cache.policy().eviction().orElseThrow().isWeighted());
+        assertEquals(5 + 4 + 1, cache.policy().eviction().orElseThrow().weightedSize().orElseThrow());
+        assertFalse(nativeCache(manager, "models").policy().eviction().orElseThrow().isWeighted());
+    }
+
+    @Test
+    void unknownCacheNamesAreRejected() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.specs.processDefinitons", "maximumSize=10");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> config.caffeineCacheManager(environment, DEFAULT_SPEC));
+        assertTrue(e.getMessage().startsWith("Invalid app.cache.specs entry: unknown cache processdefinitons"),
+                e.getMessage());
+    }
+
+    @Test
+    void refreshAfterWriteIsRejected() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.specs.models", "maximumSize=10,refreshAfterWrite=1m");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> config.caffeineCacheManager(environment, DEFAULT_SPEC));
+        assertTrue(e.getMessage().startsWith("Invalid cache spec for models"), e.getMessage());
+    }
+
+    @Test
+    void malformedSpecsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> config.caffeineCacheManager(new MockEnvironment(), "maximumSize=lots"));
+        assertThrows(IllegalArgumentException.class,
+                () -> config.caffeineCacheManager(new MockEnvironment(), "maximumSize=10,maximumWeight=10"));
+    }
+
+    @Test
+    void onlyConfiguredCachesExist() {
+        CaffeineCacheManager manager = config.caffeineCacheManager(new MockEnvironment(), DEFAULT_SPEC);
+
+        assertNull(manager.getCache("notACache"));
+    }
+
+    private static Cache<Object, Object> nativeCache(CaffeineCacheManager manager, String name) {
+        return ((CaffeineCache) manager.getCache(name)).getNativeCache();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * With the split-db profile the write and read pools point at two different in-memory databases,
+ * each holding a marker row naming itself, so every query shows which database served it.
+ * Only read-only transactions in a read replica scope may be served by the replica.
+ */
+@SpringBootTest(classes = ReadWriteRoutingDataSourceTest.RoutingConfig.class)
+@ActiveProfiles("split-db")
+class ReadWriteRoutingDataSourceTest {
+
+    @Configuration
+    @Import({DataSourceConfig.class, ReadReplicaAspect.class})
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    @EnableTransactionManagement
+    @EnableAspectJAutoProxy
+    static class RoutingConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        MarkerReader markerReader(JdbcTemplate jdbcTemplate) {
+            return new MarkerReader(jdbcTemplate);
+        }
+    }
+
+    static class MarkerReader {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        MarkerReader(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Transactional(readOnly = true)
+        @ReadReplica
+        public String report() {
+            return database(jdbcTemplate);
+        }
+
+        @Transactional(readOnly = true)
+        public String reloadAfterSave() {
+            return database(jdbcTemplate);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MarkerReader markerReader;
+
+    @Autowired
+    @Qualifier("writeDataSource")
+    private DataSource writeDataSource;
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private DataSource readDataSource;
+
+    @BeforeEach
+    void createMarkers() {
+        createMarker(writeDataSource, "primary");
+        createMarker(readDataSource, "replica");
+    }
+
+    @Test
+    void readOnlyTransactionsInAReplicaScopeUseTheReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertEquals("replica", ReadWriteRoutingDataSource.onReadReplica(() -> readOnly.execute(status -> database())));
+    }
+
+    @Test
+    void readOnlyTransactionsOutsideAReplicaScopeUseThePrimary() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertEquals("primary", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readReplicaMethodsUseTheReplicaAndOtherReadOnlyMethodsThePrimary() {
+        assertEquals("replica", markerReader.report());
+        assertEquals("primary", markerReader.reloadAfterSave());
+    }
+
+    @Test
+    void replicaScopeDoesNotMoveWritesOffThePrimary() {
+        assertEquals("primary", ReadWriteRoutingDataSource.onReadReplica(() ->
+                new TransactionTemplate(transactionManager).execute(status -> database())));
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        assertEquals("primary", readWrite.execute(status -> database()));
+    }
+
+    @Test
+    void workOutsideTransactionsUsesThePrimary() {
+        assertEquals("primary", database());
+    }
+
+    @Test
+    void writesLandOnThePrimaryOnly() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO ROUTING_MARKER (NAME_) VALUES ('written')"));
+
+        assertEquals(2, count(writeDataSource));
+        assertEquals(1, count(readDataSource));
+    }
+
+    private String database() {
+        return database(jdbcTemplate);
+    }
+
+    private static String database(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT MIN(NAME_) FROM ROUTING_MARKER WHERE NAME_ <> 'written'", String.class);
+    }
+
+    private static void createMarker(DataSource target, String name) {
+        JdbcTemplate direct = new JdbcTemplate(target);
+        direct.execute("DROP TABLE IF EXISTS ROUTING_MARKER");
+        direct.execute("CREATE TABLE ROUTING_MARKER (NAME_ VARCHAR(32))");
+        direct.update("INSERT INTO ROUTING_MARKER (NAME_) VALUES (?)", name);
+    }
+
+    private static int count(DataSource target) {
+        return new JdbcTemplate(target).queryForObject("SELECT COUNT(*) FROM ROUTING_MARKER", Integer.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.backend.flowable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncJobExecutorInstrumentationTest {
+
+    private SimpleMeterRegistry registry;
+    private AsyncJobExecutorInstrumentation instrumentation;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        instrumentation = new AsyncJobExecutorInstrumentation(registry, 2, 4, 16, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        instrumentation.shutdown();
+    }
+
+    @Test
+    void rejectsInconsistentPoolSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncJobExecutorInstrumentation(registry, 0, 4, 16, 5));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncJobExecutorInstrumentation(registry, 4, 2, 16, 5));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncJobExecutorInstrumentation(registry, 2, 4, -1, 5));
+    }
+
+    @Test
+    void poolIsSizedFromSettingsAndExposesGauges() {
+        Map<String, Object> snapshot = instrumentation.getPoolSnapshot();
+
+        assertEquals(2, snapshot.get("corePoolSize"));
+        assertEquals(4, snapshot.get("maxPoolSize"));
+        assertEquals(16, snapshot.get("queueRemaining"));
+        assertEquals(16.0, registry.get("flowable.async.executor.queue.remaining").gauge().value());
+    }
+
+    @Test
+    void jobsAreTimedOnThePool() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        instrumentation.getTaskExecutor().execute(done::countDown);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        instrumentation.getTaskExecutor().getThreadPoolExecutor().shutdown();
+        assertTrue(instrumentation.getTaskExecutor().getThreadPoolExecutor().awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, registry.get("flowable.async.job.execution").timer().count());
+        assertEquals(1, registry.get("flowable.async.job.queue.wait").timer().count());
+        assertEquals(1L, instrumentation.getPoolSnapshot().get("completedJobs"));
+    }
+
+    @Test
+    void acquisitionCyclesAreTimedWithTheirJobCount() {
+        CommandInterceptor interceptor = interceptorReturningOrThrowing();
+
+        interceptor.execute(new CommandConfig(), new AcquireJobsCmd(), null);
+        interceptor.execute(new CommandConfig(), new AcquireTimerJobsCmd(), null);
+
+        assertEquals(1, registry.get("flowable.async.acquisition").tag("type", "async").timer().count());
+        assertEquals(3.0, registry.get("flowable.async.acquisition.jobs").tag("type", "async").summary().totalAmount());
+        assertEquals(1, registry.get("flowable.async.acquisition").tag("type", "timer").timer().count());
+        assertEquals(0.0, registry.get("flowable.async.acquisition.jobs").tag("type", "timer").summary().totalAmount());
+    }
+
+    @Test
+    void optimisticLockConflictsAreCountedPerCommandAndRethrown() {
+        CommandInterceptor interceptor = interceptorReturningOrThrowing();
+
+        assertThrows(FlowableOptimisticLockingException.class,
+                () -> interceptor.execute(new CommandConfig(), new ConflictingCmd(), null));
+        Command<Object> lambda = context -> {
+            throw new FlowableOptimisticLockingException("lost");
+        };
+        assertThrows(FlowableOptimisticLockingException.class,
+                () -> interceptor.execute(new CommandConfig(), lambda, null));
+
+        assertEquals(1.0, registry.get("flowable.engine.lock.conflicts").tag("command", "ConflictingCmd").counter().count());
+        assertEquals(1.0, registry.get("flowable.engine.lock.conflicts").tag("command", "other").counter().count());
+        assertTrue(registry.find("flowable.async.acquisition").timers().isEmpty(), "only acquisitions are timed");
+    }
+
+    /**
+     * The instrumentation interceptor in front of one that simply runs the command
+     */
+    private CommandInterceptor interceptorReturningOrThrowing() {
+        CommandInterceptor interceptor = instrumentation.getCommandInterceptor();
+        interceptor.setNext(new AbstractCommandInterceptor() {
+            @Override
+            public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+                return command.execute(null);
+            }
+        });
+        return interceptor;
+    }
+
+    private static class AcquireJobsCmd implements Command<List<String>> {
+        @Override
+        public List<String> execute(CommandContext commandContext) {
+            return List.of("job-1", "job-2", "job-3");
+        }
+    }
+
+    private static class AcquireTimerJobsCmd implements Command<List<String>> {
+        @Override
+        public List<String> execute(CommandContext commandContext) {
+            return List.of();
+        }
+    }
+
+    private static class ConflictingCmd implements Command<Void> {
+        @Override
+        public Void execute(CommandContext commandContext) {
+            throw new FlowableOptimisticLockingException("job was updated by another transaction concurrently");
+        }
+    }
+}
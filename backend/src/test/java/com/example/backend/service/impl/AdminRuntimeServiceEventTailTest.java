@@ -0,0 +1,96 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.EventLogDto;
+import com.example.backend.dto.EventLogPage;
+import com.example.backend.service.AdminRuntimeService;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The event log tail returns the same entries as getEventLogs, and says so when the engine is not logging.
+ */
+@SpringBootTest(properties = "app.events.database-logging=true")
+class AdminRuntimeServiceEventTailTest {
+
+    private static final String PROCESS_KEY = "eventTail";
+
+    @Autowired
+    private RepositoryService repositoryService;
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private AdminRuntimeService adminRuntimeService;
+
+    private String deploymentId;
+
+    @BeforeEach
+    void startInstance() {
+        String bpmn = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" targetNamespace=\"eventTail\">"
+                + "<process id=\"" + PROCESS_KEY + "\" isExecutable=\"true\">"
+                + "<startEvent id=\"start\"/>"
+                + "<sequenceFlow id=\"f1\" sourceRef=\"start\" targetRef=\"review\"/>"
+                + "<userTask id=\"review\" name=\"Review\"/>"
+                + "<sequenceFlow id=\"f2\" sourceRef=\"review\" targetRef=\"end\"/>"
+                + "<endEvent id=\"end\"/>"
+                + "</process></definitions>";
+        deploymentId = repositoryService.createDeployment()
+                .addString("event-tail.bpmn20.xml", bpmn)
+                .deploy()
+                .getId();
+        runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+    }
+
+    @AfterEach
+    void undeploy() {
+        repositoryService.deleteDeployment(deploymentId, true);
+    }
+
+    @Test
+    void tailEntriesMatchTheEventLog() {
+        List<EventLogDto> logged = adminRuntimeService.getEventLogs(1000);
+        assertFalse(logged.isEmpty());
+
+        EventLogPage page = tail(0L);
+
+        assertTrue(page.isLoggingEnabled());
+        assertEquals(logged.subList(0, page.getEntries().size()), page.getEntries());
+        assertEquals(Long.parseLong(page.getEntries().get(page.getEntries().size() - 1).getId()), page.getNextCursor());
+    }
+
+    @Test
+    void tailReportsDisabledLoggingWithoutWaiting() {
+        Object target = AopProxyUtils.getSingletonTarget(adminRuntimeService);
+        Object service = target != null ? target : adminRuntimeService;
+        ReflectionTestUtils.setField(service, "databaseEventLogging", false);
+        try {
+            EventLogPage page = (EventLogPage) adminRuntimeService
+                    .tailEventLogs(42L, null, null, 10, 30_000).getResult();
+
+            assertFalse(page.isLoggingEnabled());
+            assertTrue(page.getEntries().isEmpty());
+            assertEquals(42L, page.getNextCursor());
+        } finally {
+            ReflectionTestUtils.setField(service, "databaseEventLogging", true);
+        }
+    }
+
+    private EventLogPage tail(long after) {
+        return (EventLogPage) adminRuntimeService.tailEventLogs(after, null, null, 1000, 0).getResult();
+    }
+}
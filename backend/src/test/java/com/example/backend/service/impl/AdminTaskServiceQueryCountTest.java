@@ -0,0 +1,130 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.CountMode;
+import com.example.backend.dto.PagedResponse;
+import com.example.backend.dto.TaskDto;
+import com.example.backend.service.AdminTaskService;
+import com.example.backend.support.StatementCounter;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The admin task search resolves the variables of a whole page with a fixed number of statements,
+ * however many tasks the page holds and whether their instances carry serialized variables.
+ */
+@SpringBootTest
+@Import(StatementCounter.class)
+class AdminTaskServiceQueryCountTest {
+
+    private static final String PROCESS_KEY = "adminSearchQueryCount";
+    private static final int INSTANCES = 20;
+    // Longer than the 4000-character text column, so stored as a longString byte array
+    private static final String NOTES = "n".repeat(5000);
+
+    @Autowired
+    private RepositoryService repositoryService;
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private AdminTaskService adminTaskService;
+
+    private String deploymentId;
+    private String group;
+
+    @BeforeEach
+    void startInstances() {
+        String bpmn = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\""
+                + " xmlns:flowable=\"http://flowable.org/bpmn\" targetNamespace=\"queryCount\">"
+                + "<process id=\"" + PROCESS_KEY + "\" isExecutable=\"true\">"
+                + "<startEvent id=\"start\"/>"
+                + "<sequenceFlow id=\"f1\" sourceRef=\"start\" targetRef=\"review\"/>"
+                + "<userTask id=\"review\" name=\"Review\" flowable:candidateGroups=\"${group}\"/>"
+                + "<sequenceFlow id=\"f2\" sourceRef=\"review\" targetRef=\"end\"/>"
+                + "<endEvent id=\"end\"/>"
+                + "</process></definitions>";
+        deploymentId = repositoryService.createDeployment()
+                .addString("admin-search-query-count.bpmn20.xml", bpmn)
+                .deploy()
+                .getId();
+
+        group = "qc-" + UUID.randomUUID();
+        for (int i = 0; i < INSTANCES; i++) {
+            ArrayList<String> rows = new ArrayList<>(List.of("row-" + i + "-a", "row-" + i + "-b"));
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("group", group);
+            variables.put("sheetId", "sheet-" + i);
+            variables.put("amount", (long) i);
+            variables.put("rows", rows);
+            variables.put("dueOn", LocalDate.of(2026, 1, 1).plusDays(i));
+            variables.put("notes", NOTES);
+            variables.put("attachment", new byte[]{(byte) i, 1, 2});
+            runtimeService.startProcessInstanceByKey(PROCESS_KEY, variables);
+        }
+    }
+
+    @AfterEach
+    void undeploy() {
+        repositoryService.deleteDeployment(deploymentId, true);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        // Warm up caches (process definition, count cache) so both measurements see the same state
+        search(1);
+
+        int small = StatementCounter.count(() -> search(2));
+        int large = StatementCounter.count(() -> search(INSTANCES));
+
+        assertEquals(small, large, "statements for a page of 2 vs a page of " + INSTANCES);
+    }
+
+    @Test
+    void variablesOfEveryTypeAreMappedByTheEngine() {
+        PagedResponse<TaskDto> page = search(INSTANCES);
+
+        assertEquals(INSTANCES, page.content.size());
+        for (TaskDto task : page.content) {
+            Map<String, Object> expected = runtimeService.getVariables(task.processInstanceId);
+            assertEquals(group, task.variables.get("group"));
+            assertEquals(Long.class, task.variables.get("amount").getClass());
+            assertEquals(expected.get("sheetId"), task.variables.get("sheetId"));
+            assertEquals(expected.get("dueOn"), task.variables.get("dueOn"));
+            assertEquals(LocalDate.class, task.variables.get("dueOn").getClass());
+            assertEquals(expected.get("rows"), task.variables.get("rows"));
+            assertEquals(NOTES, task.variables.get("notes"));
+            assertArrayEquals((byte[]) expected.get("attachment"), (byte[]) task.variables.get("attachment"));
+        }
+    }
+
+    @Test
+    void pageSizeIsCappedAndValidated() {
+        assertEquals(200, search(10_000).size);
+        assertThrows(IllegalArgumentException.class, () -> search(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> adminTaskService.searchTasks(group, null, -1, 10, CountMode.NONE));
+    }
+
+    private PagedResponse<TaskDto> search(int size) {
+        return adminTaskService.searchTasks(group, null, 0, size, CountMode.NONE);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.backend.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Every LoadingCache entry point works on the count cache: keys registered through getCount are loaded and
+ * refreshed with their counter, and keys no caller has counted are absent instead of failing.
+ */
+class CountCacheServiceImplTest {
+
+    private CountCacheServiceImpl countCache;
+    private LoadingCache<String, ?> counts;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        countCache = new CountCacheServiceImpl();
+        ReflectionTestUtils.setField(countCache, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(countCache, "countCacheBuilder",
+                Caffeine.newBuilder().maximumSize(10).refreshAfterWrite(Duration.ofMinutes(5)).recordStats());
+        ReflectionTestUtils.setField(countCache, "meterRegistry", new SimpleMeterRegistry());
+        countCache.init();
+        counts = (LoadingCache<String, ?>) ReflectionTestUtils.getField(countCache, "counts");
+    }
+
+    @AfterEach
+    void tearDown() {
+        countCache.stop();
+    }
+
+    @Test
+    void cachedCountIsServedUntilRefreshed() throws Exception {
+        AtomicLong rows = new AtomicLong(3);
+
+        assertEquals(3, countCache.getCount("tasks", rows::get));
+        rows.set(5);
+        assertEquals(3, countCache.getCount("tasks", rows::get));
+
+        counts.refresh("tasks").get(5, TimeUnit.SECONDS);
+        // The refreshed value is installed just after the future completes
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (countCache.getCount("tasks", rows::get) != 5 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(5, countCache.getCount("tasks", rows::get));
+    }
+
+    @Test
+    void unknownKeysAreAbsentRatherThanFailing() throws Exception {
+        assertNull(counts.get("unknown"));
+        assertTrue(counts.getAll(List.of("unknown")).isEmpty());
+        assertNull(counts.refresh("unknown").get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.backend.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JdbcCacheInvalidationBusTest {
+
+    private static final String OTHER_NODE = "other-node";
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcCacheInvalidationBus bus;
+    private final List<String> deliveries = new ArrayList<>();
+    /** Rows the database returns for the next poll: id, node_id, cache_name, cache_key */
+    private final List<Object[]> rows = new ArrayList<>();
+    private String lastSql;
+    private Object[] lastArgs;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new JdbcCacheInvalidationBus(jdbcTemplate, mock(PlatformTransactionManager.class), meterRegistry);
+        ReflectionTestUtils.setField(bus, "batchSize", 500);
+        ReflectionTestUtils.setField(bus, "idWindow", 10L);
+        ReflectionTestUtils.setField(bus, "lateCommitSeconds", 60L);
+        ReflectionTestUtils.setField(bus, "lastId", 100L);
+        bus.subscribe((cacheName, key) -> deliveries.add(cacheName + "/" + key));
+
+        doAnswer(invocation -> {
+            lastSql = invocation.getArgument(0);
+            lastArgs = new Object[]{invocation.getArgument(2), invocation.getArgument(3),
+                    invocation.getArgument(4), invocation.getArgument(5)};
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(), any(), any(), any());
+    }
+
+    @Test
+    void pollReadsNewRowsAndOnlyTheRecentPartOfTheWindow() {
+        long before = System.currentTimeMillis();
+        poll();
+        long after = System.currentTimeMillis();
+
+        assertTrue(lastSql.contains("WHERE id > ? AND (id > ? OR created_at >= ?)"), lastSql);
+        assertEquals(90L, lastArgs[0]);
+        assertEquals(100L, lastArgs[1]);
+        long cutoff = ((Timestamp) lastArgs[2]).getTime();
+        assertTrue(cutoff >= before - TimeUnit.SECONDS.toMillis(60) && cutoff <= after - TimeUnit.SECONDS.toMillis(60));
+        assertEquals(510L, lastArgs[3]);
+    }
+
+    @Test
+    void evictionsFromOtherNodesAreDeliveredOnce() {
+        rows.add(row(101, OTHER_NODE, "model", "m1"));
+        rows.add(row(102, bus.getNodeId(), "model", "m2"));
+        poll();
+        // The next poll re-reads the same rows from the window
+        poll();
+
+        assertEquals(List.of("model/m1"), deliveries);
+        assertEquals(102L, ReflectionTestUtils.getField(bus, "lastId"));
+        assertEquals(1.0, meterRegistry.get("cache.invalidation.received").counter().count());
+    }
+
+    @Test
+    void lateCommitBehindAHigherIdIsDelivered() {
+        rows.add(row(102, OTHER_NODE, "model", "m2"));
+        poll();
+        rows.add(0, row(101, OTHER_NODE, "models", null));
+        poll();
+
+        assertEquals(List.of("model/m2", "models/null"), deliveries);
+        assertEquals(102L, ReflectionTestUtils.getField(bus, "lastId"));
+        assertEquals(92L, lastArgs[0]);
+    }
+
+    @Test
+    void deliveredIdsBelowTheWindowAreForgotten() {
+        rows.add(row(101, OTHER_NODE, "model", "m1"));
+        poll();
+        rows.clear();
+        rows.add(row(150, OTHER_NODE, "model", "m2"));
+        poll();
+
+        @SuppressWarnings("unchecked")
+        NavigableSet<Long> delivered = (NavigableSet<Long>) ReflectionTestUtils.getField(bus, "delivered");
+        assertEquals(List.of(150L), List.copyOf(delivered));
+    }
+
+    @Test
+    void failingSubscriberDoesNotStopDelivery() {
+        bus.subscribe((cacheName, key) -> {
+            throw new IllegalStateException("boom");
+        });
+        List<String> later = new ArrayList<>();
+        bus.subscribe((cacheName, key) -> later.add(key));
+        rows.add(row(101, OTHER_NODE, "model", "m1"));
+
+        poll();
+
+        assertEquals(List.of("model/m1"), deliveries);
+        assertEquals(List.of("m1"), later);
+    }
+
+    private void poll() {
+        ReflectionTestUtils.invokeMethod(bus, "poll");
+    }
+
+    private static Object[] row(long id, String nodeId, String cacheName, String key) {
+        return new Object[]{id, nodeId, cacheName, key};
+    }
+
+    private static ResultSet resultSet(Object[] row) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn((Long) row[0]);
+        when(rs.getString("node_id")).thenReturn((String) row[1]);
+        when(rs.getString("cache_name")).thenReturn((String) row[2]);
+        when(rs.getString("cache_key")).thenReturn((String) row[3]);
+        return rs;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.MetricsDto;
+import com.example.backend.service.MetricsRollupService;
+import com.example.backend.service.MetricsRollupService.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Event application and rebuild of the rollup store. The tables are a mocked JdbcTemplate
+ * (no rows unless a test feeds some), and no transaction is active, so updates apply at once.
+ */
+class MetricsRollupServiceImplTest {
+
+    private static final String DEFINITION_ID = "order:3:42";
+    private static final String KEY = "order";
+
+    private JdbcTemplate jdbcTemplate;
+    private MetricsRollupServiceImpl rollup;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        rollup = new MetricsRollupServiceImpl(jdbcTemplate, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void processLifecycleIsCountedOnce() {
+        Date start = new Date(System.currentTimeMillis() - 120_000);
+        rollup.processStarted("pi-1", DEFINITION_ID, start);
+        rollup.processStarted("pi-1", DEFINITION_ID, start);
+
+        assertEquals(1, rollup.get(Counter.RUNNING, KEY));
+        assertEquals(1, rollup.get(Counter.STARTED, null));
+
+        Date end = new Date(start.getTime() + 60_000);
+        rollup.processEnded("pi-1", end, true);
+        rollup.processEnded("pi-1", end, true);
+
+        assertEquals(0, rollup.get(Counter.RUNNING, KEY));
+        assertEquals(1, rollup.get(Counter.COMPLETED, KEY));
+        MetricsDto.DurationPercentiles all = rollup.processDurations().get(0);
+        assertEquals(MetricsRollupService.ALL_DEFINITIONS, all.definitionKey);
+        assertEquals(1, all.count);
+        assertEquals(1.0, all.avgMinutes, 1e-9);
+    }
+
+    @Test
+    void cancelledInstancesAreCountedButNotTimed() {
+        rollup.processStarted("pi-1", DEFINITION_ID, new Date());
+        rollup.processEnded("pi-1", new Date(), false);
+
+        assertEquals(1, rollup.get(Counter.COMPLETED, KEY));
+        assertEquals(0, rollup.processDurations().get(0).count);
+    }
+
+    @Test
+    void suspensionOnlyCountsStateChanges() {
+        rollup.processStarted("pi-1", DEFINITION_ID, new Date());
+        rollup.processSuspended("pi-1", true);
+        rollup.processSuspended("pi-1", true);
+        assertEquals(1, rollup.get(Counter.SUSPENDED, KEY));
+
+        rollup.processEnded("pi-1", new Date(), false);
+        assertEquals(0, rollup.get(Counter.SUSPENDED, KEY));
+    }
+
+    @Test
+    void taskAssignmentTracksClaimsAndOpenTasks() {
+        Date created = new Date();
+        rollup.taskCreated("t-1", DEFINITION_ID, "review", null, created);
+        rollup.taskAssigned("t-1", "bob", created);
+        rollup.taskAssigned("t-1", "bob", created);
+
+        assertEquals(1, rollup.get(Counter.TASKS_OPEN, KEY));
+        assertEquals(1, rollup.get(Counter.TASKS_ASSIGNED, KEY));
+        assertEquals(1, rollup.get(Counter.CLAIMS, KEY));
+        assertEquals(1, rollup.daily(Counter.CLAIMS, KEY, 1)[0]);
+
+        rollup.taskEnded("t-1", new Date(), true);
+        rollup.taskEnded("t-1", new Date(), true);
+
+        assertEquals(0, rollup.get(Counter.TASKS_OPEN, KEY));
+        assertEquals(0, rollup.get(Counter.TASKS_ASSIGNED, KEY));
+        assertEquals(1, rollup.get(Counter.TASKS_COMPLETED, null));
+        assertEquals(1, rollup.taskDurations(KEY).size());
+        assertEquals("review", rollup.taskDurations(KEY).get(0).taskDefinitionKey);
+    }
+
+    @Test
+    void rebuildReplacesStateWithTheTables() throws Exception {
+        rollup.processStarted("pi-stale", DEFINITION_ID, new Date());
+        feedRunningInstance("pi-9", 2);
+
+        rollup.rebuild();
+
+        assertEquals(1, rollup.get(Counter.RUNNING, KEY));
+        assertEquals(1, rollup.get(Counter.SUSPENDED, KEY));
+        // The stale instance is gone, the loaded one is tracked by ID
+        rollup.processEnded("pi-stale", new Date(), true);
+        assertEquals(1, rollup.get(Counter.RUNNING, KEY));
+        rollup.processEnded("pi-9", new Date(), true);
+        assertEquals(0, rollup.get(Counter.RUNNING, KEY));
+        assertEquals(0, rollup.get(Counter.SUSPENDED, KEY));
+    }
+
+    @Test
+    void updatesDuringRebuildAreReplayedOntoTheFreshState() {
+        doAnswer(invocation -> {
+            // An instance starts on another thread while the history scan runs
+            rollup.processStarted("pi-during", DEFINITION_ID, new Date());
+            return null;
+        }).when(jdbcTemplate).query(argThat((String sql) -> sql.contains("FROM ACT_HI_PROCINST GROUP BY")),
+                any(RowCallbackHandler.class));
+
+        rollup.rebuild();
+
+        assertEquals(1, rollup.get(Counter.RUNNING, KEY));
+        rollup.processEnded("pi-during", new Date(), true);
+        assertEquals(0, rollup.get(Counter.RUNNING, KEY));
+    }
+
+    @Test
+    void seriesRejectsCountersWithoutSeries() {
+        assertThrows(IllegalArgumentException.class, () -> rollup.daily(Counter.RUNNING, KEY, 1));
+    }
+
+    private void feedRunningInstance(String id, int suspensionState) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("ID_")).thenReturn(id);
+        when(rs.getString("PROC_DEF_ID_")).thenReturn(DEFINITION_ID);
+        when(rs.getInt("SUSPENSION_STATE_")).thenReturn(suspensionState);
+        when(rs.getTimestamp("START_TIME_")).thenReturn(new Timestamp(System.currentTimeMillis()));
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(argThat((String sql) -> sql.contains("FROM ACT_RU_EXECUTION")),
+                any(RowCallbackHandler.class));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.TableStatsDto;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Which source a sample comes from: catalog estimates where the database supports them,
+ * exact engine counts otherwise or when the estimate cannot be used.
+ */
+class TableStatsServiceImplTest {
+
+    private static final Map<String, Long> EXACT = Map.of("ACT_RU_TASK", 7L, "ACT_HI_PROCINST", 40L);
+
+    private ManagementService managementService;
+    private ProcessEngineConfigurationImpl engineConfiguration;
+    private JdbcTemplate jdbcTemplate;
+    private TableStatsServiceImpl tableStats;
+
+    @BeforeEach
+    void setUp() {
+        managementService = mock(ManagementService.class);
+        when(managementService.getTableCount()).thenReturn(EXACT);
+        engineConfiguration = mock(ProcessEngineConfigurationImpl.class);
+        ProcessEngine processEngine = mock(ProcessEngine.class);
+        when(processEngine.getProcessEngineConfiguration()).thenReturn(engineConfiguration);
+        jdbcTemplate = mock(JdbcTemplate.class);
+
+        tableStats = new TableStatsServiceImpl(managementService, processEngine, jdbcTemplate,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(tableStats, "mode", "estimate");
+        ReflectionTestUtils.setField(tableStats, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(tableStats, "growthWindowMinutes", 60L);
+    }
+
+    @Test
+    void supportedDatabaseUsesCatalogEstimates() throws Exception {
+        when(engineConfiguration.getDatabaseType()).thenReturn("h2");
+        feedEstimate("act_ru_task", 5L);
+
+        TableStatsDto stats = tableStats.getStats();
+
+        assertTrue(stats.isEstimated());
+        assertEquals(Map.of("ACT_RU_TASK", 5L), tableStats.getRowCounts());
+        verify(managementService, never()).getTableCount();
+    }
+
+    @Test
+    void unsupportedDatabaseFallsBackToExactCounts() {
+        when(engineConfiguration.getDatabaseType()).thenReturn("oracle");
+
+        TableStatsDto stats = tableStats.getStats();
+
+        assertFalse(stats.isEstimated());
+        assertEquals(EXACT, tableStats.getRowCounts());
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void failingEstimateFallsBackToExactCounts() {
+        when(engineConfiguration.getDatabaseType()).thenReturn("postgres");
+        doThrow(new DataAccessResourceFailureException("permission denied for pg_class"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        TableStatsDto stats = tableStats.getStats();
+
+        assertFalse(stats.isEstimated());
+        assertEquals(EXACT, tableStats.getRowCounts());
+    }
+
+    @Test
+    void emptyEstimateFallsBackToExactCounts() {
+        when(engineConfiguration.getDatabaseType()).thenReturn("mysql");
+
+        assertFalse(tableStats.getStats().isEstimated());
+        assertEquals(EXACT, tableStats.getRowCounts());
+    }
+
+    @Test
+    void exactModeNeverQueriesTheCatalog() {
+        ReflectionTestUtils.setField(tableStats, "mode", "exact");
+        when(engineConfiguration.getDatabaseType()).thenReturn("h2");
+
+        assertFalse(tableStats.getStats().isEstimated());
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void negativeEstimatesAreClampedToZero() throws Exception {
+        // PostgreSQL reports -1 for tables that were never analyzed
+        when(engineConfiguration.getDatabaseType()).thenReturn("postgres");
+        feedEstimate("act_ge_bytearray", -1L);
+
+        assertEquals(Map.of("ACT_GE_BYTEARRAY", 0L), tableStats.getRowCounts());
+    }
+
+    @Test
+    void latestDoesNotSample() {
+        when(engineConfiguration.getDatabaseType()).thenReturn("oracle");
+
+        assertTrue(tableStats.getLatest().getTables().isEmpty());
+        verify(managementService, never()).getTableCount();
+    }
+
+    private void feedEstimate(String table, long rows) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("TABLE_NAME")).thenReturn(table);
+        when(rs.getLong("ROW_COUNT_ESTIMATE")).thenReturn(rows);
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.TaskActionResponse;
+import com.example.backend.exception.TaskClaimConflictException;
+import com.example.backend.service.TaskManagementService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many claimers racing for the same tasks: every task ends up claimed exactly once, losers get
+ * TaskClaimConflictException (never a raw engine exception), and conflicts are counted.
+ */
+@SpringBootTest
+class TaskClaimStressTest {
+
+    private static final String PROCESS_KEY = "claimStressProcess";
+    private static final int TASKS = 60;
+    private static final int CLAIMERS = 8;
+
+    @Autowired
+    private RepositoryService repositoryService;
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskManagementService taskManagementService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String deploymentId;
+
+    @BeforeEach
+    void deploy() {
+        String candidates = IntStream.range(0, CLAIMERS).mapToObj(TaskClaimStressTest::claimer)
+                .collect(Collectors.joining(","));
+        String bpmn = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\""
+                + " xmlns:flowable=\"http://flowable.org/bpmn\" targetNamespace=\"stress\">"
+                + "<process id=\"" + PROCESS_KEY + "\" isExecutable=\"true\">"
+                + "<startEvent id=\"start\"/>"
+                + "<sequenceFlow id=\"f1\" sourceRef=\"start\" targetRef=\"review\"/>"
+                + "<userTask id=\"review\" name=\"Review\" flowable:candidateUsers=\"" + candidates + "\"/>"
+                + "<sequenceFlow id=\"f2\" sourceRef=\"review\" targetRef=\"end\"/>"
+                + "<endEvent id=\"end\"/>"
+                + "</process></definitions>";
+        deploymentId = repositoryService.createDeployment()
+                .addString("claim-stress.bpmn20.xml", bpmn)
+                .deploy()
+                .getId();
+    }
+
+    @AfterEach
+    void undeploy() {
+        repositoryService.deleteDeployment(deploymentId, true);
+    }
+
+    @Test
+    void concurrentClaimNextClaimsEveryTaskExactlyOnce() throws Exception {
+        for (int i = 0; i < TASKS; i++) {
+            runtimeService.startProcessInstanceByKey(PROCESS_KEY);
+        }
+        Map<String, String> claimedBy = new ConcurrentHashMap<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CLAIMERS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < CLAIMERS; i++) {
+                String user = claimer(i);
+                workers.add(pool.submit(() -> {
+                    go.await();
+                    while (unassigned() > 0) {
+                        TaskActionResponse response = taskManagementService.claimNextTask(user, null, PROCESS_KEY, null);
+                        if (response != null && claimedBy.putIfAbsent(response.getTaskId(), user) != null) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(0, duplicates.get(), "a task was reported claimed by two users");
+        assertEquals(TASKS, claimedBy.size());
+        for (Task task : taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY).list()) {
+            assertEquals(claimedBy.get(task.getId()), task.getAssignee(), "assignee of " + task.getId());
+        }
+    }
+
+    @Test
+    void concurrentDirectClaimsHaveExactlyOneWinner() throws Exception {
+        String processInstanceId = runtimeService.startProcessInstanceByKey(PROCESS_KEY).getId();
+        String taskId = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId();
+        double conflictsBefore = conflicts();
+
+        AtomicInteger wins = new AtomicInteger();
+        AtomicInteger losses = new AtomicInteger();
+        List<Throwable> unexpected = new ArrayList<>();
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CLAIMERS);
+        try {
+            List<Future<?>> claims = new ArrayList<>();
+            for (int i = 0; i < CLAIMERS; i++) {
+                String user = claimer(i);
+                claims.add(pool.submit(() -> {
+                    go.await();
+                    try {
+                        taskManagementService.claimTask(taskId, user);
+                        wins.incrementAndGet();
+                    } catch (TaskClaimConflictException e) {
+                        losses.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        synchronized (unexpected) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> claim : claims) {
+                claim.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertTrue(unexpected.isEmpty(), "unexpected exceptions: " + unexpected);
+        assertEquals(1, wins.get());
+        assertEquals(CLAIMERS - 1, losses.get());
+        assertEquals(CLAIMERS - 1, conflicts() - conflictsBefore, 0.0);
+        assertNull(taskManagementService.claimNextTask(claimer(0), null, PROCESS_KEY, null),
+                "nothing left to claim");
+    }
+
+    private long unassigned() {
+        return taskService.createTaskQuery().processDefinitionKey(PROCESS_KEY).taskUnassigned().count();
+    }
+
+    private double conflicts() {
+        return meterRegistry.find("flowable.task.claim.conflicts").tag("mode", "direct").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static String claimer(int i) {
+        return "stress-" + i;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.backend.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Counts the JDBC statements the calling thread prepares through the primary data source.
+ * Import it into a Spring Boot test and wrap the code under test with {@link #count(Supplier)}.
+ */
+@TestConfiguration
+public class StatementCounter {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource) {
+                    return proxy(DataSource.class, bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Run the action and return how many statements it prepared on this thread
+     */
+    public static int count(Supplier<?> action) {
+        AtomicInteger counter = new AtomicInteger();
+        CURRENT.set(counter);
+        try {
+            action.get();
+        } finally {
+            CURRENT.remove();
+        }
+        return counter.get();
+    }
+
+    private static <T> T proxy(Class<T> type, Object target) {
+        return type.cast(Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> invoke(target, method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        if (result instanceof Connection && method.getName().startsWith("getConnection")) {
+            return proxy(Connection.class, result);
+        }
+        if (STATEMENT_METHODS.contains(method.getName())) {
+            AtomicInteger counter = CURRENT.get();
+            if (counter != null) {
+                counter.incrementAndGet();
+            }
+        }
+        return result;
+    }
+}
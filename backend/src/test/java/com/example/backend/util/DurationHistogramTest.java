@@ -0,0 +1,99 @@
+package com.example.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurationHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        DurationHistogram histogram = new DurationHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0d, histogram.getMean());
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        DurationHistogram histogram = new DurationHistogram();
+        for (long value = 0; value < 32; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(0, histogram.percentile(0));
+        assertEquals(15, histogram.percentile(50));
+        assertEquals(31, histogram.percentile(100));
+        assertEquals(15.5, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    void percentilesStayWithinBucketResolution() {
+        long[] values = {33, 64, 65, 1_000, 59_999, 3_600_000, 86_400_000L, 30L * 86_400_000L, 1L << 40};
+        for (long value : values) {
+            DurationHistogram histogram = new DurationHistogram();
+            histogram.record(value);
+            long reported = histogram.percentile(50);
+            double error = Math.abs(reported - value) / (double) value;
+            assertTrue(error <= 1d / 64, "value " + value + " reported as " + reported);
+        }
+    }
+
+    @Test
+    void bucketBoundariesSeparateNeighbours() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(63);
+        histogram.record(64);
+
+        // 63 is still exact (shift 0); 64 starts the first bucket two milliseconds wide
+        assertEquals(63, histogram.percentile(50));
+        assertEquals(64, histogram.percentile(100));
+    }
+
+    @Test
+    void percentileNeverExceedsMax() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(1_000);
+
+        assertTrue(histogram.percentile(99) <= 1_000);
+        assertEquals(1_000, histogram.getMax());
+    }
+
+    @Test
+    void negativeAndHugeValuesAreClamped() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.percentile(50));
+        // Beyond 2^41 ms everything shares the last bucket; max keeps the real value
+        assertTrue(histogram.percentile(100) < 1L << 41);
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(2, histogram.getCount());
+    }
+
+    @Test
+    void mergeAddsCountsAndKeepsPercentiles() {
+        DurationHistogram fast = new DurationHistogram();
+        DurationHistogram slow = new DurationHistogram();
+        for (int i = 0; i < 90; i++) {
+            fast.record(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            slow.record(10_000);
+        }
+
+        DurationHistogram all = new DurationHistogram();
+        all.merge(fast);
+        all.merge(slow);
+
+        assertEquals(100, all.getCount());
+        assertEquals(10, all.percentile(90));
+        long p99 = all.percentile(99);
+        assertTrue(Math.abs(p99 - 10_000) <= 10_000 / 32, "p99 " + p99);
+        assertEquals(10_000, all.getMax());
+        assertEquals(1_009, all.getMean(), 1e-9);
+    }
+}
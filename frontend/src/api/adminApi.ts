@@ -65,6 +65,14 @@ export interface EventLog {
   data: string | null
 }
 
+export interface EventLogPage {
+  entries: EventLog[]
+  nextCursor: number
+  hasMore: boolean
+  // False when the server does not write the event log (app.events.database-logging); the tail stays empty
+  loggingEnabled: boolean
+}
+
 export interface Metrics {
   runningInstances: number
   completedInstances: number
@@ -72,11 +80,48 @@ export interface Metrics {
   instancesByDay: { day: string; count: number }[]
   tasksByState: { state: string; count: number }[]
   avgDurationByDefinition: { definitionKey: string; minutes: number }[]
+  durationByDefinition?: DurationPercentiles[]
+  taskCycleTimes?: DurationPercentiles[]
+}
+
+// Completed process durations / task cycle times, in minutes
+export interface DurationPercentiles {
+  definitionKey: string
+  taskDefinitionKey?: string | null
+  count: number
+  avgMinutes: number
+  p50Minutes: number
+  p90Minutes: number
+  p99Minutes: number
+  maxMinutes: number
 }
 
+// Running instances per active activity; bounds only with diagram=true
+export interface ActivityHeatmap {
+  definitionKey: string
+  runningInstances: number
+  activities: {
+    activityId: string
+    activityName: string | null
+    activityType: string
+    count: number
+    oldestStartTime: string | null
+    ageBuckets: Record<string, number>
+    bounds?: { x: number; y: number; width: number; height: number } | null
+  }[]
+}
+
+// How paged admin searches compute their total
+export type CountMode = 'EXACT' | 'CACHED' | 'NONE'
+
 export interface PagedResponse<T> {
   content: T[]
   total: number
+  totalApproximate?: boolean | null
+  page?: number | null
+  size?: number | null
+  hasNext?: boolean | null
+  nextCursor?: string | null
 }
 
 export const adminApi = {
@@ -93,12 +138,18 @@ export const adminApi = {
     state?: string
     page?: number
     size?: number
+    // Comma-separated variable names to include (default: none)
+    vars?: string
+    // CACHED: page flips reuse a background-refreshed total; NONE: skip the count
+    countMode?: CountMode
   }) => api.get<PagedResponse<ProcessInstance>>('/instances/search', { params }),
   searchProcessInstances: async (params: {
     definitionKey?: string
     state?: string
     page?: number
     size?: number
+    vars?: string
+    countMode?: CountMode
   }) => {
     const response = await api.get<PagedResponse<ProcessInstance>>('/instances/search', { params })
     return response.data
@@ -110,16 +161,24 @@ export const adminApi = {
     state?: string
     page?: number
     size?: number
+    countMode?: CountMode
   }) => api.get<PagedResponse<Task>>('/tasks/search', { params }),
   
   // Events
   searchEvents: (params: { limit?: number }) => api.get<EventLog[]>('/events/search', { params }),
+  // Follow the event log: pass the previous nextCursor as `after`; waitMs long-polls for new entries
+  tailEvents: (params: { after?: number; types?: string; processInstanceId?: string; limit?: number; waitMs?: number }) =>
+    api.get<EventLogPage>('/events/tail', { params }),
   
   // Metrics
-  getMetrics: () => api.get<Metrics>('/metrics'),
+  getMetrics: (days?: number) => api.get<Metrics>('/metrics', { params: { days } }),
+  getTaskCycleTimes: (definitionKey?: string) =>
+    api.get<DurationPercentiles[]>('/metrics/task-cycle-times', { params: { definitionKey } }),
   
   // Diagrams
   getDiagramSvg: (procInstId: string) =>
     api.get<string>(`/diagram/${procInstId}`, { headers: { Accept: 'image/svg+xml' } }),
+  getActivityHeatmap: (definitionKey?: string, diagram = false) =>
+    api.get<ActivityHeatmap[]>('/heatmap', { params: { definitionKey, diagram } }),
 }
 
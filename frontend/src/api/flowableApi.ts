@@ -1,4 +1,5 @@
 import axios from 'axios'
+import type { PagedResponse } from './adminApi'
 
 // Generic Flowable API - handles ALL workflow operations
 
@@ -33,6 +34,48 @@ export interface TaskActionResponse {
   taskState: string
 }
 
+export interface TaskPageParams {
+  page?: number
+  size?: number
+  sort?: 'createTime' | 'priority' | 'dueDate'
+  direction?: 'asc' | 'desc'
+  processDefinitionKey?: string
+  taskDefinitionKey?: string
+  cursor?: string
+}
+
+// Matches the backend default app.tasks.max-page (deepest offset page; deeper pages need the cursor)
+const TASK_MAX_PAGE = 1000
+
+type TaskListPath = 'my-tasks' | `candidate-group/${string}` | `candidate-group-or-assigned/${string}`
+
+// Row count for a pager over offset task pages: pages past app.tasks.max-page are rejected by the server
+export const taskPagerCount = (total: number, rowsPerPage: number): number =>
+  Math.min(total, (TASK_MAX_PAGE + 1) * rowsPerPage)
+
+const fetchTaskPage = async (path: TaskListPath, params?: TaskPageParams): Promise<PagedResponse<TaskDto>> => {
+  const response = await axios.get<PagedResponse<TaskDto>>(`/api/flowable/task/${path}`, { params })
+  return response.data
+}
+
+export interface ImportRowError {
+  row: number
+  field: string | null
+  message: string
+}
+
+export interface ImportResult {
+  taskId: string
+  entityType: string
+  sheetId: string | null
+  version: number | null
+  rowsRead: number
+  rowsImported: number
+  errorCount: number
+  committed: boolean
+  errors: ImportRowError[]
+}
+
 export const flowableApi = {
   // ============ RUNTIME (Process Management) ============
   
@@ -69,19 +112,21 @@ export const flowableApi = {
 
   // ============ TASK (Task Management) ============
 
-  getMyTasks: async (): Promise<TaskDto[]> => {
-    const response = await axios.get<TaskDto[]>('/api/flowable/task/my-tasks')
-    return response.data
+  // Task lists are paged server-side: each call returns one page (page + size, or the previous page's cursor)
+  getMyTasks: async (params?: TaskPageParams): Promise<PagedResponse<TaskDto>> => {
+    return fetchTaskPage('my-tasks', params)
   },
 
-  getTasksByCandidateGroup: async (group: string): Promise<TaskDto[]> => {
-    const response = await axios.get<TaskDto[]>(`/api/flowable/task/candidate-group/${group}`)
-    return response.data
+  getTasksByCandidateGroup: async (group: string, params?: TaskPageParams): Promise<PagedResponse<TaskDto>> => {
+    return fetchTaskPage(`candidate-group/${group}`, params)
   },
 
-  getTasksByGroupOrAssigned: async (group: string): Promise<TaskDto[]> => {
-    const response = await axios.get<TaskDto[]>(`/api/flowable/task/candidate-group-or-assigned/${group}`)
-    return response.data
+  getTasksByGroupOrAssigned: async (group: string, params?: TaskPageParams): Promise<PagedResponse<TaskDto>> => {
+    return fetchTaskPage(`candidate-group-or-assigned/${group}`, params)
+  },
+
+  getTaskPage: async (path: TaskListPath, params?: TaskPageParams): Promise<PagedResponse<TaskDto>> => {
+    return fetchTaskPage(path, params)
   },
 
   getTaskVariables: async (taskId: string): Promise<Record<string, unknown>> => {
@@ -94,6 +139,12 @@ export const flowableApi = {
     return response.data
   },
 
+  // Resolves to null when there is nothing left to claim (204)
+  claimNextTask: async (params?: { group?: string; processDefinitionKey?: string; taskDefinitionKey?: string }): Promise<TaskActionResponse | null> => {
+    const response = await axios.post<TaskActionResponse>('/api/flowable/task/claim-next', null, { params })
+    return response.status === 204 ? null : response.data
+  },
+
   completeTask: async (taskId: string, variables?: Record<string, unknown>): Promise<TaskActionResponse> => {
     const response = await axios.post<TaskActionResponse>(
       `/api/flowable/task/complete/${taskId}`,
@@ -102,6 +153,19 @@ export const flowableApi = {
     return response.data
   },
 
+  // Streams the file to the backend as multipart; the rows never go through a task variable.
+  // A 422 response still carries the ImportResult with row-level errors.
+  importCsv: async (taskId: string, file: File, allowPartial = false): Promise<ImportResult> => {
+    const form = new FormData()
+    form.append('file', file)
+    const response = await axios.post<ImportResult>(
+      `/api/flowable/task/${taskId}/import`,
+      form,
+      { params: { allowPartial }, validateStatus: (status) => status === 200 || status === 422 }
+    )
+    return response.data
+  },
+
   assignTask: async (taskId: string, user: string): Promise<TaskActionResponse> => {
     const response = await axios.post<TaskActionResponse>(
       `/api/flowable/task/assign/${taskId}`,
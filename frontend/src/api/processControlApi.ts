@@ -55,6 +55,22 @@ export interface TaskInfo {
   suspended: boolean
 }
 
+export interface BulkTaskOutcome {
+  taskId: string
+  status: 'SUCCESS' | 'SKIPPED' | 'NOT_FOUND' | 'CONFLICT' | 'FAILED'
+  message?: string | null
+}
+
+export interface BulkTaskResult {
+  action: string
+  requested: number
+  succeeded: number
+  failed: number
+  outcomes: BulkTaskOutcome[]
+}
+
+export type BulkTaskAction = 'claim' | 'assign' | 'unclaim' | 'complete' | 'set-priority'
+
 export const processControlApi = {
   // Process Definitions
   getAllDefinitions: async (): Promise<ProcessDefinition[]> => {
@@ -166,6 +182,13 @@ export const processControlApi = {
       headers: { Authorization: `Bearer ${localStorage.getItem('token')}` }
     })
     return response.data
+  },
+
+  bulkTaskAction: async (action: BulkTaskAction, taskIds: string[], options?: { userId?: string; priority?: number; variables?: Record<string, unknown> }): Promise<BulkTaskResult> => {
+    const response = await axios.post<BulkTaskResult>(`/api/admin/tasks/bulk/${action}`, { taskIds, ...options }, {
+      headers: { Authorization: `Bearer ${localStorage.getItem('token')}` }
+    })
+    return response.data
   }
 }
 
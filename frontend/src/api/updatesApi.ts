@@ -0,0 +1,91 @@
+import type { TaskDto } from './flowableApi'
+
+// Server push of task and sheet approval deltas (SSE over fetch, so the bearer token can be sent)
+
+export interface TaskUpdateEvent {
+  action: 'CREATED' | 'UPDATED' | 'REMOVED'
+  taskId: string
+  task: TaskDto | null
+}
+
+export interface SheetUpdateEvent {
+  action: 'APPROVAL_CHANGED'
+  sheetId: string
+}
+
+export interface UpdateHandlers {
+  onTask?: (event: TaskUpdateEvent) => void
+  onSheet?: (event: SheetUpdateEvent) => void
+  // Deltas were dropped (or the stream reconnected): re-fetch lists
+  onResync?: () => void
+}
+
+const RECONNECT_DELAY_MS = 3000
+
+export const subscribeToUpdates = (
+  options: { topics?: Array<'tasks' | 'sheets'>; sheetIds?: string[] },
+  handlers: UpdateHandlers
+): (() => void) => {
+  const controller = new AbortController()
+  const params = new URLSearchParams()
+  options.topics?.forEach((topic) => params.append('topics', topic))
+  options.sheetIds?.forEach((sheetId) => params.append('sheetIds', sheetId))
+
+  const dispatch = (name: string, data: string) => {
+    if (name === 'task') handlers.onTask?.(JSON.parse(data))
+    else if (name === 'sheet') handlers.onSheet?.(JSON.parse(data))
+    else if (name === 'resync') handlers.onResync?.()
+  }
+
+  const connect = async (reconnecting: boolean) => {
+    try {
+      const response = await fetch(`/api/updates/stream?${params}`, {
+        headers: { Authorization: `Bearer ${localStorage.getItem('token')}`, Accept: 'text/event-stream' },
+        signal: controller.signal
+      })
+      if (!response.ok || !response.body) throw new Error(`Update stream failed: ${response.status}`)
+      if (reconnecting) handlers.onResync?.()
+
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+      let buffer = ''
+      for (;;) {
+        const { value, done } = await reader.read()
+        if (done) break
+        buffer += value
+        let boundary
+        while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+          const frame = buffer.slice(0, boundary)
+          buffer = buffer.slice(boundary + 2)
+          let name = 'message'
+          const data: string[] = []
+          for (const line of frame.split('\n')) {
+            if (line.startsWith('event:')) name = line.slice(6).trim()
+            else if (line.startsWith('data:')) data.push(line.slice(5).trimStart())
+          }
+          if (data.length) dispatch(name, data.join('\n'))
+        }
+      }
+    } catch (err) {
+      if (controller.signal.aborted) return
+      console.warn('Update stream disconnected:', err)
+    }
+    if (!controller.signal.aborted) {
+      setTimeout(() => connect(true), RECONNECT_DELAY_MS)
+    }
+  }
+
+  connect(false)
+  return () => controller.abort()
+}
+
+// Apply a task delta to a "my group or assigned to me" list
+export const applyTaskDelta = (tasks: TaskDto[], event: TaskUpdateEvent, username: string | null): TaskDto[] => {
+  const others = tasks.filter((t) => t.id !== event.taskId)
+  const task = event.task
+  if (!task || (task.assignee && task.assignee !== username)) {
+    return others
+  }
+  return tasks.some((t) => t.id === task.id)
+    ? tasks.map((t) => (t.id === task.id ? task : t))
+    : [task, ...others]
+}
@@ -40,6 +40,8 @@ export default function Dashboard() {
       value: t.count,
     })) ?? []
   const avgDur = metrics?.avgDurationByDefinition ?? []
+  const cycleTimes = metrics?.taskCycleTimes ?? []
+  const minutes = (value: number) => Number(value.toFixed(2))
 
   if (loading) {
     return (
@@ -197,6 +199,41 @@ export default function Dashboard() {
           </CardContent>
         </Card>
       </Grid>
+
+      {/* Task Cycle Time Percentiles (Bar) */}
+      <Grid item xs={12}>
+        <Card>
+          <CardContent>
+            <Typography variant="h6" gutterBottom>
+              Task Cycle Time by Stage (min)
+            </Typography>
+            <Box sx={{ width: '100%', overflowX: 'auto' }}>
+              {cycleTimes.length > 0 ? (
+                <BarChart
+                  height={300}
+                  xAxis={[
+                    {
+                      scaleType: 'band',
+                      data: cycleTimes.map((d) => `${d.definitionKey} / ${d.taskDefinitionKey}`),
+                      label: 'Task',
+                    },
+                  ]}
+                  series={[
+                    { data: cycleTimes.map((d) => minutes(d.p50Minutes)), label: 'p50' },
+                    { data: cycleTimes.map((d) => minutes(d.p90Minutes)), label: 'p90' },
+                    { data: cycleTimes.map((d) => minutes(d.p99Minutes)), label: 'p99' },
+                  ]}
+                  margin={{ left: 60, right: 10, top: 20, bottom: 60 }}
+                />
+              ) : (
+                <Typography variant="body2" color="text.secondary" sx={{ py: 5, textAlign: 'center' }}>
+                  No data available
+                </Typography>
+              )}
+            </Box>
+          </CardContent>
+        </Card>
+      </Grid>
     </Grid>
   )
 }
@@ -12,7 +12,7 @@ export default function InstancesPage() {
 
   React.useEffect(() => {
     adminApi
-      .searchInstances({ page, size: pageSize })
+      .searchInstances({ page, size: pageSize, countMode: 'CACHED' })
       .then((res) => {
         setRows(res.data.content)
         setTotal(res.data.total)
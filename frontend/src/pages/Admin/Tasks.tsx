@@ -2,7 +2,7 @@ import React from 'react'
 import { Card, CardContent, Typography, Chip, Button, Snackbar, Alert, Divider, Table, TableBody, TableCell, TableContainer, TableHead, TableRow, Paper, TablePagination } from '@mui/material'
 import { DataGrid, GridColDef, GridRenderCellParams } from '@mui/x-data-grid'
 import { useNavigate } from 'react-router-dom'
-import { flowableApi, TaskDto } from '../../api/flowableApi'
+import { flowableApi, TaskDto, taskPagerCount } from '../../api/flowableApi'
 import { adminApi, Task } from '../../api/adminApi'
 import dayjs from '../../utils/dayjs'
 import PlayArrowIcon from '@mui/icons-material/PlayArrow'
@@ -11,6 +11,7 @@ import LockOpenIcon from '@mui/icons-material/LockOpen'
 export default function TasksPage() {
   // Admin Tasks (claimable/actionable)
   const [adminTasks, setAdminTasks] = React.useState<TaskDto[]>([])
+  const [adminTotal, setAdminTotal] = React.useState(0)
   
   // All Tasks (readonly view)
   const [allTasks, setAllTasks] = React.useState<Task[]>([])
@@ -28,8 +29,9 @@ export default function TasksPage() {
 
   const loadAdminTasks = async () => {
     try {
-      const data = await flowableApi.getTasksByGroupOrAssigned('ADMIN')
-      setAdminTasks(data)
+      const data = await flowableApi.getTasksByGroupOrAssigned('ADMIN', { page: adminTablePage, size: adminTableRowsPerPage })
+      setAdminTasks(data.content)
+      setAdminTotal(data.total)
     } catch (err) {
       setError('Failed to load admin tasks')
       console.error('Load admin tasks error:', err)
@@ -38,7 +40,7 @@ export default function TasksPage() {
 
   const loadAllTasks = async () => {
     try {
-      const res = await adminApi.searchTasks({ page: allPage, size: allPageSize })
+      const res = await adminApi.searchTasks({ page: allPage, size: allPageSize, countMode: 'CACHED' })
       setAllTasks(res.data.content)
       setAllTotal(res.data.total)
     } catch (err) {
@@ -49,6 +51,9 @@ export default function TasksPage() {
 
   React.useEffect(() => {
     loadAdminTasks()
+  }, [adminTablePage, adminTableRowsPerPage])
+
+  React.useEffect(() => {
     loadAllTasks()
   }, [allPage, allPageSize])
 
@@ -196,7 +201,7 @@ export default function TasksPage() {
                 </TableRow>
               </TableHead>
               <TableBody>
-                {adminTasks.slice(adminTablePage * adminTableRowsPerPage, adminTablePage * adminTableRowsPerPage + adminTableRowsPerPage).map((task) => (
+                {adminTasks.map((task) => (
                   <TableRow key={task.id} hover>
                     <TableCell>{task.id}</TableCell>
                     <TableCell>{task.name}</TableCell>
@@ -239,7 +244,7 @@ export default function TasksPage() {
             </Table>
             <TablePagination
               component="div"
-              count={adminTasks.length}
+              count={taskPagerCount(adminTotal, adminTableRowsPerPage)}
               page={adminTablePage}
               onPageChange={(_, newPage) => setAdminTablePage(newPage)}
               rowsPerPage={adminTableRowsPerPage}
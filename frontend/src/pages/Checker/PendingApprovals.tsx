@@ -29,12 +29,14 @@ import CheckCircleIcon from '@mui/icons-material/CheckCircle'
 import CancelIcon from '@mui/icons-material/Cancel'
 import PlayArrowIcon from '@mui/icons-material/PlayArrow'
 import LockOpenIcon from '@mui/icons-material/LockOpen'
-import { flowableApi, TaskDto } from '../../api/flowableApi'
+import { flowableApi, TaskDto, taskPagerCount } from '../../api/flowableApi'
+import { applyTaskDelta, subscribeToUpdates } from '../../api/updatesApi'
 import dayjs from 'dayjs'
 import { getDecisionVariableFromTaskKey, WorkflowDecisionValue } from '../../constants/workflowConstants'
 
 export const PendingApprovals: React.FC = () => {
   const [tasks, setTasks] = useState<TaskDto[]>([])
+  const [total, setTotal] = useState(0)
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState('')
   const [dialogOpen, setDialogOpen] = useState(false)
@@ -45,13 +47,16 @@ export const PendingApprovals: React.FC = () => {
   const [success, setSuccess] = useState(false)
   const [page, setPage] = useState(0)
   const [rowsPerPage, setRowsPerPage] = useState(10)
+  const [reload, setReload] = useState(0)
   const navigate = useNavigate()
 
   const loadTasks = async () => {
     try {
       setLoading(true)
-      const data = await flowableApi.getTasksByGroupOrAssigned('CHECKER')
-      setTasks(data)
+      // One server page per pager page
+      const data = await flowableApi.getTasksByGroupOrAssigned('CHECKER', { page, size: rowsPerPage })
+      setTasks(data.content)
+      setTotal(data.total)
     } catch (err) {
       setError('Failed to load pending tasks')
       console.error('Load tasks error:', err)
@@ -62,6 +67,15 @@ export const PendingApprovals: React.FC = () => {
 
   useEffect(() => {
     loadTasks()
+  }, [page, rowsPerPage, reload])
+
+  // Live task deltas replace re-querying the list
+  useEffect(() => {
+    const username = localStorage.getItem('username')
+    return subscribeToUpdates({ topics: ['tasks'] }, {
+      onTask: (event) => setTasks((current) => applyTaskDelta(current, event, username)),
+      onResync: () => setReload((n) => n + 1)
+    })
   }, [])
 
   const handleOpenDialog = async (task: TaskDto, actionType: 'approve' | 'reject') => {
@@ -253,7 +267,7 @@ export const PendingApprovals: React.FC = () => {
                 </TableRow>
               </TableHead>
               <TableBody>
-                {tasks.slice(page * rowsPerPage, page * rowsPerPage + rowsPerPage).map((task) => (
+                {tasks.slice(0, rowsPerPage).map((task) => (
                   <TableRow key={task.id} hover>
                     <TableCell>{task.name}</TableCell>
                     <TableCell>
@@ -313,7 +327,7 @@ export const PendingApprovals: React.FC = () => {
             </Table>
             <TablePagination
               component="div"
-              count={tasks.length}
+              count={taskPagerCount(total, rowsPerPage)}
               page={page}
               onPageChange={(_, newPage) => setPage(newPage)}
               rowsPerPage={rowsPerPage}
@@ -20,25 +20,30 @@ import {
 } from '@mui/material'
 import { DataGrid, GridColDef, GridRenderCellParams } from '@mui/x-data-grid'
 import { useNavigate } from 'react-router-dom'
-import { flowableApi, TaskDto } from '../../api/flowableApi'
+import { flowableApi, TaskDto, taskPagerCount } from '../../api/flowableApi'
+import { applyTaskDelta, subscribeToUpdates } from '../../api/updatesApi'
 import dayjs from 'dayjs'
 import PlayArrowIcon from '@mui/icons-material/PlayArrow'
 import LockOpenIcon from '@mui/icons-material/LockOpen'
 
 export const MyTasks: React.FC = () => {
   const [tasks, setTasks] = useState<TaskDto[]>([])
+  const [total, setTotal] = useState(0)
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState('')
   const [success, setSuccess] = useState('')
   const [page, setPage] = useState(0)
   const [rowsPerPage, setRowsPerPage] = useState(10)
+  const [reload, setReload] = useState(0)
   const navigate = useNavigate()
 
   const loadTasks = async () => {
     try {
       setLoading(true)
-      const data = await flowableApi.getTasksByGroupOrAssigned('MAKER')
-      setTasks(data)
+      // One server page per pager page
+      const data = await flowableApi.getTasksByGroupOrAssigned('MAKER', { page, size: rowsPerPage })
+      setTasks(data.content)
+      setTotal(data.total)
     } catch (err) {
       setError('Failed to load tasks')
       console.error('Load tasks error:', err)
@@ -49,6 +54,15 @@ export const MyTasks: React.FC = () => {
 
   useEffect(() => {
     loadTasks()
+  }, [page, rowsPerPage, reload])
+
+  // Live task deltas replace re-querying the list
+  useEffect(() => {
+    const username = localStorage.getItem('username')
+    return subscribeToUpdates({ topics: ['tasks'] }, {
+      onTask: (event) => setTasks((current) => applyTaskDelta(current, event, username)),
+      onResync: () => setReload((n) => n + 1)
+    })
   }, [])
 
   const handleClaim = async (taskId: string) => {
@@ -168,7 +182,7 @@ export const MyTasks: React.FC = () => {
                 </TableRow>
               </TableHead>
               <TableBody>
-                {tasks.slice(page * rowsPerPage, page * rowsPerPage + rowsPerPage).map((task) => (
+                {tasks.slice(0, rowsPerPage).map((task) => (
                   <TableRow key={task.id} hover>
                     <TableCell>{task.name}</TableCell>
                     <TableCell>
@@ -209,7 +223,7 @@ export const MyTasks: React.FC = () => {
             </Table>
             <TablePagination
               component="div"
-              count={tasks.length}
+              count={taskPagerCount(total, rowsPerPage)}
               page={page}
               onPageChange={(_, newPage) => setPage(newPage)}
               rowsPerPage={rowsPerPage}